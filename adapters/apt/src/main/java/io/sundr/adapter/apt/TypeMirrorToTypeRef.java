@@ -28,6 +28,7 @@ import io.sundr.adapter.apt.visitors.TypeRefTypeVisitor;
 import io.sundr.model.ClassRef;
 import io.sundr.model.ClassRefBuilder;
 import io.sundr.model.TypeRef;
+import io.sundr.model.TypeRefPool;
 import io.sundr.model.VoidRef;
 
 public class TypeMirrorToTypeRef implements Function<TypeMirror, TypeRef> {
@@ -41,7 +42,7 @@ public class TypeMirrorToTypeRef implements Function<TypeMirror, TypeRef> {
   @Override
   public TypeRef apply(TypeMirror item) {
     if (item instanceof NoType) {
-      return new VoidRef();
+      return TypeRefPool.intern(new VoidRef());
     }
 
     if (item == null) {
@@ -54,8 +55,8 @@ public class TypeMirrorToTypeRef implements Function<TypeMirror, TypeRef> {
       TypeElement typeElement = (TypeElement) element;
       String fqcn = typeElement.toString();
       context.getReferences().add((TypeElement) element);
-      return new ClassRefBuilder((ClassRef) typeRef).withFullyQualifiedName(fqcn).build();
+      return TypeRefPool.intern(new ClassRefBuilder((ClassRef) typeRef).withFullyQualifiedName(fqcn).build());
     }
-    return typeRef;
+    return TypeRefPool.intern(typeRef);
   }
 }
@@ -32,6 +32,7 @@ import io.sundr.model.ClassRefBuilder;
 import io.sundr.model.TypeParamRef;
 import io.sundr.model.TypeParamRefBuilder;
 import io.sundr.model.TypeRef;
+import io.sundr.model.TypeRefPool;
 import io.sundr.model.WildcardRef;
 import io.sundr.model.WildcardRefBuilder;
 
@@ -88,7 +89,7 @@ public class ClassOrInterfaceToTypeRef implements Function<ClassOrInterfaceType,
     }
 
     if (classOrInterfaceType.getParentNode() == classOrInterfaceType) {
-      return new TypeParamRefBuilder().withName(boundName).build();
+      return TypeRefPool.intern(new TypeParamRefBuilder().withName(boundName).build());
     }
 
     String fqcn = boundPackage + "." + boundName;
@@ -101,9 +102,9 @@ public class ClassOrInterfaceToTypeRef implements Function<ClassOrInterfaceType,
     if (classOrInterfaceType.getTypeArgs().isEmpty() && boundName.length() == 1) {
       // We are doing our best here to distinguish between class refs and type
       // parameter refs.
-      return new TypeParamRefBuilder().withName(boundName).build();
+      return TypeRefPool.intern(new TypeParamRefBuilder().withName(boundName).build());
     } else {
-      return new ClassRefBuilder().withFullyQualifiedName(fqcn).withArguments(arguments).build();
+      return TypeRefPool.intern(new ClassRefBuilder().withFullyQualifiedName(fqcn).withArguments(arguments).build());
     }
   }
 }
@@ -54,6 +54,8 @@ public class Constants {
 
   public static final AttributeKey<Set<Property>> DESCENDANTS = new AttributeKey<Set<Property>>("DESCENDANTS", Set.class);
 
+  public static final AttributeKey<Integer> VISITABLE_SLOT = new AttributeKey<Integer>("VISITABLE_SLOT", Integer.class);
+
   public static final AttributeKey<Set<TypeDef>> ADDITIONAL_BUILDABLES = new AttributeKey<Set<TypeDef>>("ADDITIONAL_BUILDERS",
       Set.class);
   public static final AttributeKey<Set<TypeDef>> ADDITIONAL_TYPES = new AttributeKey<Set<TypeDef>>("ADDITIONAL_TYPES",
@@ -66,6 +68,26 @@ public class Constants {
   public static final AttributeKey<Boolean> LAZY_MAP_INIT_ENABLED = new AttributeKey<Boolean>("LAZY_MAPS_INIT_ENABLED",
       Boolean.class);
 
+  public static final AttributeKey<Boolean> DIRECT_ACCEPT_ENABLED = new AttributeKey<Boolean>("DIRECT_ACCEPT_ENABLED",
+      Boolean.class);
+
+  public static final AttributeKey<Boolean> COPY_ON_ACCESS_ENABLED = new AttributeKey<Boolean>("COPY_ON_ACCESS_ENABLED",
+      Boolean.class);
+
+  public static final AttributeKey<Boolean> MEMOIZED_BUILD_ENABLED = new AttributeKey<Boolean>("MEMOIZED_BUILD_ENABLED",
+      Boolean.class);
+
+  public static final AttributeKey<Boolean> UNMODIFIABLE_COLLECTIONS_ENABLED = new AttributeKey<Boolean>(
+      "UNMODIFIABLE_COLLECTIONS_ENABLED", Boolean.class);
+
+  public static final AttributeKey<Boolean> PRIMITIVE_API_ENABLED = new AttributeKey<Boolean>("PRIMITIVE_API_ENABLED",
+      Boolean.class);
+
+  public static final AttributeKey<Boolean> SPARSE_FIELDS_ENABLED = new AttributeKey<Boolean>("SPARSE_FIELDS_ENABLED",
+      Boolean.class);
+
+  public static final AttributeKey<String> KEY_PROPERTY = new AttributeKey<String>("KEY_PROPERTY", String.class);
+
   public static final AttributeKey<Boolean> EDITABLE_ENABLED = new AttributeKey<Boolean>("EDITABLE_ENABLED", Boolean.class);
   public static final AttributeKey<Boolean> BUILDABLE_ENABLED = new AttributeKey<Boolean>("BUILDABLE_ENABLED", Boolean.class);
 
@@ -99,6 +121,9 @@ public class Constants {
   public static final Property INDEX = new PropertyBuilder().withName("index").withTypeRef(io.sundr.model.utils.Types.INT_REF)
       .build();
 
+  public static final Property PRIMITIVE_INDEX = new PropertyBuilder().withName("index")
+      .withTypeRef(io.sundr.model.utils.Types.PRIMITIVE_INT_REF).build();
+
   public static final TypeDef FUNCTION = new TypeDefBuilder().withKind(Kind.INTERFACE).withPackageName("java.util.function")
       .withName("Function").withParameters(io.sundr.model.utils.Types.I, io.sundr.model.utils.Types.O)
       .addNewMethod()
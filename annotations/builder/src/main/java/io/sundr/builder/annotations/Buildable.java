@@ -50,6 +50,87 @@ public @interface Buildable {
 
   boolean lazyMapInitEnabled() default true;
 
+  /**
+   * Visit the nested builders directly through the fields of the generated fluents.
+   *
+   * By default the generated fluents keep their nested builders in a map, which is used by the visitors to traverse the
+   * builder tree. When enabled, the fluents don't maintain that map and visit their fields directly instead.
+   *
+   * @return true if the fields should be visited directly, false otherwise.
+   */
+  boolean directAcceptEnabled() default false;
+
+  /**
+   * Create the nested builders of a builder only when they are accessed.
+   *
+   * By default a builder that is created from an instance converts all nested objects to nested builders right away.
+   * When enabled, the nested objects are kept as is until the property that holds them is accessed through the builder
+   * (or visited). Properties that are never accessed are passed to the built object by reference.
+   * This also applies to the lists and sets passed to the with methods of these properties: they are not copied, so
+   * changing them before the property is accessed changes what gets built. The getters return them as is, too.
+   *
+   * @return true if the nested builders should be created on access, false otherwise.
+   */
+  boolean copyOnAccessEnabled() default false;
+
+  /**
+   * Memoize the objects built by the builder.
+   *
+   * By default each call to build() creates the whole object graph from scratch. When enabled, the builder keeps track
+   * of the changes made to it and its nested builders since the last build, and only rebuilds the objects along the path
+   * from a changed builder to the root. Unchanged nested objects are reused, and building an unchanged builder returns
+   * the previously built object (or the editable object it was created from). Changes need to go through the builder,
+   * for example changes made to a map returned by a getter are not tracked.
+   *
+   * @return true if the built objects should be memoized, false otherwise.
+   */
+  boolean memoizedBuildEnabled() default false;
+
+  /**
+   * Build collections that can't be modified.
+   *
+   * By default the lists and sets of the built objects are plain mutable collections, and the ones that don't hold
+   * buildable objects are shared with the builder. When enabled, the built lists and sets are unmodifiable and are not
+   * shared with the builder, so that they can be safely shared.
+   *
+   * @return true if the built collections should be unmodifiable, false otherwise.
+   */
+  boolean unmodifiableCollectionsEnabled() default false;
+
+  /**
+   * Use primitive types for indexes, flags and has methods.
+   *
+   * By default the generated indexes (e.g. addToX(Integer index, ...)), has methods and the validation flag of the builders
+   * use boxed types. When enabled, they use int and boolean, so that calling them doesn't box.
+   *
+   * @return true if the generated API should use primitive types, false otherwise.
+   */
+  boolean primitiveApiEnabled() default false;
+
+  /**
+   * Store the plain properties of the fluents in a sparse structure.
+   *
+   * By default each property of a fluent has its own field. When enabled, the properties that are neither primitives,
+   * collections, maps, optionals nor nested builders share a bitset and an array that only has room for the ones that
+   * are set. Collections and maps keep following lazyCollectionInitEnabled and lazyMapInitEnabled. This is meant
+   * for wide types with mostly unset properties and doesn't change the fluent API.
+   *
+   * @return true if the fluents should use sparse storage, false otherwise.
+   */
+  boolean sparseFieldsEnabled() default false;
+
+  /**
+   * The property that identifies instances of the annotated type inside lists.
+   *
+   * Fluents that hold lists of such instances keep an index of the list by key, that is used by the generated
+   * editXByKey, buildXByKey, hasXByKey and removeFromXsByKey methods, where Key is the capitalized name of the key
+   * property. Lookups by key take constant time once the index is built. Removing by key does not: the list still
+   * shifts the elements that follow, and the index is dropped and rebuilt by the next lookup, so both take linear time.
+   *
+   * @return the name of the key property, or an empty string if there is none.
+   */
+  String keyProperty() default "";
+
   boolean generateBuilderPackage() default false;
 
   String builderPackage() default Constants.DEFAULT_BUILDER_PACKAGE;
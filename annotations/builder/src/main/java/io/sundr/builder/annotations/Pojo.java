@@ -47,6 +47,14 @@ public @interface Pojo {
    */
   boolean mutable() default false;
 
+  /**
+   * Indicates that the generated pojo will compute its hash code once and cache it.
+   * Only applies to pojos that are not mutable.
+   * 
+   * @return true if the hash code should be cached, false otherwise.
+   */
+  boolean cacheHashCode() default false;
+
   /**
    * The class name of the generated Pojo.
    * 
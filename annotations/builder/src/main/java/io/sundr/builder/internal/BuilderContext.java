@@ -16,7 +16,9 @@
 
 package io.sundr.builder.internal;
 
+import static io.sundr.builder.Constants.FUNCTION;
 import static io.sundr.builder.Constants.INLINEABLE;
+import static io.sundr.builder.Constants.PREDICATE;
 import static io.sundr.model.utils.Collections.COLLECTION;
 import static io.sundr.model.utils.Collections.SET;
 import static io.sundr.model.utils.Types.BOOLEAN_REF;
@@ -25,15 +27,23 @@ import static io.sundr.model.utils.Types.CLASS_REF_NO_ARG;
 import static io.sundr.model.utils.Types.OPTIONAL;
 import static io.sundr.model.utils.Types.PRIMITIVE_BOOLEAN_REF;
 import static io.sundr.model.utils.Types.PRIMITIVE_INT_REF;
+import static io.sundr.model.utils.Types.PRIMITIVE_LONG_REF;
 import static io.sundr.model.utils.Types.STRING_REF;
 import static io.sundr.model.utils.Types.TYPE;
 import static io.sundr.model.utils.Types.newTypeParamRef;
 
 import java.lang.reflect.Method;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 
 import javax.lang.model.util.Elements;
@@ -46,6 +56,7 @@ import io.sundr.model.Attributeable;
 import io.sundr.model.ClassRef;
 import io.sundr.model.ClassRefBuilder;
 import io.sundr.model.Kind;
+import io.sundr.model.PrimitiveRefBuilder;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeParamDef;
@@ -71,15 +82,22 @@ public class BuilderContext {
   private final TypeDef typedVisitorInterface;
   private final TypeDef pathAwareVisitorClass;
   private final TypeDef visitorListenerInterface;
+  private final TypeDef activeVisitorListenersClass;
   private final TypeDef visitorWiretapClass;
+  private final TypeDef stoppableVisitorClass;
   private final TypeDef delegatingVisitorClass;
+  private final TypeDef visitorPathClass;
+  private final TypeDef traversalClass;
+  private final TypeDef stopTraversalClass;
   private final TypeDef fluentInterface;
   private final TypeDef builderInterface;
   private final TypeDef nestedInterface;
   private final TypeDef editableInterface;
+  private final TypeDef builderIndexInterface;
   private final TypeDef visitableInterface;
   private final TypeDef visitableBuilderInterface;
   private final TypeDef visitableMapClass;
+  private final TypeDef sparseValuesClass;
   private final TypeDef inlineableBase;
   private final TypeDef validationUtils;
   private final TypeDef baseFluentClass;
@@ -126,6 +144,10 @@ public class BuilderContext {
         .withParameters(T)
         .build();
 
+    TypeDef biConsumerInterface = new TypeDefBuilder(TypeDef.forName(BiConsumer.class.getName()))
+        .withParameters(T, V)
+        .build();
+
     TypeDef functionalInterfaceType = TypeDef.forName(FunctionalInterface.class.getName());
 
     builderInterface = new TypeDefBuilder()
@@ -154,6 +176,35 @@ public class BuilderContext {
         .withNewModifiers().withPrivate().endModifiers()
         .endConstructor()
 
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withName("TYPE_ARGUMENTS")
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(ClassValue.class.getName())
+            .withArguments(Collections.MAP.toReference(CLASS_REF_NO_ARG, Collections.LIST.toReference(CLASS_REF_NO_ARG)))
+            .build())
+        .addToAttributes(Attributeable.INIT, "new ClassValue<Map<Class, List<Class>>>() {\n"
+            + "    @Override\n"
+            + "    protected Map<Class, List<Class>> computeValue(Class<?> type) {\n"
+            + "      return new ConcurrentHashMap<>();\n"
+            + "    }\n"
+            + "  }")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withName("CAN_REACH")
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(ClassValue.class.getName())
+            .withArguments(Collections.MAP.toReference(STRING_REF,
+                Collections.MAP.toReference(CLASS_REF_NO_ARG, BOOLEAN_REF)))
+            .build())
+        .addToAttributes(Attributeable.INIT, "new ClassValue<Map<String, Map<Class, Boolean>>>() {\n"
+            + "    @Override\n"
+            + "    protected Map<String, Map<Class, Boolean>> computeValue(Class<?> type) {\n"
+            + "      return new ConcurrentHashMap<>();\n"
+            + "    }\n"
+            + "  }")
+        .endProperty()
+
         .addNewMethod()
         .withName("newVisitor")
         .withParameters(T)
@@ -185,6 +236,20 @@ public class BuilderContext {
         .endArgument()
         .endMethod()
 
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("resolveTypeArguments")
+        .withReturnType(Collections.LIST.toReference(CLASS_REF_NO_ARG))
+        .addNewArgument()
+        .withTypeRef(CLASS_REF_NO_ARG)
+        .withName("baseClass")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(CLASS_REF_NO_ARG)
+        .withName("childClass")
+        .endArgument()
+        .endMethod()
+
         // getRawName
         .addNewMethod()
         .withNewModifiers().withPrivate().withStatic().endModifiers()
@@ -223,11 +288,144 @@ public class BuilderContext {
         .endArgument()
         .withVarArgPreferred(true)
         .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("canReach")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withName("fluentType")
+        .withTypeRef(CLASS.toReference(new WildcardRef()))
+        .endArgument()
+        .addNewArgument()
+        .withName("key")
+        .withTypeRef(STRING_REF)
+        .endArgument()
+        .addNewArgument()
+        .withName("type")
+        .withTypeRef(CLASS.toReference(new WildcardRef()))
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("canReach")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withName("reachable")
+        .withTypeRef(OPTIONAL.toReference(SET.toReference(CLASS_REF_NO_ARG)))
+        .endArgument()
+        .addNewArgument()
+        .withName("type")
+        .withTypeRef(CLASS.toReference(new WildcardRef()))
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("findReachable")
+        .withReturnType(OPTIONAL.toReference(SET.toReference(CLASS_REF_NO_ARG)))
+        .addNewArgument()
+        .withName("fluentType")
+        .withTypeRef(CLASS.toReference(new WildcardRef()))
+        .endArgument()
+        .addNewArgument()
+        .withName("key")
+        .withTypeRef(STRING_REF)
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("collectReachable")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withName("type")
+        .withTypeRef(CLASS_REF_NO_ARG)
+        .endArgument()
+        .addNewArgument()
+        .withName("reachable")
+        .withTypeRef(SET.toReference(CLASS_REF_NO_ARG))
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("getElementClass")
+        .withReturnType(CLASS_REF_NO_ARG)
+        .addNewArgument()
+        .withName("type")
+        .withTypeRef(TYPE.toInternalReference())
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("getErasure")
+        .withReturnType(CLASS_REF_NO_ARG)
+        .addNewArgument()
+        .withName("type")
+        .withTypeRef(TYPE.toInternalReference())
+        .endArgument()
+        .endMethod()
         .accept(new ReplacePackage("io.sundr.builder", builderPackage))
         .accept(new ApplyMethodBlockFromResources("Visitors", "io/sundr/builder/Visitors.java", true))
         .accept(new ApplyImportsFromResources("io/sundr/builder/Visitors.java"))
         .build();
 
+    ClassRef traversalSelfRef = ClassRef.forName(builderPackage + ".Traversal");
+    traversalClass = new TypeDefBuilder()
+        .withNewModifiers().withPublic().endModifiers()
+        .withKind(Kind.ENUM)
+        .withPackageName("io.sundr.builder")
+        .withName("Traversal")
+
+        .addNewProperty()
+        .withNewModifiers().withPublic().withStatic().withFinal().endModifiers()
+        .withTypeRef(traversalSelfRef)
+        .withName("CONTINUE")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPublic().withStatic().withFinal().endModifiers()
+        .withTypeRef(traversalSelfRef)
+        .withName("SKIP_SUBTREE")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPublic().withStatic().withFinal().endModifiers()
+        .withTypeRef(traversalSelfRef)
+        .withName("STOP")
+        .endProperty()
+
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .accept(new ApplyImportsFromResources("io/sundr/builder/Traversal.java"))
+        .build();
+
+    ClassRef stopTraversalSelfRef = ClassRef.forName(builderPackage + ".StopTraversal");
+    stopTraversalClass = new TypeDefBuilder()
+        .withNewModifiers().withPublic().withFinal().endModifiers()
+        .withKind(Kind.CLASS)
+        .withPackageName("io.sundr.builder")
+        .withName("StopTraversal")
+        .withExtendsList(ClassRef.forName(RuntimeException.class.getName()))
+
+        .addNewProperty()
+        .withNewModifiers().withStatic().withFinal().endModifiers()
+        .withTypeRef(stopTraversalSelfRef)
+        .withName("INSTANCE")
+        .addToAttributes(Attributeable.INIT, "new StopTraversal()")
+        .endProperty()
+
+        .addNewConstructor()
+        .withNewModifiers().withPrivate().endModifiers()
+        .endConstructor()
+
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .accept(new ApplyMethodBlockFromResources("StopTraversal", "io/sundr/builder/StopTraversal.java"))
+        .accept(new ApplyImportsFromResources("io/sundr/builder/StopTraversal.java"))
+        .build();
+
     visitorInterface = new TypeDefBuilder()
         .withNewModifiers().withPublic().endModifiers()
         .addNewAnnotation()
@@ -277,6 +475,20 @@ public class BuilderContext {
         .withReturnType(new VoidRef())
         .endMethod()
 
+        .addNewMethod()
+        .withDefaultMethod(true)
+        .withName("traverse")
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withName("element")
+        .withTypeRef(T.toReference())
+        .endArgument()
+        .withReturnType(traversalClass.toReference())
+        .endMethod()
+
         .addNewMethod()
         .withDefaultMethod(true)
         .withNewModifiers().withPublic().endModifiers()
@@ -470,7 +682,7 @@ public class BuilderContext {
         .withName("listeners")
         .withNewModifiers().withStatic().endModifiers()
         .withTypeRef(SET.toReference(visitorListenerSelfRef))
-        .addToAttributes(Attributeable.INIT, "new HashSet<>()")
+        .addToAttributes(Attributeable.INIT, "new CopyOnWriteArraySet<>()")
         .endProperty()
 
         .addNewMethod()
@@ -577,6 +789,53 @@ public class BuilderContext {
         .accept(new ApplyImportsFromResources("io/sundr/builder/VisitorListener.java"))
         .build();
 
+    ClassRef visitorListenerArrayRef = new ClassRefBuilder(visitorListenerSelfRef).withDimensions(1).build();
+    activeVisitorListenersClass = new TypeDefBuilder()
+        .withNewModifiers().withFinal().endModifiers()
+        .withKind(Kind.CLASS)
+        .withPackageName("io.sundr.builder")
+        .withName("ActiveVisitorListeners")
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withTypeRef(visitorListenerArrayRef)
+        .withName("NONE")
+        .addToAttributes(Attributeable.INIT, "new VisitorListener[0]")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(AtomicReference.class.getName())
+            .withArguments(visitorListenerArrayRef).build())
+        .withName("CURRENT")
+        .addToAttributes(Attributeable.INIT, "new AtomicReference<>(NONE)")
+        .endProperty()
+
+        .addNewConstructor()
+        .withNewModifiers().withPrivate().endModifiers()
+        .endConstructor()
+
+        .addNewMethod()
+        .withNewModifiers().withStatic().endModifiers()
+        .withName("get")
+        .withReturnType(visitorListenerArrayRef)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withStatic().endModifiers()
+        .withName("set")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(SET.toReference(visitorListenerSelfRef))
+        .withName("listeners")
+        .endArgument()
+        .endMethod()
+
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .accept(new ApplyMethodBlockFromResources("ActiveVisitorListeners", "io/sundr/builder/ActiveVisitorListeners.java"))
+        .accept(new ApplyImportsFromResources("io/sundr/builder/ActiveVisitorListeners.java"))
+        .build();
+
     visitorWiretapClass = new TypeDefBuilder()
 
         .withNewModifiers().withPublic().withFinal().endModifiers()
@@ -589,7 +848,7 @@ public class BuilderContext {
 
         .addNewProperty()
         .withNewModifiers().withPrivate().withFinal().endModifiers()
-        .withTypeRef(COLLECTION.toReference(visitorListenerInterface.toReference()))
+        .withTypeRef(new ClassRefBuilder(visitorListenerInterface.toReference()).withDimensions(1).build())
         .withName("listeners")
         .endProperty()
 
@@ -608,9 +867,10 @@ public class BuilderContext {
         .endArgument()
 
         .addNewArgument()
-        .withTypeRef(COLLECTION.toReference(visitorListenerInterface.toReference()))
+        .withTypeRef(new ClassRefBuilder(visitorListenerInterface.toReference()).withDimensions(1).build())
         .withName("listeners")
         .endArgument()
+        .withVarArgPreferred(true)
 
         .endConstructor()
 
@@ -631,6 +891,24 @@ public class BuilderContext {
         .endArgument()
         .endMethod()
 
+        .addNewMethod()
+        .withParameters(T)
+
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("create")
+        .withReturnType(new ClassRefBuilder().withFullyQualifiedName(builderPackage + ".VisitorWiretap")
+            .withArguments(T.toReference()).build())
+        .addNewArgument()
+        .withTypeRef(visitorInterface.toReference(T.toReference()))
+        .withName("visitor")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(new ClassRefBuilder(visitorListenerInterface.toReference()).withDimensions(1).build())
+        .withName("listeners")
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
         .withName("getType")
@@ -669,6 +947,20 @@ public class BuilderContext {
         .withReturnType(new VoidRef())
         .endMethod()
 
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("traverse")
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withName("target")
+        .withTypeRef(T.toReference())
+        .endArgument()
+        .withReturnType(traversalClass.toReference())
+        .endMethod()
+
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
         .withParameters(F)
@@ -689,54 +981,88 @@ public class BuilderContext {
         .accept(new ApplyImportsFromResources("io/sundr/builder/VisitorWiretap.java"))
         .build();
 
-    delegatingVisitorClass = new TypeDefBuilder()
-
-        .withNewModifiers().withPublic().endModifiers()
-
+    ClassRef rawVisitorArrayRef = new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName())
+        .withDimensions(1).build();
+    stoppableVisitorClass = new TypeDefBuilder()
+        .withNewModifiers().withFinal().endModifiers()
         .withKind(Kind.CLASS)
         .withPackageName("io.sundr.builder")
-        .withName("DelegatingVisitor")
+        .withName("StoppableVisitor")
         .withParameters(T)
         .addToImplementsList(visitorInterface.toReference(T.toReference()))
 
         .addNewProperty()
         .withNewModifiers().withPrivate().withFinal().endModifiers()
-        .withTypeRef(CLASS.toReference(T.toReference()))
-        .withName("type")
+        .withTypeRef(visitorInterface.toReference(T.toReference()))
+        .withName("delegate")
         .endProperty()
 
         .addNewProperty()
         .withNewModifiers().withPrivate().withFinal().endModifiers()
-        .withTypeRef(visitorInterface.toReference(T.toReference()))
-        .withName("delegate")
+        .withTypeRef(ClassRef.forName(AtomicInteger.class.getName()))
+        .withName("running")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(PRIMITIVE_BOOLEAN_REF)
+        .withName("stopped")
         .endProperty()
 
         .addNewConstructor()
-        .addNewArgument()
-        .withTypeRef(CLASS.toReference(T.toReference()))
-        .withName("type")
-        .endArgument()
+        .withNewModifiers().withPrivate().endModifiers()
         .addNewArgument()
         .withTypeRef(visitorInterface.toReference(T.toReference()))
         .withName("delegate")
         .endArgument()
+        .addNewArgument()
+        .withTypeRef(ClassRef.forName(AtomicInteger.class.getName()))
+        .withName("running")
+        .endArgument()
         .endConstructor()
 
+        .addNewMethod()
+        .withNewModifiers().withStatic().endModifiers()
+        .withName("wrap")
+        .withReturnType(rawVisitorArrayRef)
+        .addNewArgument()
+        .withTypeRef(rawVisitorArrayRef)
+        .withName("visitors")
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withStatic().endModifiers()
+        .withName("isStopped")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).build())
+        .withName("visitor")
+        .endArgument()
+        .endMethod()
+
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
-        .withName("getType")
-        .withReturnType(CLASS.toReference(T.toReference()))
+        .withName("getRequirement")
+        .withNewClassRefReturnTypeLike(ClassRef.forName(Predicate.class.getName()))
+        .withArguments(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endClassRefReturnType()
         .endMethod()
 
-        //visit
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
-        .withName("visit")
+        .withParameters(F)
+        .withName("canVisit")
+        .withReturnType(BOOLEAN_REF)
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
         .addNewArgument()
         .withName("target")
-        .withTypeRef(T.toReference())
+        .withTypeRef(F.toReference())
         .endArgument()
-        .withReturnType(new VoidRef())
         .endMethod()
 
         .addNewMethod()
@@ -745,15 +1071,10 @@ public class BuilderContext {
         .withReturnType(PRIMITIVE_INT_REF)
         .endMethod()
 
-        //default void visit(List<Entry<Stirng, Object>> path, T element) {
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
         .withName("visit")
         .addNewArgument()
-        .withName("path")
-        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
-        .endArgument()
-        .addNewArgument()
         .withName("target")
         .withTypeRef(T.toReference())
         .endArgument()
@@ -761,7 +1082,137 @@ public class BuilderContext {
         .endMethod()
 
         .addNewMethod()
-        .withParameters(F)
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("visit")
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withName("target")
+        .withTypeRef(T.toReference())
+        .endArgument()
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("traverse")
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withName("target")
+        .withTypeRef(T.toReference())
+        .endArgument()
+        .withReturnType(traversalClass.toReference())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("getType")
+        .withReturnType(CLASS.toReference(T.toReference()))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("toString")
+        .withReturnType(STRING_REF)
+        .endMethod()
+
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .accept(new ApplyMethodBlockFromResources("StoppableVisitor", "io/sundr/builder/StoppableVisitor.java"))
+        .accept(new ApplyImportsFromResources("io/sundr/builder/StoppableVisitor.java"))
+        .build();
+
+    delegatingVisitorClass = new TypeDefBuilder()
+
+        .withNewModifiers().withPublic().endModifiers()
+
+        .withKind(Kind.CLASS)
+        .withPackageName("io.sundr.builder")
+        .withName("DelegatingVisitor")
+        .withParameters(T)
+        .addToImplementsList(visitorInterface.toReference(T.toReference()))
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(CLASS.toReference(T.toReference()))
+        .withName("type")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(visitorInterface.toReference(T.toReference()))
+        .withName("delegate")
+        .endProperty()
+
+        .addNewConstructor()
+        .addNewArgument()
+        .withTypeRef(CLASS.toReference(T.toReference()))
+        .withName("type")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitorInterface.toReference(T.toReference()))
+        .withName("delegate")
+        .endArgument()
+        .endConstructor()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("getType")
+        .withReturnType(CLASS.toReference(T.toReference()))
+        .endMethod()
+
+        //visit
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("visit")
+        .addNewArgument()
+        .withName("target")
+        .withTypeRef(T.toReference())
+        .endArgument()
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("order")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .endMethod()
+
+        //default void visit(List<Entry<Stirng, Object>> path, T element) {
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("visit")
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withName("target")
+        .withTypeRef(T.toReference())
+        .endArgument()
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("traverse")
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withName("target")
+        .withTypeRef(T.toReference())
+        .endArgument()
+        .withReturnType(traversalClass.toReference())
+        .endMethod()
+
+        .addNewMethod()
+        .withParameters(F)
         .withNewModifiers().withPublic().endModifiers()
         .withParameters(F)
         .withName("getRequirement")
@@ -775,6 +1226,112 @@ public class BuilderContext {
         .accept(new ApplyImportsFromResources("io/sundr/builder/DelegatingVisitor.java"))
         .build();
 
+    ClassRef pathEntryRef = Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF);
+    ClassRef visitorPathSelfRef = ClassRef.forName(builderPackage + ".VisitorPath");
+    visitorPathClass = new TypeDefBuilder()
+        .withNewModifiers().withPublic().withFinal().endModifiers()
+        .withKind(Kind.CLASS)
+        .withPackageName("io.sundr.builder")
+        .withName("VisitorPath")
+        .withExtendsList(new ClassRefBuilder().withFullyQualifiedName(AbstractList.class.getName())
+            .withArguments(pathEntryRef).build())
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withTypeRef(visitorPathSelfRef)
+        .withName("EMPTY")
+        .addToAttributes(Attributeable.INIT, "new VisitorPath(Collections.emptyList(), null, null, 0)")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(Collections.LIST.toReference(pathEntryRef))
+        .withName("parent")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(pathEntryRef)
+        .withName("last")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("size")
+        .endProperty()
+
+        .addNewConstructor()
+        .withNewModifiers().withPrivate().endModifiers()
+        .addNewArgument()
+        .withTypeRef(Collections.LIST.toReference(pathEntryRef))
+        .withName("parent")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("value")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("size")
+        .endArgument()
+        .endConstructor()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("of")
+        .withReturnType(visitorPathSelfRef)
+        .addNewArgument()
+        .withTypeRef(Collections.LIST.toReference(pathEntryRef))
+        .withName("path")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("push")
+        .withReturnType(visitorPathSelfRef)
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("value")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("get")
+        .withReturnType(pathEntryRef)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("size")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("iterator")
+        .withReturnType(Collections.ITERATOR.toReference(pathEntryRef))
+        .endMethod()
+
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .accept(new ApplyMethodBlockFromResources("VisitorPath", "io/sundr/builder/VisitorPath.java"))
+        .accept(new ApplyImportsFromResources("io/sundr/builder/VisitorPath.java"))
+        .build();
+
     visitableInterface = new TypeDefBuilder()
 
         .withNewModifiers().withPublic().endModifiers()
@@ -914,6 +1471,25 @@ public class BuilderContext {
         .accept(new ReplacePackage("io.sundr.builder", builderPackage))
         .build();
 
+    ClassRef builderFactoryRef = FUNCTION.toReference(TypeDef.OBJECT_REF,
+        visitableBuilderInterface.toReference(new WildcardRef(), new WildcardRef()));
+
+    builderIndexInterface = new TypeDefBuilder()
+        .withNewModifiers().withPublic().endModifiers()
+        .withKind(Kind.INTERFACE)
+        .withPackageName("io.sundr.builder")
+        .withName("BuilderIndex")
+        .addNewMethod()
+        .withName("builderFactoryOf")
+        .withReturnType(builderFactoryRef)
+        .addNewArgument()
+        .withName("type")
+        .withTypeRef(CLASS.toReference(new WildcardRef()))
+        .endArgument()
+        .endMethod()
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .build();
+
     inlineableBase = new TypeDefBuilder()
         .withNewModifiers().withPublic().endModifiers()
         .addNewAnnotation()
@@ -930,19 +1506,55 @@ public class BuilderContext {
         .accept(new ReplacePackage("io.sundr.builder", builderPackage))
         .build();
 
-    visitableMapClass = new TypeDefBuilder()
+    ClassRef rawVisitableRef = new ClassRefBuilder().withFullyQualifiedName(visitableInterface.getFullyQualifiedName())
+        .build();
+    ClassRef visitablesRef = Collections.LIST.toReference(rawVisitableRef);
+    ClassRef visitablesMappingRef = new ClassRefBuilder().withFullyQualifiedName(BiFunction.class.getName())
+        .withArguments(new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(STRING_REF).build(),
+            new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(visitablesRef).build(),
+            new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(visitablesRef).build())
+        .build();
+
+    //The methods are added in two steps, a single chain is too deep for javac
+    TypeDefBuilder visitableMapBuilder = new TypeDefBuilder()
         .withNewModifiers().withPublic().endModifiers()
         .withKind(Kind.CLASS)
         .withPackageName("io.sundr.builder")
         .withName("VisitableMap")
-        .withExtendsList(Collections.HASH_MAP.toReference(STRING_REF,
-            Collections.LIST.toReference(visitableInterface.toReference())))
-        .withImplementsList(Collections.ITERABLE.toReference(visitableInterface.toReference()))
+        .withExtendsList(Collections.HASH_MAP.toReference(STRING_REF, visitablesRef))
+        .withImplementsList(Collections.ITERABLE.toReference(rawVisitableRef))
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withTypeRef(new ClassRefBuilder(TypeDef.OBJECT_REF).withDimensions(1).build())
+        .withName("EMPTY")
+        .addToAttributes(Attributeable.INIT, "new Object[0]")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("NULL_KEY")
+        .addToAttributes(Attributeable.INIT, "new Object()")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(new ClassRefBuilder(TypeDef.OBJECT_REF).withDimensions(1).build())
+        .withName("slots")
+        .addToAttributes(Attributeable.INIT, "EMPTY")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("size")
+        .endProperty()
 
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
         .withName("get")
-        .withReturnType(Collections.LIST.toReference(visitableInterface.toReference()))
+        .withReturnType(visitablesRef)
         .addNewArgument()
         .withTypeRef(TypeDef.OBJECT_REF)
         .withName("key")
@@ -951,39 +1563,592 @@ public class BuilderContext {
 
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
-        .withName("aggregate")
-        .withReturnType(Collections.LIST.toReference(visitableInterface.toReference()))
-        .endMethod()
-
-        .addNewMethod()
-        .withNewModifiers().withPublic().endModifiers()
-        .withName("iterator")
-        .withReturnType(Collections.ITERATOR.toReference(visitableInterface.toReference()))
+        .withName("get")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("additional")
+        .endArgument()
         .endMethod()
 
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
-        .withName("forEach")
-        .withReturnType(new VoidRef())
+        .withName("get")
+        .withReturnType(visitablesRef)
         .addNewArgument()
-        .withName("action")
-        .withTypeRef(consumerInterface.toReference(
-            new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(visitableInterface.toReference()).build()))
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
         .endArgument()
         .endMethod()
 
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
-        .withName("spliterator")
-        .withReturnType(TypeDef.forName(Spliterator.class.getName()).toReference(visitableInterface.toReference()))
-        .endMethod()
-
-        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .withName("get")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("additional")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("peek")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("put")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesRef)
+        .withName("value")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("remove")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("key")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("getOrDefault")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesRef)
+        .withName("defaultValue")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("putIfAbsent")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesRef)
+        .withName("value")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("remove")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("value")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("replace")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesRef)
+        .withName("value")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("replace")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesRef)
+        .withName("oldValue")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesRef)
+        .withName("newValue")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("replaceAll")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(visitablesMappingRef)
+        .withName("function")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("computeIfAbsent")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(Function.class.getName())
+            .withArguments(new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(STRING_REF).build(),
+                new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(visitablesRef).build())
+            .build())
+        .withName("mappingFunction")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("computeIfPresent")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesMappingRef)
+        .withName("remappingFunction")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("compute")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesMappingRef)
+        .withName("remappingFunction")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("merge")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesRef)
+        .withName("value")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(BiFunction.class.getName())
+            .withArguments(new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(visitablesRef).build(),
+                new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(visitablesRef).build(),
+                new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(visitablesRef).build())
+            .build())
+        .withName("remappingFunction")
+        .endArgument()
+        .endMethod();
+
+    visitableMapClass = visitableMapBuilder
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("putAll")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(Collections.MAP.toReference(
+            new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(STRING_REF).build(),
+            new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(visitablesRef).build()))
+        .withName("map")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("clear")
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("size")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("isEmpty")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("containsKey")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("key")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("containsValue")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("value")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("forEach")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withName("action")
+        .withTypeRef(biConsumerInterface.toReference(
+            new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(STRING_REF).build(),
+            new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(visitablesRef).build()))
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("aggregate")
+        .withReturnType(visitablesRef)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("iterator")
+        .withReturnType(Collections.ITERATOR.toReference(rawVisitableRef))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("forEach")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withName("action")
+        .withTypeRef(consumerInterface.toReference(
+            new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(rawVisitableRef).build()))
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("spliterator")
+        .withReturnType(TypeDef.forName(Spliterator.class.getName()).toReference(rawVisitableRef))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("keySet")
+        .withReturnType(SET.toReference(STRING_REF))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("values")
+        .withReturnType(COLLECTION.toReference(visitablesRef))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("entrySet")
+        .withReturnType(SET.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, visitablesRef)))
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("clone")
+        .withReturnType(TypeDef.OBJECT_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("equals")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("obj")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("hashCode")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("toString")
+        .withReturnType(STRING_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("peek")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("key")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("update")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesRef)
+        .withName("value")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("reserve")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(visitablesRef)
+        .withName("list")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("additional")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("indexOf")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("key")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("insert")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(visitablesRef)
+        .withName("value")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("keyAt")
+        .withReturnType(STRING_REF)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("index")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("slots")
+        .withParameters(T)
+        .withReturnType(Collections.ITERATOR.toReference(T.toReference()))
+        .addNewArgument()
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(IntFunction.class.getName())
+            .withArguments(T.toReference()).build())
+        .withName("function")
+        .endArgument()
+        .endMethod()
+
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
         .accept(new ApplyMethodBlockFromResources("VisitableMap", "io/sundr/builder/VisitableMap.java"))
         .accept(new ApplyImportsFromResources("io/sundr/builder/VisitableMap.java"))
         .build();
 
-    baseFluentClass = new TypeDefBuilder()
+    sparseValuesClass = new TypeDefBuilder()
+        .withNewModifiers().withPublic().endModifiers()
+        .withKind(Kind.CLASS)
+        .withPackageName("io.sundr.builder")
+        .withName("SparseValues")
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withTypeRef(new PrimitiveRefBuilder(PRIMITIVE_LONG_REF).withDimensions(1).build())
+        .withName("NO_BITS")
+        .addToAttributes(Attributeable.INIT, "new long[0]")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withTypeRef(new ClassRefBuilder(TypeDef.OBJECT_REF).withDimensions(1).build())
+        .withName("EMPTY")
+        .addToAttributes(Attributeable.INIT, "new Object[0]")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(new PrimitiveRefBuilder(PRIMITIVE_LONG_REF).withDimensions(1).build())
+        .withName("bits")
+        .addToAttributes(Attributeable.INIT, "NO_BITS")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(new ClassRefBuilder(TypeDef.OBJECT_REF).withDimensions(1).build())
+        .withName("values")
+        .addToAttributes(Attributeable.INIT, "EMPTY")
+        .endProperty()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("size")
+        .endProperty()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("has")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("get")
+        .withReturnType(TypeDef.OBJECT_REF)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("set")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("value")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("remove")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("rank")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("equals")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("o")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("hashCode")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("toString")
+        .withReturnType(STRING_REF)
+        .endMethod()
+        .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+        .accept(new ApplyMethodBlockFromResources("SparseValues", "io/sundr/builder/SparseValues.java"))
+        .accept(new ApplyImportsFromResources("io/sundr/builder/SparseValues.java"))
+        .build();
+
+    //The methods are added in two steps, a single chain is too deep for javac
+    TypeDefBuilder baseFluentBuilder = new TypeDefBuilder()
         .withNewModifiers().withPublic().endModifiers()
         .withKind(Kind.CLASS)
         .withPackageName("io.sundr.builder")
@@ -1002,10 +2167,81 @@ public class BuilderContext {
         .endProperty()
 
         .addNewProperty()
-        .withNewModifiers().withPublic().withFinal().endModifiers()
+        .withNewModifiers().withPublic().endModifiers()
         .withTypeRef(visitableMapClass.toReference())
         .withName("_visitables")
-        .addToAttributes(Attributeable.INIT, "new VisitableMap()")
+        .endProperty()
+
+        .addNewConstructor()
+        .withNewModifiers().withPublic().endModifiers()
+        .endConstructor()
+
+        .addNewConstructor()
+        .withNewModifiers().withProtected().endModifiers()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_BOOLEAN_REF)
+        .withName("createVisitables")
+        .endArgument()
+        .endConstructor()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("_visitables")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("_visitables")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("additional")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("_visitablesIfPresent")
+        .withReturnType(visitablesRef)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("slot")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .endMethod()
+
+        .addNewProperty()
+        .withNewModifiers().withPrivate().withStatic().withFinal().endModifiers()
+        .withName("BUILDER_FACTORIES")
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(ClassValue.class.getName())
+            .withArguments(builderFactoryRef)
+            .build())
+        .addToAttributes(Attributeable.INIT, "new ClassValue<Function<Object, VisitableBuilder<?, ?>>>() {\n"
+            + "    @Override\n"
+            + "    protected Function<Object, VisitableBuilder<?, ?>> computeValue(Class<?> type) {\n"
+            + "      return builderFactoryOf(type);\n"
+            + "    }\n"
+            + "  }")
         .endProperty()
 
         .addNewMethod()
@@ -1019,30 +2255,92 @@ public class BuilderContext {
         .endArgument()
         .endMethod()
 
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("builderFactoryOf")
+        .withReturnType(builderFactoryRef)
+        .addNewArgument()
+        .withTypeRef(CLASS.toReference(new WildcardRef()))
+        .withName("type")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("build")
+        .withParameters(T)
+        .withReturnType(Collections.LIST.toReference(T.toReference()))
+        .addNewArgument()
+        .withTypeRef(Collections.LIST.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
+            .withBounds(builderInterface
+                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
+            .build()))
+        .withName("list")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("build")
+        .withParameters(T)
+        .withReturnType(Collections.SET.toReference(T.toReference()))
+        .addNewArgument()
+        .withTypeRef(Collections.SET.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
+            .withBounds(builderInterface
+                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
+            .build()))
+        .withName("set")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("buildUnmodifiable")
+        .withParameters(T)
+        .withReturnType(Collections.LIST.toReference(T.toReference()))
+        .addNewArgument()
+        .withTypeRef(Collections.LIST.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
+            .withBounds(builderInterface
+                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
+            .build()))
+        .withName("list")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().withStatic().endModifiers()
+        .withName("buildUnmodifiable")
+        .withParameters(T)
+        .withReturnType(Collections.SET.toReference(T.toReference()))
+        .addNewArgument()
+        .withTypeRef(Collections.SET.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
+            .withBounds(builderInterface
+                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
+            .build()))
+        .withName("set")
+        .endArgument()
+        .endMethod()
+
         .addNewMethod()
         .withNewModifiers().withPublic().withStatic().endModifiers()
-        .withName("build")
+        .withName("unmodifiableCopy")
         .withParameters(T)
         .withReturnType(Collections.LIST.toReference(T.toReference()))
         .addNewArgument()
-        .withTypeRef(Collections.LIST.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
-            .withBounds(builderInterface
-                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
-            .build()))
+        .withTypeRef(Collections.LIST
+            .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
         .withName("list")
         .endArgument()
         .endMethod()
 
         .addNewMethod()
         .withNewModifiers().withPublic().withStatic().endModifiers()
-        .withName("build")
+        .withName("unmodifiableCopy")
         .withParameters(T)
         .withReturnType(Collections.SET.toReference(T.toReference()))
         .addNewArgument()
-        .withTypeRef(Collections.SET.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
-            .withBounds(builderInterface
-                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
-            .build()))
+        .withTypeRef(Collections.SET
+            .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
         .withName("set")
         .endArgument()
         .endMethod()
@@ -1075,6 +2373,69 @@ public class BuilderContext {
         .withVarArgPreferred(true)
         .endMethod()
 
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("capacityOf")
+        .withReturnType(PRIMITIVE_INT_REF)
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_INT_REF)
+        .withName("size")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withName("removeEach")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(COLLECTION.toReference(new WildcardRef()))
+        .withName("collection")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(COLLECTION.toReference(new WildcardRef()))
+        .withName("items")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withName("removeEach")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(COLLECTION.toReference(new WildcardRef()))
+        .withName("builders")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(COLLECTION.toReference(new WildcardRef()))
+        .withName("visitables")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(COLLECTION.toReference(new WildcardRef()))
+        .withName("items")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withName("removeMatching")
+        .withParameters(T)
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withTypeRef(COLLECTION.toReference(T.toReference()))
+        .withName("builders")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(COLLECTION.toReference(new WildcardRef()))
+        .withName("visitables")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PREDICATE.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.SUPER)
+            .withBounds(T.toReference()).build()))
+        .withName("predicate")
+        .endArgument()
+        .endMethod();
+
+    baseFluentClass = baseFluentBuilder
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
         .withName("accept")
@@ -1139,6 +2500,225 @@ public class BuilderContext {
         .withVarArgPreferred(true)
         .endMethod()
 
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("acceptFused")
+        .withReturnType(F.toReference())
+        .addNewArgument()
+        .withName("visitors")
+        .withTypeRef(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPublic().endModifiers()
+        .withName("acceptFused")
+        .withReturnType(F.toReference())
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("currentKey")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .withName("visitors")
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("acceptChildren")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("currentKey")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_BOOLEAN_REF)
+        .withName("fused")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .withName("visitors")
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("acceptChildren")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(COLLECTION.toReference(new WildcardRef()))
+        .withName("children")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_BOOLEAN_REF)
+        .withName("fused")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .withName("visitors")
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("acceptChild")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("child")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_BOOLEAN_REF)
+        .withName("fused")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .withName("visitors")
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("visitChild")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(visitableInterface.getFullyQualifiedName()).build())
+        .withName("child")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(PRIMITIVE_BOOLEAN_REF)
+        .withName("fused")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .withName("visitors")
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("reachingVisitors")
+        .withReturnType(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .addNewArgument()
+        .withName("key")
+        .withTypeRef(STRING_REF)
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .withName("visitors")
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().withStatic().endModifiers()
+        .withName("wiretap")
+        .withReturnType(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .addNewArgument()
+        .withTypeRef(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .withName("visitors")
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withName("visitSelf")
+        .withReturnType(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(Collections.LIST.toReference(Collections.MAP_ENTRY.toReference(STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(
+            new ClassRefBuilder().withFullyQualifiedName(visitorInterface.getFullyQualifiedName()).withDimensions(1).build())
+        .withName("visitors")
+        .endArgument()
+        .withVarArgPreferred(true)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("isUnchanged")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().endModifiers()
+        .withName("markUnchanged")
+        .withReturnType(new VoidRef())
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withName("unchanged")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(TypeDef.OBJECT_REF)
+        .withName("builder")
+        .endArgument()
+        .endMethod()
+
+        .addNewMethod()
+        .withNewModifiers().withProtected().withStatic().endModifiers()
+        .withName("unchanged")
+        .withReturnType(PRIMITIVE_BOOLEAN_REF)
+        .addNewArgument()
+        .withTypeRef(COLLECTION.toReference(new WildcardRef()))
+        .withName("builders")
+        .endArgument()
+        .endMethod()
+
         .addNewMethod()
         .withNewModifiers().withPublic().endModifiers()
         .withReturnType(PRIMITIVE_INT_REF)
@@ -1290,6 +2870,14 @@ public class BuilderContext {
     return editableInterface;
   }
 
+  public TypeDef getSparseValuesClass() {
+    return sparseValuesClass;
+  }
+
+  public TypeDef getBuilderIndexInterface() {
+    return builderIndexInterface;
+  }
+
   public TypeDef getVisitableInterface() {
     return visitableInterface;
   }
@@ -1322,14 +2910,34 @@ public class BuilderContext {
     return visitorListenerInterface;
   }
 
+  public TypeDef getActiveVisitorListenersClass() {
+    return activeVisitorListenersClass;
+  }
+
   public TypeDef getVisitorWiretapClass() {
     return visitorWiretapClass;
   }
 
+  public TypeDef getStoppableVisitorClass() {
+    return stoppableVisitorClass;
+  }
+
   public TypeDef getDelegatingVisitorClass() {
     return delegatingVisitorClass;
   }
 
+  public TypeDef getTraversalClass() {
+    return traversalClass;
+  }
+
+  public TypeDef getStopTraversalClass() {
+    return stopTraversalClass;
+  }
+
+  public TypeDef getVisitorPathClass() {
+    return visitorPathClass;
+  }
+
   public TypeDef getInlineableBase() {
     return inlineableBase;
   }
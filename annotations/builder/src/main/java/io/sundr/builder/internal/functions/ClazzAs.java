@@ -22,9 +22,12 @@ import static io.sundr.model.utils.Types.isAbstract;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -43,8 +46,10 @@ import io.sundr.builder.internal.BuilderContextManager;
 import io.sundr.builder.internal.utils.BuilderUtils;
 import io.sundr.builder.internal.visitors.AddNoArgWithMethod;
 import io.sundr.builder.internal.visitors.InitEnricher;
+import io.sundr.functions.Singularize;
 import io.sundr.model.AnnotationRef;
 import io.sundr.model.AnnotationRefBuilder;
+import io.sundr.model.Attributeable;
 import io.sundr.model.ClassRef;
 import io.sundr.model.ClassRefBuilder;
 import io.sundr.model.Method;
@@ -60,6 +65,7 @@ import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeParamDef;
 import io.sundr.model.TypeParamRef;
 import io.sundr.model.TypeRef;
+import io.sundr.model.VoidRef;
 import io.sundr.model.functions.GetDefinition;
 import io.sundr.model.utils.Getter;
 import io.sundr.model.utils.Setter;
@@ -69,6 +75,10 @@ import io.sundr.utils.Strings;
 
 public class ClazzAs {
 
+  private static final String UNCHANGED_FIELD = "_unchanged";
+  private static final String BUILT_FIELD = "_built";
+  private static final String SPARSE_VALUES_FIELD = "_values";
+
   public static final Function<RichTypeDef, TypeDef> FLUENT_INTERFACE = FunctionFactory
       .wrap(new Function<RichTypeDef, TypeDef>() {
         public TypeDef apply(RichTypeDef item) {
@@ -155,6 +165,7 @@ public class ClazzAs {
               if (isList || isArray) {
                 methods.add(ToMethod.WITH_NEW_LIKE_NESTED_AT_INDEX.apply(toAdd));
                 methods.addAll(ToMethod.EDIT_NESTED.apply(toAdd));
+                methods.addAll(ToMethod.KEYED.apply(toAdd));
               } else if (!isSet) {
                 methods.addAll(ToMethod.EDIT_NESTED.apply(toAdd));
                 methods.add(ToMethod.EDIT_OR_NEW.apply(toAdd));
@@ -196,23 +207,45 @@ public class ClazzAs {
       List<Method> methods = new ArrayList<Method>();
       List<TypeDef> nestedClazzes = new ArrayList<TypeDef>();
       final List<Property> properties = new ArrayList<Property>();
+      final List<Property> visitables = new ArrayList<Property>();
+      final List<Property> copyOnAccess = new ArrayList<Property>();
+      final List<Property> keyed = new ArrayList<Property>();
+      final List<Property> sparse = new ArrayList<Property>();
+      final List<Integer> sparsePositions = new ArrayList<Integer>();
+      final boolean memoized = isMemoizedBuildEnabled(item);
       TypeDef fluentType = TypeAs.FLUENT_INTERFACE.apply(item);
       final TypeDef fluentImplType = TypeAs.FLUENT_IMPL.apply(item);
 
       //The generic letter is always the last
       final TypeParamDef genericType = fluentImplType.getParameters().get(fluentImplType.getParameters().size() - 1);
 
+      //Fluents that extend the base fluent create the visitables on first use, their subclasses inherit that
+      final boolean extendsBaseFluent = BuilderContextManager.getContext().getBaseFluentClass().getFullyQualifiedName()
+          .equals(fluentImplType.getExtendsList().iterator().next().getFullyQualifiedName());
+      final List<Statement> superStatements = extendsBaseFluent
+          ? Collections.singletonList(new StringStatement("super(false);"))
+          : Collections.emptyList();
+
       Method emptyConstructor = new MethodBuilder()
           .withNewModifiers().withPublic().endModifiers()
+          .withNewBlock().withStatements(superStatements).endBlock()
           .build();
 
       Method instanceConstructor = new MethodBuilder().withNewModifiers().withPublic().endModifiers().addNewArgument()
           .withTypeRef(item.toInternalReference()).withName("instance").and().withNewBlock()
-          .withStatements(toInstanceConstructorBody(item, item, "")).endBlock().build();
+          .addAllToStatements(superStatements)
+          .addAllToStatements(toInstanceConstructorBody(item, item, "")).endBlock().build();
 
       constructors.add(emptyConstructor);
       constructors.add(instanceConstructor);
 
+      //The visitables of the superclass fluents take the first slots
+      final List<Property> slotted = item.getAllProperties().stream()
+          .filter(isPropertyApplicable(item, false))
+          .filter(isPropertyApplicable(item).negate())
+          .filter(p -> hasVisitables(item, p))
+          .collect(Collectors.toList());
+
       item.getAllProperties().stream().filter(isPropertyApplicable(item)).forEach(property -> {
         final TypeRef unwrapped = TypeAs.combine(TypeAs.UNWRAP_ARRAY_OF, TypeAs.UNWRAP_COLLECTION_OF, TypeAs.UNWRAP_OPTIONAL_OF)
             .apply(property.getTypeRef());
@@ -233,8 +266,15 @@ public class ClazzAs {
             .addToAttributes(OUTER_CLASS, fluentImplType).addToAttributes(GENERIC_TYPE_REF, genericType.toReference())
             .withComments().withAnnotations().build();
 
+        //Set before the descendants are created, so that they share the slot of the property
+        if (hasVisitables(item, toAdd)) {
+          toAdd = new PropertyBuilder(toAdd).addToAttributes(VISITABLE_SLOT, slotted.size()).build();
+          slotted.add(toAdd);
+        }
+
         Set<Property> descendants = Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(toAdd);
         toAdd = new PropertyBuilder(toAdd).addToAttributes(DESCENDANTS, descendants).accept(new InitEnricher()).build();
+        int firstMethod = methods.size();
 
         if (isArray) {
           Property asList = arrayAsList(toAdd);
@@ -284,6 +324,7 @@ public class ClazzAs {
             if (isList || isArray) {
               methods.add(ToMethod.WITH_NEW_LIKE_NESTED_AT_INDEX.apply(toAdd));
               methods.addAll(ToMethod.EDIT_NESTED.apply(toAdd));
+              methods.addAll(ToMethod.KEYED.apply(toAdd));
             } else if (!isSet) {
               methods.addAll(ToMethod.EDIT_NESTED.apply(toAdd));
               methods.add(ToMethod.EDIT_OR_NEW.apply(toAdd));
@@ -292,10 +333,20 @@ public class ClazzAs {
             nestedClazzes.add(PropertyAs.NESTED_CLASS.apply(toAdd));
           }
           properties.add(buildableField(toAdd));
+          visitables.add(toAdd);
+        } else if (descendants.isEmpty() && isSparseFieldsEnabled(toAdd) && !isArray && !isSet && !isList && !isOptional
+            && !Types.isPrimitive(toAdd.getTypeRef())) {
+          List<Method> accessors = methods.subList(firstMethod, methods.size());
+          List<Method> updated = sparseAccess(toAdd, sparse.size(), accessors);
+          accessors.clear();
+          accessors.addAll(updated);
+          sparsePositions.add(properties.size());
+          sparse.add(toAdd);
         } else if (descendants.isEmpty()) {
           properties.add(toAdd);
         } else if (!descendants.isEmpty()) {
           properties.add(buildableField(toAdd));
+          visitables.add(toAdd);
           for (Property descendant : descendants) {
             if (Types.isCollection(descendant.getTypeRef())) {
               methods.addAll(ToMethod.ADD_TO_COLLECTION.apply(descendant));
@@ -314,31 +365,98 @@ public class ClazzAs {
         } else {
           properties.add(buildableField(toAdd));
         }
+
+        Property key = isBuildable && !isAbstract ? BuilderUtils.getKeyProperty(toAdd) : null;
+        if (key != null) {
+          List<Method> accessors = methods.subList(firstMethod, methods.size());
+          List<Method> updated = keyIndex(toAdd, key, accessors);
+          accessors.clear();
+          accessors.addAll(updated);
+          keyed.add(toAdd);
+        }
+
+        if (isCopyOnAccessEnabled(toAdd) && !isArray && !isMap && (isBuildable || !descendants.isEmpty())
+            && (isList || isSet || (isBuildable && !isAbstract))) {
+          List<Method> accessors = methods.subList(firstMethod, methods.size());
+          List<Method> updated = copyOnAccess(toAdd, accessors);
+          accessors.clear();
+          accessors.addAll(updated);
+          copyOnAccess.add(toAdd);
+        }
+
+        if (memoized) {
+          List<Method> accessors = methods.subList(firstMethod, methods.size());
+          //Maps and collections that don't hold builders are handed out as is, so the caller can change them
+          boolean live = isMap || ((isList || isSet) && !isBuildable && descendants.isEmpty());
+          List<Method> updated = trackChanges(accessors, live);
+          accessors.clear();
+          accessors.addAll(updated);
+        }
       });
 
+      //The sparse properties are compared and hashed through their storage, but are still described one by one
+      List<Property> described = new ArrayList<>(properties);
+      for (int i = 0; i < sparse.size(); i++) {
+        described.add(sparsePositions.get(i) + i, sparse.get(i));
+      }
+      if (!sparse.isEmpty()) {
+        properties.add(sparseValuesField());
+      }
+
+      //Both sides need their nested builders before the fields can be compared
+      List<Statement> materializeBoth = new ArrayList<>(materialize(copyOnAccess, ""));
+      materializeBoth.addAll(materialize(copyOnAccess, "that."));
+      List<Statement> equalsStatements = BuilderUtils.toEquals(fluentImplType, properties, null, materializeBoth);
+
       Method equals = new MethodBuilder()
           .withNewModifiers().withPublic().endModifiers()
           .withReturnType(Types.PRIMITIVE_BOOLEAN_REF).addNewArgument().withName("o")
           .withTypeRef(Types.OBJECT.toReference()).endArgument().withName("equals").withNewBlock()
-          .withStatements(BuilderUtils.toEquals(fluentImplType, properties)).endBlock()
+          .withStatements(equalsStatements).endBlock()
           .build();
 
       Method hashCode = new MethodBuilder()
           .withNewModifiers().withPublic().endModifiers()
           .withReturnType(io.sundr.model.utils.Types.PRIMITIVE_INT_REF).withName("hashCode").withNewBlock()
-          .withStatements(BuilderUtils.toHashCode(properties)).endBlock()
+          .withStatements(materialize(copyOnAccess, "")).addAllToStatements(BuilderUtils.toHashCode(fluentImplType, properties))
+          .endBlock()
           .build();
 
       Method toString = new MethodBuilder()
           .withNewModifiers().withPublic().endModifiers()
           .withReturnType(io.sundr.model.utils.Types.STRING_REF).withName("toString").withNewBlock()
-          .withStatements(BuilderUtils.toString(fluentImplType.getName(), properties)).endBlock()
+          .withStatements(materialize(copyOnAccess, ""))
+          .addAllToStatements(sparseLocals(sparse))
+          .addAllToStatements(BuilderUtils.toString(fluentImplType.getName(), described)).endBlock()
           .build();
 
       methods.add(equals);
       methods.add(hashCode);
       methods.add(toString);
 
+      List<Property> directVisitables = visitables.stream().filter(BuilderUtils::isDirectAcceptEnabled)
+          .collect(Collectors.toList());
+      if (!directVisitables.isEmpty() || !copyOnAccess.isEmpty() || !keyed.isEmpty()) {
+        methods.add(acceptChildren(directVisitables, copyOnAccess, keyed));
+      }
+
+      for (Property property : copyOnAccess) {
+        properties.add(pendingField(property));
+      }
+
+      for (Property property : keyed) {
+        properties.addAll(keyIndexFields(property, BuilderUtils.getKeyProperty(property)));
+      }
+
+      if (memoized) {
+        methods.addAll(unchanged(fluentImplType, visitables));
+        properties.add(new PropertyBuilder()
+            .withNewModifiers().withPrivate().endModifiers()
+            .withTypeRef(Types.PRIMITIVE_BOOLEAN_REF)
+            .withName(UNCHANGED_FIELD)
+            .build());
+      }
+
       return BuilderContextManager.getContext().getDefinitionRepository()
           .register(
               new TypeDefBuilder(fluentImplType).withComments("Generated")
@@ -372,20 +490,38 @@ public class ClazzAs {
       List<Method> methods = new ArrayList<Method>();
       final List<Property> fields = new ArrayList<Property>();
 
+      //The flag is only boxed for compatibility
+      final TypeRef validationFlag = isPrimitiveApiEnabled(item) ? Types.PRIMITIVE_BOOLEAN_REF : Types.BOOLEAN_REF;
       Property fluentProperty = new PropertyBuilder().withTypeRef(fluent).withName("fluent").build();
-      Property validationEnabledProperty = new PropertyBuilder().withTypeRef(io.sundr.model.utils.Types.BOOLEAN_REF)
+      Property validationEnabledProperty = new PropertyBuilder().withTypeRef(validationFlag)
           .withName("validationEnabled").build();
 
       fields.add(fluentProperty);
       fields.add(validationEnabledProperty);
 
+      final boolean memoized = isMemoizedBuildEnabled(item);
+      final boolean editable = !item.isFinal() && item.hasAttribute(EDITABLE_ENABLED) && item.getAttribute(EDITABLE_ENABLED);
+      final TypeDef editableType = TypeAs.EDITABLE.apply(item);
+      if (memoized) {
+        fields.add(new PropertyBuilder()
+            .withNewModifiers().withPrivate().endModifiers()
+            .withTypeRef(editable ? editableType.toInternalReference() : instanceRef)
+            .withName(BUILT_FIELD)
+            .build());
+      }
+      //Builders created from an object that was built by a builder, can return it as long as they are unchanged
+      final List<Statement> seed = memoized && editable
+          ? Collections.singletonList(new StringStatement("if (instance instanceof " + editableType.getName() + ") { this."
+              + BUILT_FIELD + " = (" + editableType.toInternalReference() + ") instance; markUnchanged(); }"))
+          : Collections.emptyList();
+
       Method emptyConstructor = new MethodBuilder()
           .withNewModifiers().withPublic().endModifiers()
           .withNewBlock()
           .addNewStringStatementStatement("this(false);").endBlock().build();
 
       Method validationEnabledConstructor = new MethodBuilder().withNewModifiers().withPublic().endModifiers()
-          .addNewArgument().withTypeRef(io.sundr.model.utils.Types.BOOLEAN_REF).withName("validationEnabled").and()
+          .addNewArgument().withTypeRef(validationFlag).withName("validationEnabled").and()
           .withNewBlock().addToStatements(new StringStatement(new Supplier<String>() {
             @Override
             public String get() {
@@ -401,7 +537,7 @@ public class ClazzAs {
       Method fluentAndValidationConstructor = new MethodBuilder()
           .withNewModifiers().withPublic().endModifiers()
           .addNewArgument().withTypeRef(fluent).withName("fluent").and().addNewArgument()
-          .withTypeRef(io.sundr.model.utils.Types.BOOLEAN_REF).withName("validationEnabled").and().withNewBlock()
+          .withTypeRef(validationFlag).withName("validationEnabled").and().withNewBlock()
           .addToStatements(new StringStatement(new Supplier<String>() {
             @Override
             public String get() {
@@ -419,7 +555,7 @@ public class ClazzAs {
       Method instanceAndFluentAndValidationEnabledCosntructor = new MethodBuilder()
           .withNewModifiers().withPublic().endModifiers().addNewArgument().withTypeRef(fluent).withName("fluent")
           .and().addNewArgument().withTypeRef(instanceRef).withName("instance").and().addNewArgument()
-          .withTypeRef(Types.BOOLEAN_REF).withName("validationEnabled").and()
+          .withTypeRef(validationFlag).withName("validationEnabled").and()
           .withNewBlock()
           .addAllToStatements(toInstanceConstructorBody(item, item, "fluent"))
           .addNewStringStatementStatement("this.validationEnabled = validationEnabled; ")
@@ -433,11 +569,12 @@ public class ClazzAs {
 
       Method instanceAndValidationEnabledConstructor = new MethodBuilder()
           .withNewModifiers().withPublic().endModifiers().addNewArgument().withTypeRef(instanceRef)
-          .withName("instance").and().addNewArgument().withTypeRef(Types.BOOLEAN_REF)
+          .withName("instance").and().addNewArgument().withTypeRef(validationFlag)
           .withName("validationEnabled").and()
           .withNewBlock()
           .addAllToStatements(toInstanceConstructorBody(item, item, "this"))
           .addNewStringStatementStatement("this.validationEnabled = validationEnabled; ")
+          .addAllToStatements(seed)
           .endBlock()
           .build();
 
@@ -470,7 +607,7 @@ public class ClazzAs {
         Method sourceInstanceAndFluentAndValidationEnabledCosntructor = new MethodBuilder()
             .withNewModifiers().withPublic().endModifiers().addNewArgument().withTypeRef(fluent).withName("fluent")
             .and().addNewArgument().withTypeRef(buildableInterfaceRef).withName("instance").and().addNewArgument()
-            .withTypeRef(Types.BOOLEAN_REF).withName("validationEnabled").and()
+            .withTypeRef(validationFlag).withName("validationEnabled").and()
             .withNewBlock()
             .addAllToStatements(toInstanceConstructorBody(item, i, "fluent"))
             .addNewStringStatementStatement("this.validationEnabled = validationEnabled; ")
@@ -485,11 +622,12 @@ public class ClazzAs {
 
         Method sourceInstanceAndValidationEnabledConstructor = new MethodBuilder()
             .withNewModifiers().withPublic().endModifiers().addNewArgument().withTypeRef(buildableInterfaceRef)
-            .withName("instance").and().addNewArgument().withTypeRef(Types.BOOLEAN_REF)
+            .withName("instance").and().addNewArgument().withTypeRef(validationFlag)
             .withName("validationEnabled").and()
             .withNewBlock()
             .addAllToStatements(toInstanceConstructorBody(item, i, "this"))
             .addNewStringStatementStatement("this.validationEnabled = validationEnabled; ")
+            .addAllToStatements(seed)
             .endBlock()
             .build();
 
@@ -502,7 +640,7 @@ public class ClazzAs {
       Method build = new MethodBuilder().withModifiers(Modifiers.from(modifiers)).withReturnType(instanceRef)
           .withName("build")
           .withNewBlock()
-          .withStatements(toBuild(item, item))
+          .withStatements(toBuild(item, item, memoized && !editable))
           .endBlock()
           .build();
       methods.add(build);
@@ -545,6 +683,7 @@ public class ClazzAs {
             .withStatements(toInstanceConstructorBody(item, item, "this"))
             .addNewStringStatementStatement("this.validator = validator;")
             .addNewStringStatementStatement("this.validationEnabled = validator != null; ")
+            .addAllToStatements(seed)
             .endBlock()
             .build();
 
@@ -607,7 +746,9 @@ public class ClazzAs {
                   if (builder.getName() != null && builder.getName().equals("build")) {
                     builder.withModifiers(Modifiers.from(modifiers));
                     builder.withReturnType(editable.toInternalReference());
-                    builder.withNewBlock().withStatements(toBuild(TypeArguments.apply(editable), editable)).endBlock();
+                    builder.withNewBlock()
+                        .withStatements(toBuild(TypeArguments.apply(editable), editable, isMemoizedBuildEnabled(item)))
+                        .endBlock();
                   }
                 }
               }).build();
@@ -776,10 +917,15 @@ public class ClazzAs {
     return statements;
   }
 
-  private static List<Statement> toBuild(final RichTypeDef item, final TypeDef instanceType) {
+  private static List<Statement> toBuild(final RichTypeDef item, final TypeDef instanceType, boolean memoized) {
     Method constructor = findBuildableConstructor(item);
     List<Statement> statements = new ArrayList<Statement>();
 
+    if (memoized) {
+      statements.add(new StringStatement(
+          "if (this." + BUILT_FIELD + " != null && isUnchanged()) { return this." + BUILT_FIELD + "; }"));
+    }
+
     statements.add(new StringStatement(new StringBuilder()
         .append(instanceType.getName()).append(" buildable = new ").append(instanceType.getName()).append("(")
         .append(Strings.join(constructor.getArguments(), new Function<Property, String>() {
@@ -810,6 +956,11 @@ public class ClazzAs {
       statements.add(new StringStatement(
           "if (validationEnabled) {" + context.getBuilderPackage() + ".ValidationUtils.validate(buildable);}"));
     }
+    if (memoized) {
+      //Only the builders that are their own fluent know when they change
+      statements.add(new StringStatement(
+          "if (this.fluent == this) { this." + BUILT_FIELD + " = buildable; markUnchanged(); }"));
+    }
     statements.add(new StringStatement("return buildable;"));
     return statements;
   }
@@ -836,6 +987,28 @@ public class ClazzAs {
         .build();
   }
 
+  /**
+   * Checks if the fluent keeps the nested builders of a property in its visitables.
+   * These are the buildable properties and the properties with buildable descendants, except for maps.
+   *
+   * @param item the type of the fluent
+   * @param property the property
+   * @return true if the property needs a slot in the visitables, false otherwise.
+   */
+  private static boolean hasVisitables(RichTypeDef item, Property property) {
+    if (Types.isMap(property.getTypeRef())) {
+      return false;
+    }
+    TypeRef unwrapped = TypeAs.combine(TypeAs.UNWRAP_ARRAY_OF, TypeAs.UNWRAP_COLLECTION_OF, TypeAs.UNWRAP_OPTIONAL_OF)
+        .apply(property.getTypeRef());
+    if (isBuildable(unwrapped)) {
+      return true;
+    }
+    Property withOrigin = property.hasAttribute(ORIGIN_TYPEDEF) ? property
+        : new PropertyBuilder(property).addToAttributes(ORIGIN_TYPEDEF, item).build();
+    return !Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(withOrigin).isEmpty();
+  }
+
   private static Predicate<Property> isPropertyApplicable(RichTypeDef item) {
     return isPropertyApplicable(item, true);
   }
@@ -870,4 +1043,447 @@ public class ClazzAs {
       return true;
     };
   }
+
+  /**
+   * Creates the method that passes the visitors directly to the fields that hold the nested builders.
+   * The nested builders that are created on access are created first, so that they can be visited too.
+   *
+   * @param visitables the properties of the fields.
+   * @param copyOnAccess the properties whose nested builders are created on access.
+   * @param keyed the properties whose elements are indexed by key, as visitors may change the keys.
+   * @return the method.
+   */
+  private static Method acceptChildren(List<Property> visitables, List<Property> copyOnAccess, List<Property> keyed) {
+    BuilderContext context = BuilderContextManager.getContext();
+    ClassRef visitorPathRef = context.getVisitorPathClass().toInternalReference();
+    ClassRef visitorRef = context.getVisitorInterface().toInternalReference();
+    List<Statement> statements = new ArrayList<>(materialize(copyOnAccess, ""));
+    String indent = keyed.isEmpty() ? "" : "  ";
+    if (!keyed.isEmpty()) {
+      //The indexes are dropped even if a visitor stops the traversal, as the keys may have changed by then
+      statements.add(new StringStatement("try {"));
+    }
+    statements.add(new StringStatement(indent + "super.acceptChildren(path, currentKey, fused, visitors);"));
+    if (!visitables.isEmpty()) {
+      statements.add(new StringStatement(
+          indent + visitorPathRef.getName() + " newPath = " + visitorPathRef.getName() + ".of(path).push(currentKey, this);"));
+    }
+    for (Property property : visitables) {
+      String name = property.getName();
+      TypeRef typeRef = property.getTypeRef();
+      if (Types.isList(typeRef) || Types.isSet(typeRef)) {
+        statements.add(new StringStatement(
+            indent + "acceptChildren(newPath, \"" + name + "\", this." + name + ", fused, visitors);"));
+      } else if (Types.isOptional(typeRef)) {
+        statements.add(new StringStatement(
+            indent + "acceptChild(newPath, \"" + name + "\", this." + name + ".orElse(null), fused, visitors);"));
+      } else {
+        statements
+            .add(new StringStatement(indent + "acceptChild(newPath, \"" + name + "\", this." + name + ", fused, visitors);"));
+      }
+    }
+    if (!keyed.isEmpty()) {
+      statements.add(new StringStatement("} finally {"));
+      for (Property property : keyed) {
+        statements.add(new StringStatement("  this." + keyIndexField(property) + " = null;"));
+      }
+      statements.add(new StringStatement("}"));
+    }
+
+    return new MethodBuilder()
+        .withNewModifiers().withProtected().endModifiers()
+        .withReturnType(new VoidRef())
+        .withName("acceptChildren")
+        .addNewArgument()
+        .withName("path")
+        .withTypeRef(io.sundr.model.utils.Collections.LIST
+            .toReference(io.sundr.model.utils.Collections.MAP_ENTRY.toReference(Types.STRING_REF, TypeDef.OBJECT_REF)))
+        .endArgument()
+        .addNewArgument()
+        .withName("currentKey")
+        .withTypeRef(Types.STRING_REF)
+        .endArgument()
+        .addNewArgument()
+        .withName("fused")
+        .withTypeRef(Types.PRIMITIVE_BOOLEAN_REF)
+        .endArgument()
+        .addNewArgument()
+        .withName("visitors")
+        .withTypeRef(new ClassRefBuilder(visitorRef).withArguments().withDimensions(1).build())
+        .endArgument()
+        .withVarArgPreferred(true)
+        .withNewBlock()
+        .withStatements(statements)
+        .endBlock()
+        .addToAttributes(Attributeable.ALSO_IMPORT, Arrays.asList(visitorPathRef, visitorRef))
+        .build();
+  }
+
+  /**
+   * Makes the accessors of a property create the nested builders on access.
+   * The method that sets the whole value just keeps the value, and the original one becomes a private method that is
+   * called the first time the nested builders are needed. Until then, the getters return the value as is.
+   *
+   * @param property the property.
+   * @param accessors the methods generated for the property.
+   * @return the updated methods, along with the ones that create the nested builders.
+   */
+  private static List<Method> copyOnAccess(Property property, List<Method> accessors) {
+    TypeRef returnType = property.getAttribute(GENERIC_TYPE_REF);
+    String name = property.getNameCapitalized();
+    String pending = "this." + pendingField(property).getName();
+    String withName = "with" + name;
+    String eagerWithName = "eagerWith" + name;
+    String materializeName = "materialize" + name;
+
+    List<Method> result = new ArrayList<>();
+    for (Method method : accessors) {
+      boolean isWith = method.getName().equals(withName) && method.getArguments().size() == 1
+          && method.getArguments().get(0).getTypeRef().equals(property.getTypeRef());
+      boolean isGetter = method.getArguments().isEmpty()
+          && (method.getName().equals(Getter.name(property)) || method.getName().equals("build" + name));
+      if (isWith) {
+        result.add(new MethodBuilder(method)
+            .withName(eagerWithName)
+            .withNewModifiers().withPrivate().endModifiers()
+            .withNewBlock()
+            .addNewStringStatementStatement(pending + " = null;")
+            .addAllToStatements(method.getBlock().getStatements())
+            .endBlock()
+            .build());
+        result.add(new MethodBuilder(method)
+            .withNewBlock()
+            .addNewStringStatementStatement(eagerWithName + "(null); " + pending + " = " + property.getName() + "; return ("
+                + returnType + ") this;")
+            .endBlock()
+            .build());
+      } else if (isGetter) {
+        result.add(new MethodBuilder(method)
+            .withNewBlock()
+            .addNewStringStatementStatement("if (" + pending + " != null) { return " + pending + "; }")
+            .addAllToStatements(method.getBlock().getStatements())
+            .endBlock()
+            .build());
+      } else {
+        result.add(new MethodBuilder(method)
+            .withNewBlock()
+            .addNewStringStatementStatement(materializeName + "();")
+            .addAllToStatements(method.getBlock().getStatements())
+            .endBlock()
+            .build());
+      }
+    }
+
+    result.add(new MethodBuilder()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withReturnType(new VoidRef())
+        .withName(materializeName)
+        .withNewBlock()
+        .addNewStringStatementStatement("if (" + pending + " != null) { " + eagerWithName + "(" + pending + "); }")
+        .endBlock()
+        .build());
+    return result;
+  }
+
+  /**
+   * Creates the field that holds the value of a property, until its nested builders are created.
+   *
+   * @param property the property.
+   * @return the field.
+   */
+  private static Property pendingField(Property property) {
+    return new PropertyBuilder()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withTypeRef(property.getTypeRef())
+        .withName("_pending" + property.getNameCapitalized())
+        .build();
+  }
+
+  /**
+   * Creates the statements that create the nested builders of the specified properties.
+   *
+   * @param properties the properties.
+   * @param target the prefix of the calls.
+   * @return the statements.
+   */
+  private static List<Statement> materialize(List<Property> properties, String target) {
+    return properties.stream()
+        .map(p -> new StringStatement(target + "materialize" + p.getNameCapitalized() + "();"))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Keeps the index by key of a list property in sync with the list.
+   * The index is filled lazily, as lookups walk the list, so appending to the list keeps it. Any other change to the list
+   * drops it, except from setting an element that keeps the key of the element it replaces.
+   *
+   * @param property the property.
+   * @param key the key property of the elements.
+   * @param accessors the methods generated for the property.
+   * @return the updated methods, along with the one that looks up elements by key.
+   */
+  private static List<Method> keyIndex(Property property, Property key, List<Method> accessors) {
+    String name = property.getName();
+    String capitalized = property.getNameCapitalized();
+    String index = "this." + keyIndexField(property);
+    String indexed = "this." + keyIndexedField(property);
+    String keyGetter = Getter.name(key);
+    TypeDef keyOwner = BuilderContextManager.getContext().getBuildableRepository()
+        .getBuildable(TypeAs.combine(TypeAs.UNWRAP_ARRAY_OF, TypeAs.UNWRAP_COLLECTION_OF).apply(property.getTypeRef()));
+    String itemKeyGetter = Getter.find(keyOwner, key).getName();
+
+    List<Method> result = new ArrayList<>();
+    for (Method method : accessors) {
+      String methodName = method.getName();
+      boolean isQuery = methodName.startsWith("get") || methodName.startsWith("build") || methodName.startsWith("has")
+          || (methodName.startsWith("is") && methodName.length() > 2 && Character.isUpperCase(methodName.charAt(2)));
+      boolean isNested = methodName.startsWith("addNew") || methodName.startsWith("setNew")
+          || methodName.startsWith("withNew") || methodName.startsWith("edit");
+      boolean isAppend = (methodName.startsWith("addTo") || methodName.startsWith("addAllTo"))
+          && (method.getArguments().isEmpty() || !method.getArguments().get(0).getName().equals("index"));
+      boolean isSet = methodName.equals("setTo" + capitalized) && method.getArguments().size() == 2;
+      boolean isKeyedRemove = methodName.equals("removeFrom" + capitalized + "By" + key.getNameCapitalized());
+      if (isQuery || isNested || isAppend || method.isPrivate() || method.getBlock() == null) {
+        result.add(method);
+      } else if (isKeyedRemove) {
+        //The index is needed to find the element, and is dropped right after
+        List<Statement> statements = new ArrayList<>(method.getBlock().getStatements());
+        statements.add(1, new StringStatement(index + " = null;"));
+        result.add(new MethodBuilder(method)
+            .withNewBlock()
+            .withStatements(statements)
+            .endBlock()
+            .build());
+      } else if (isSet) {
+        result.add(new MethodBuilder(method)
+            .withNewBlock()
+            .addNewStringStatementStatement("if (" + index + " != null && this." + name
+                + " != null && index >= 0 && index < this."
+                + name + ".size() && !Objects.equals(this." + name + ".get(index)." + keyGetter + "(), item." + itemKeyGetter
+                + "())) { " + index + " = null; }")
+            .addAllToStatements(method.getBlock().getStatements())
+            .endBlock()
+            .build());
+      } else {
+        result.add(new MethodBuilder(method)
+            .withNewBlock()
+            .addNewStringStatementStatement(index + " = null;")
+            .addAllToStatements(method.getBlock().getStatements())
+            .endBlock()
+            .build());
+      }
+    }
+
+    TypeRef keyType = TypeAs.BOXED_OF.apply(key.getTypeRef());
+    result.add(new MethodBuilder()
+        .withNewModifiers().withPrivate().endModifiers()
+        .withReturnType(Types.PRIMITIVE_INT_REF)
+        .withName("indexOf" + Singularize.FUNCTION.apply(capitalized) + "By" + key.getNameCapitalized())
+        .addNewArgument()
+        .withName("key")
+        .withTypeRef(keyType)
+        .endArgument()
+        .withNewBlock()
+        .addNewStringStatementStatement("if (this." + name + " == null) { return -1; }")
+        .addNewStringStatementStatement("if (" + index + " == null) { " + index + " = new HashMap<" + keyType + ", Integer>(); "
+            + indexed + " = 0; }")
+        .addNewStringStatementStatement("Integer found = " + index + ".get(key);")
+        .addNewStringStatementStatement("if (found != null) {")
+        .addNewStringStatementStatement(
+            "  if (found < this." + name + ".size() && Objects.equals(key, this." + name + ".get(found)."
+                + keyGetter + "())) { return found; }")
+        .addNewStringStatementStatement("  " + index + ".clear(); " + indexed + " = 0;")
+        .addNewStringStatementStatement("}")
+        .addNewStringStatementStatement("for (int i = " + indexed + "; i < this." + name + ".size(); i++) {")
+        .addNewStringStatementStatement("  " + keyType + " current = this." + name + ".get(i)." + keyGetter + "();")
+        .addNewStringStatementStatement("  " + index + ".putIfAbsent(current, i);")
+        .addNewStringStatementStatement("  " + indexed + " = i + 1;")
+        .addNewStringStatementStatement("  if (Objects.equals(key, current)) { return " + index + ".get(current); }")
+        .addNewStringStatementStatement("}")
+        .addNewStringStatementStatement("return -1;")
+        .endBlock()
+        .addToAttributes(Attributeable.ALSO_IMPORT, Arrays.asList(
+            ClassRef.forName(HashMap.class.getName()), ClassRef.forName(Map.class.getName()),
+            ClassRef.forName(Objects.class.getName())))
+        .build());
+    return result;
+  }
+
+  /**
+   * Creates the fields that hold the index by key of a list property, and how much of the list it covers.
+   *
+   * @param property the property.
+   * @param key the key property of the elements.
+   * @return the fields.
+   */
+  private static List<Property> keyIndexFields(Property property, Property key) {
+    TypeRef keyType = TypeAs.BOXED_OF.apply(key.getTypeRef());
+    return Arrays.asList(
+        new PropertyBuilder()
+            .withNewModifiers().withPrivate().endModifiers()
+            .withTypeRef(new ClassRefBuilder(ClassRef.forName(Map.class.getName()))
+                .withArguments(keyType, ClassRef.forName(Integer.class.getName())).build())
+            .withName(keyIndexField(property))
+            .build(),
+        new PropertyBuilder()
+            .withNewModifiers().withPrivate().endModifiers()
+            .withTypeRef(Types.PRIMITIVE_INT_REF)
+            .withName(keyIndexedField(property))
+            .build());
+  }
+
+  private static String keyIndexField(Property property) {
+    return "_" + property.getName() + "Index";
+  }
+
+  private static String keyIndexedField(Property property) {
+    return "_" + property.getName() + "Indexed";
+  }
+
+  /**
+   * Makes the accessors of a property use a slot of the sparse storage of the fluent, instead of a field.
+   *
+   * @param property the property.
+   * @param slot the slot of the property.
+   * @param accessors the methods generated for the property.
+   * @return the updated methods.
+   */
+  private static List<Method> sparseAccess(Property property, int slot, List<Method> accessors) {
+    TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF)
+        : Types.OBJECT.toReference();
+    String getterName = Getter.name(property);
+    String withName = "with" + property.getNameCapitalized();
+    String hasName = "has" + property.getNameCapitalized();
+
+    List<Method> result = new ArrayList<>();
+    for (Method method : accessors) {
+      String statement;
+      if (method.getName().equals(getterName) && method.getArguments().isEmpty()) {
+        statement = "return (" + property.getTypeRef() + ") this." + SPARSE_VALUES_FIELD + ".get(" + slot + ");";
+      } else if (method.getName().equals(withName) && method.getArguments().size() == 1) {
+        statement = "this." + SPARSE_VALUES_FIELD + ".set(" + slot + ", " + method.getArguments().get(0).getName()
+            + "); return (" + returnType + ") this;";
+      } else if (method.getName().equals(hasName) && method.getArguments().isEmpty()) {
+        statement = "return this." + SPARSE_VALUES_FIELD + ".has(" + slot + ");";
+      } else {
+        result.add(method);
+        continue;
+      }
+      result.add(new MethodBuilder(method)
+          .withNewBlock()
+          .addNewStringStatementStatement(statement)
+          .endBlock()
+          .build());
+    }
+    return result;
+  }
+
+  /**
+   * Creates the sparse storage field of a fluent.
+   *
+   * @return the field.
+   */
+  private static Property sparseValuesField() {
+    TypeDef sparseValues = BuilderContextManager.getContext().getSparseValuesClass();
+    return new PropertyBuilder()
+        .withNewModifiers().withPrivate().withFinal().endModifiers()
+        .withTypeRef(sparseValues.toInternalReference())
+        .withName(SPARSE_VALUES_FIELD)
+        .addToAttributes(Attributeable.INIT, "new " + sparseValues.getName() + "()")
+        .build();
+  }
+
+  /**
+   * Creates local variables that hold the values of the sparse properties, so that statements that refer to the
+   * properties by name can use them.
+   *
+   * @param sparse the sparse properties.
+   * @return the statements.
+   */
+  private static List<Statement> sparseLocals(List<Property> sparse) {
+    List<Statement> statements = new ArrayList<>();
+    for (int i = 0; i < sparse.size(); i++) {
+      Property property = sparse.get(i);
+      statements.add(new StringStatement(property.getTypeRef() + " " + property.getName() + " = (" + property.getTypeRef()
+          + ") this." + SPARSE_VALUES_FIELD + ".get(" + i + ");"));
+    }
+    return statements;
+  }
+
+  /**
+   * Makes the accessors of a property mark the fluent as changed.
+   * Only the methods that just read the property (getters, build and has methods) and the private helpers are left as is.
+   * The getters that return the live collection or map of the property are not, as it may be changed through them.
+   *
+   * @param accessors the methods generated for the property.
+   * @param live true if the fluent stores the collection or map of the property as is.
+   * @return the updated methods.
+   */
+  private static List<Method> trackChanges(List<Method> accessors, boolean live) {
+    List<Method> result = new ArrayList<>();
+    for (Method method : accessors) {
+      String name = method.getName();
+      boolean isQuery = name.startsWith("get") || name.startsWith("build") || name.startsWith("has")
+          || (name.startsWith("is") && name.length() > 2 && Character.isUpperCase(name.charAt(2)));
+      boolean returnsLive = live && name.startsWith("get") && method.getArguments().isEmpty()
+          && (Types.isCollection(method.getReturnType()) || Types.isMap(method.getReturnType()));
+      if ((isQuery && !returnsLive) || method.isPrivate() || method.getBlock() == null) {
+        result.add(method);
+      } else {
+        result.add(new MethodBuilder(method)
+            .withNewBlock()
+            .addNewStringStatementStatement("this." + UNCHANGED_FIELD + " = false;")
+            .addAllToStatements(method.getBlock().getStatements())
+            .endBlock()
+            .build());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Creates the methods that tell if the fluent and its nested builders changed since they were last built.
+   *
+   * @param fluentImplType the fluent.
+   * @param visitables the properties of the fields that hold the nested builders.
+   * @return the methods.
+   */
+  private static List<Method> unchanged(TypeDef fluentImplType, List<Property> visitables) {
+    String superClass = fluentImplType.getExtendsList().isEmpty() ? null
+        : fluentImplType.getExtendsList().iterator().next().getFullyQualifiedName();
+    boolean hasFluentSuperClass = superClass != null
+        && !BuilderContextManager.getContext().getBaseFluentClass().getFullyQualifiedName().equals(superClass);
+
+    StringBuilder condition = new StringBuilder("this." + UNCHANGED_FIELD);
+    if (hasFluentSuperClass) {
+      condition.append(" && super.isUnchanged()");
+    }
+    for (Property property : visitables) {
+      condition.append(" && unchanged(this.").append(property.getName());
+      if (Types.isOptional(property.getTypeRef())) {
+        condition.append(".orElse(null)");
+      }
+      condition.append(")");
+    }
+
+    Method isUnchanged = new MethodBuilder()
+        .withNewModifiers().withProtected().endModifiers()
+        .withReturnType(Types.PRIMITIVE_BOOLEAN_REF)
+        .withName("isUnchanged")
+        .withNewBlock()
+        .addNewStringStatementStatement("return " + condition + ";")
+        .endBlock()
+        .build();
+
+    Method markUnchanged = new MethodBuilder()
+        .withNewModifiers().withProtected().endModifiers()
+        .withReturnType(new VoidRef())
+        .withName("markUnchanged")
+        .withNewBlock()
+        .addNewStringStatementStatement((hasFluentSuperClass ? "super.markUnchanged(); " : "") + "this." + UNCHANGED_FIELD
+            + " = true;")
+        .endBlock()
+        .build();
+    return Arrays.asList(isUnchanged, markUnchanged);
+  }
 }
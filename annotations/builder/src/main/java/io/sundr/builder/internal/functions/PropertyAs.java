@@ -16,7 +16,6 @@
 
 package io.sundr.builder.internal.functions;
 
-import static io.sundr.builder.Constants.INDEX;
 import static io.sundr.builder.Constants.OUTER_CLASS;
 import static io.sundr.builder.Constants.OUTER_INTERFACE;
 import static io.sundr.builder.internal.functions.TypeAs.UNWRAP_ARRAY_OF;
@@ -101,8 +100,8 @@ public final class PropertyAs {
         List<Property> argumentsWithoutItem = new ArrayList<Property>();
 
         if (isArray || isList) {
-          argumentsWithItem.add(INDEX);
-          properties.add(INDEX);
+          argumentsWithItem.add(BuilderUtils.indexOf(item));
+          properties.add(BuilderUtils.indexOf(item));
           statementsWithItem.add(new StringStatement("this.index = index;"));
           statementsWithoutItem.add(new StringStatement("this.index = -1;"));
         }
@@ -21,9 +21,9 @@ import static io.sundr.builder.Constants.DEPRECATED_ANNOTATION;
 import static io.sundr.builder.Constants.DESCENDANTS;
 import static io.sundr.builder.Constants.DESCENDANT_OF;
 import static io.sundr.builder.Constants.GENERIC_TYPE_REF;
-import static io.sundr.builder.Constants.INDEX;
 import static io.sundr.builder.Constants.OUTER_CLASS;
 import static io.sundr.builder.Constants.SIMPLE_ARRAY_GETTER_SNIPPET;
+import static io.sundr.builder.Constants.VISITABLE_SLOT;
 import static io.sundr.builder.internal.functions.TypeAs.ARRAY_OF;
 import static io.sundr.builder.internal.functions.TypeAs.BOXED_OF;
 import static io.sundr.builder.internal.functions.TypeAs.BUILDER;
@@ -36,6 +36,8 @@ import static io.sundr.builder.internal.functions.TypeAs.VISITABLE_BUILDER;
 import static io.sundr.builder.internal.functions.TypeAs.combine;
 import static io.sundr.builder.internal.utils.BuilderUtils.getInlineableConstructors;
 import static io.sundr.builder.internal.utils.BuilderUtils.isBuildable;
+import static io.sundr.builder.internal.utils.BuilderUtils.isDirectAcceptEnabled;
+import static io.sundr.builder.internal.utils.BuilderUtils.isUnmodifiableCollectionsEnabled;
 import static io.sundr.model.Attributeable.ALSO_IMPORT;
 import static io.sundr.model.Attributeable.INIT;
 import static io.sundr.model.Attributeable.INIT_FUNCTION;
@@ -46,7 +48,6 @@ import static io.sundr.model.utils.Collections.IS_LIST;
 import static io.sundr.model.utils.Collections.IS_MAP;
 import static io.sundr.model.utils.Collections.IS_SET;
 import static io.sundr.model.utils.Collections.LIST;
-import static io.sundr.model.utils.Types.BOOLEAN_REF;
 import static io.sundr.model.utils.Types.N_REF;
 import static io.sundr.model.utils.Types.Q;
 import static io.sundr.model.utils.Types.T_REF;
@@ -119,9 +120,9 @@ class ToMethod {
       return String.format(indexStatementFmt, property.getName());
     }
 
-    private void addIndexIfNeeded(MethodBuilder methodBuilder) {
+    private void addIndexIfNeeded(MethodBuilder methodBuilder, Property property) {
       if (appendIndexArg) {
-        methodBuilder.addToArguments(INDEX);
+        methodBuilder.addToArguments(BuilderUtils.indexOf(property));
       }
     }
 
@@ -176,7 +177,7 @@ class ToMethod {
           .withNewModifiers().withPublic().endModifiers()
           .withName(customizer.methodPrefix(property) + type.name + Singularize.FUNCTION.apply(property.getNameCapitalized()))
           .withReturnType(unwrapped);
-      type.addIndexIfNeeded(methodBuilder);
+      type.addIndexIfNeeded(methodBuilder, property);
 
       methodBuilder.withNewBlock()
           .withStatements(new StringStatement("return this." + property.getName() + ".get(" + type.indexStatement(property)
@@ -282,14 +283,14 @@ class ToMethod {
         fieldName = descendantOf.getName();
       }
 
-      if (isBuildable(unwrapped)) {
+      if (isBuildable(unwrapped) && !isDirectAcceptEnabled(property)) {
         if (IS_COLLECTION.apply(type)) {
-          statements.add(new StringStatement("if (this." + fieldName + " != null) { _visitables.get(\"" + fieldName
-              + "\").removeAll(this." + fieldName + ");}"));
+          statements.add(new StringStatement("if (this." + fieldName + " != null) { "
+              + visitablesIfPresent(property, fieldName) + ".removeAll(this." + fieldName + ");}"));
         } else if (IS_MAP.apply(type)) {
           // There is no such thing as buildable map yet.
         } else {
-          statements.add(new StringStatement("_visitables.get(\"" + fieldName + "\").remove(this." + fieldName + ");"));
+          statements.add(new StringStatement(visitablesIfPresent(property, fieldName) + ".remove(this." + fieldName + ");"));
         }
       }
 
@@ -299,11 +300,19 @@ class ToMethod {
             + ";} return (" + returnType + ") this;"));
         return statements;
       } else if (IS_LIST.apply(type) || IS_SET.apply(type)) {
-        String addToMethodName = "addTo" + property.getNameCapitalized();
+        if (!isBuildable(unwrapped) && descendants.isEmpty()) {
+          statements.add(new StringStatement("if (" + argumentName + " != null) {this." + fieldName + " = "
+              + property.getAttribute(INIT_FUNCTION).apply(Collections.singletonList(argumentName)) + ";} else { this."
+              + fieldName + " = null;} return (" + returnType + ") this;"));
+          return statements;
+        }
+        String addAllMethodName = "addAllTo"
+            + BuilderUtils.fullyQualifiedNameDiff(UNWRAP_COLLECTION_OF.apply(type),
+                property.getAttribute(Constants.ORIGIN_TYPEDEF))
+            + property.getNameCapitalized();
         statements.add(new StringStatement("if (" + argumentName + " != null) {this." + fieldName + " = "
-            + property.getAttribute(INIT_FUNCTION).apply(Collections.emptyList()) + "; for (" + unwrapped.toString()
-            + " item : " + argumentName + "){this." + addToMethodName + "(item);}} else { this." + fieldName
-            + " = null;} return (" + returnType + ") this;"));
+            + property.getAttribute(INIT_FUNCTION).apply(Collections.emptyList()) + "; this." + addAllMethodName + "("
+            + argumentName + ");} else { this." + fieldName + " = null;} return (" + returnType + ") this;"));
         return statements;
       }
 
@@ -312,9 +321,9 @@ class ToMethod {
         String builderClass = builder.toReference().getFullyQualifiedName();
         statements.add(new StringStatement(
             "if (" + argumentName + "!=null){ this." + fieldName + "= new " + builderClass + "(" + argumentName
-                + "); _visitables.get(\"" + fieldName + "\").add(this." + fieldName + ");}"
-                + " else { this." + fieldName + " = null; _visitables.get(\"" + fieldName + "\").remove(this." + fieldName
-                + "); }"
+                + "); " + visitables(property, fieldName, "add(this." + fieldName + ")") + "}"
+                + " else { this." + fieldName + " = null; " + visitables(property, fieldName, "remove(this." + fieldName + ")")
+                + " }"
                 + " return (" + returnType + ") this;"));
         return statements;
       }
@@ -327,8 +336,8 @@ class ToMethod {
           TypeDef builder = BUILDER.apply(GetDefinition.of((ClassRef) dunwraped));
           TypeRef builderRef = builder.toUnboundedReference();
           statements.add(new StringStatement("if (" + argumentName + " instanceof " + dunwraped + "){ this." + fieldName
-              + "= new " + builderRef + "((" + dunwraped + ")" + argumentName + "); _visitables.get(\"" + fieldName
-              + "\").add(this." + fieldName + ");}"));
+              + "= new " + builderRef + "((" + dunwraped + ")" + argumentName + "); "
+              + visitables(property, fieldName, "add(this." + fieldName + ")") + "}"));
 
           alsoImport.add((ClassRef) dunwraped);
           alsoImport.add((ClassRef) builderRef);
@@ -361,8 +370,11 @@ class ToMethod {
         .withNewBlock()
         .addNewStringStatementStatement(
             "if (this." + property.getName() + " != null) {this." + property.getName() + ".clear();}")
-        .addNewStringStatementStatement("if (" + property.getName() + " != null) {for (" + unwraped.toString() + " item :"
-            + property.getName() + "){ this." + addToMethodName + "(item);}} return (" + returnType + ") this;")
+        .addNewStringStatementStatement(isPrimitive(unwraped)
+            ? "if (" + property.getName() + " != null) {for (" + unwraped.toString() + " item :" + property.getName()
+                + "){ this." + addToMethodName + "(item);}} return (" + returnType + ") this;"
+            : "if (" + property.getName() + " != null) {this." + addToMethodName + "(" + property.getName()
+                + ");} return (" + returnType + ") this;")
         .endBlock()
         .build();
   });
@@ -381,10 +393,10 @@ class ToMethod {
 
     if (isBuildable(unwrapped) && !isAbstract(unwrapped)) {
       TypeDef builder = BUILDER.apply(GetDefinition.of((ClassRef) unwrapped));
-      prepareSource = builder.getName() + " b = new " + builder.getName() + "(" + fieldName + "); _visitables.get(\""
-          + fieldName + "\").add(b);";
-      prepareOptionalSource = builder.getName() + " b = new " + builder.getName() + "(" + fieldName
-          + ".get()); _visitables.get(\"" + fieldName + "\").add(b);";
+      prepareSource = builder.getName() + " b = new " + builder.getName() + "(" + fieldName + "); "
+          + visitables(property, fieldName, "add(b)");
+      prepareOptionalSource = builder.getName() + " b = new " + builder.getName() + "(" + fieldName + ".get()); "
+          + visitables(property, fieldName, "add(b)");
       optionalSource = "Optional.of(b)";
       source = "b";
     }
@@ -441,7 +453,7 @@ class ToMethod {
     return new MethodBuilder()
         .withNewModifiers().withPublic().endModifiers()
         .withName(methodName)
-        .withReturnType(BOOLEAN_REF)
+        .withReturnType(BuilderUtils.booleanOf(property))
         .withArguments()
         .withNewBlock()
         .withStatements(statements)
@@ -467,6 +479,8 @@ class ToMethod {
     boolean isAbstractSet = isSet && Types.isAbstract(property.getTypeRef());
     boolean isOptional = isOptional(property.getTypeRef()) || isOptionalDouble(property.getTypeRef())
         || isOptionalInt(property.getTypeRef()) || isOptionalLong(property.getTypeRef());
+    //Only collections declared as List or Set can be replaced by unmodifiable ones
+    boolean isUnmodifiable = (isAbstractList || isAbstractSet) && isUnmodifiableCollectionsEnabled(property);
 
     TreeSet<Property> descendants = new TreeSet<>(Comparator.comparing(Property::getName));
     descendants.addAll(Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(property));
@@ -479,7 +493,9 @@ class ToMethod {
       comments.add("This method has been deprecated, please use method " + builderName + " instead.");
       comments.add("@return The buildable object.");
       if (isList || isSet) {
-        if (isAbstractList || isAbstractSet) {
+        if (isUnmodifiable) {
+          statements.add(new StringStatement("return buildUnmodifiable(" + property.getName() + ");"));
+        } else if (isAbstractList || isAbstractSet) {
           statements.add(
               new StringStatement("return " + property.getName() + " != null ? build(" + property.getName() + ") : null;"));
         } else {
@@ -502,11 +518,14 @@ class ToMethod {
       comments.add("This method has been deprecated, please use method " + builderName + " instead.");
       comments.add("@return The buildable object.");
       if (isList || isSet) {
-        statements.add(new StringStatement("return build(" + property.getName() + ");"));
+        statements.add(new StringStatement(
+            "return " + (isUnmodifiable ? "buildUnmodifiable(" : "build(") + property.getName() + ");"));
       } else {
         statements.add(
             new StringStatement("return this." + property.getName() + "!=null?this." + property.getName() + ".build():null;"));
       }
+    } else if (isUnmodifiable) {
+      statements.add(new StringStatement("return unmodifiableCopy(this." + property.getName() + ");"));
     } else {
       statements.add(new StringStatement("return this." + property.getName() + ";"));
     }
@@ -542,15 +561,17 @@ class ToMethod {
       if (isList || isSet) {
         methods.add(MatchingType.BUILD.method(property, unwrapped, predicate, builderRef, Collections.emptyList(),
             Collections.emptyList()));
-        methods.add(MatchingType.HAS.method(property, BOOLEAN_REF, predicate, builderRef, Collections.emptyList(),
-            Collections.emptyList()));
+        methods.add(
+            MatchingType.HAS.method(property, BuilderUtils.booleanOf(property), predicate, builderRef, Collections.emptyList(),
+                Collections.emptyList()));
       }
     } else if (isList) {
       methods.add(GET_INDEXED.method(property, unwrapped));
       methods.add(GET_FIRST.method(property, unwrapped));
       methods.add(GET_LAST.method(property, unwrapped));
       methods.add(MatchingType.GET.method(property, unwrapped, predicate, unwrapped, annotations, Collections.emptyList()));
-      methods.add(MatchingType.HAS.method(property, BOOLEAN_REF, predicate, unwrapped, annotations, Collections.emptyList()));
+      methods.add(MatchingType.HAS.method(property, BuilderUtils.booleanOf(property), predicate, unwrapped, annotations,
+          Collections.emptyList()));
     }
     return methods;
   });
@@ -615,8 +636,9 @@ class ToMethod {
       methods.add(MatchingType.BUILD.method(property, unwrapped, predicate, builderRef, Collections.emptyList(),
           Collections.emptyList()));
 
-      methods.add(MatchingType.HAS.method(property, BOOLEAN_REF, predicate, builderRef, Collections.emptyList(),
-          Collections.emptyList()));
+      methods.add(
+          MatchingType.HAS.method(property, BuilderUtils.booleanOf(property), predicate, builderRef, Collections.emptyList(),
+              Collections.emptyList()));
     }
     return methods;
   });
@@ -658,7 +680,8 @@ class ToMethod {
           }
 
           Method addSingleItemAtIndex = new MethodBuilder().withNewModifiers().withPublic().endModifiers()
-              .withParameters(parameters).withName(addVarargMethodName).withReturnType(returnType).addToArguments(INDEX)
+              .withParameters(parameters).withName(addVarargMethodName).withReturnType(returnType)
+              .addToArguments(BuilderUtils.indexOf(property))
               .addToArguments(unwrappedProperty).withNewBlock()
               .withStatements(
                   new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
@@ -668,7 +691,8 @@ class ToMethod {
               .endBlock().addToAttributes(Attributeable.ALSO_IMPORT, alsoImport).build();
 
           Method setSingleItemAtIndex = new MethodBuilder().withNewModifiers().withPublic().endModifiers()
-              .withParameters(parameters).withName(setMethodName).withReturnType(returnType).addToArguments(INDEX)
+              .withParameters(parameters).withName(setMethodName).withReturnType(returnType)
+              .addToArguments(BuilderUtils.indexOf(property))
               .addToArguments(unwrappedProperty).withNewBlock()
               .withStatements(
                   new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
@@ -676,10 +700,10 @@ class ToMethod {
                   new StringStatement("this." + propertyName + ".set(index, item); return (" + returnType + ")this;"))
               .endBlock().addToAttributes(Attributeable.ALSO_IMPORT, alsoImport).build();
 
-          List<Statement> statements = new ArrayList<>();
-
-          List<Statement> varArgInit = new ArrayList<>();
-          List<Statement> collectionInit = new ArrayList<>();
+          List<Statement> varArgStatements = new ArrayList<>();
+          List<Statement> collectionStatements = new ArrayList<>();
+          List<Statement> streamStatements = new ArrayList<>();
+          String streamItems = "(Iterable<" + unwrapped + ">) items::iterator";
 
           if (isBuildable(unwrapped)) {
             TypeDef originalDef = GetDefinition.of((ClassRef) unwrapped);
@@ -690,47 +714,60 @@ class ToMethod {
 
             //We need to do it more
             alsoImport.add(BUILDER.apply(GetDefinition.of(targetType)).toInternalReference());
-            statements.add(new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
-                + property.getAttribute(LAZY_INIT) + ";}"));
-            statements.add(new StringStatement("for (" + ((ClassRef) unwrapped).getFullyQualifiedName() + " item : items) {"
-                + builderClass + " builder = new " + builderClass + "(item);_visitables.get(\"" + propertyName
-                + "\").add(builder);this." + propertyName + ".add(builder);} return (" + returnType + ")this;"));
+            if (!isDirectAcceptEnabled(property)) {
+              ClassRef visitableRef = BuilderContextManager.getContext().getVisitableInterface().toInternalReference();
+              alsoImport.add(visitableRef);
+              alsoImport.add(LIST.toReference(visitableRef));
+            }
+            varArgStatements.addAll(addAllBuildables(property, propertyName, builderClass, "items", "items.length"));
+            collectionStatements.addAll(addAllBuildables(property, propertyName, builderClass, "items", "items.size()"));
+            streamStatements.addAll(addAllBuildables(property, propertyName, builderClass, streamItems, null));
 
             addSingleItemAtIndex = new MethodBuilder(addSingleItemAtIndex).withParameters(parameters).editBlock()
                 .withStatements(
                     new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
                         + property.getAttribute(LAZY_INIT) + ";}"),
-                    new StringStatement(builderClass + " builder = new " + builderClass + "(item);_visitables.get(\""
-                        + propertyName + "\").add(index >= 0 ? index : _visitables.get(\"" + propertyName
-                        + "\").size(), builder);this." + propertyName + ".add(index >= 0 ? index : " + propertyName
-                        + ".size(), builder); return (" + returnType + ")this;"))
+                    new StringStatement(builderClass + " builder = new " + builderClass + "(item);"
+                        + visitables(property, propertyName,
+                            "add(index >= 0 ? index : " + visitablesOf(property, propertyName) + ".size(), builder)")
+                        + "this." + propertyName + ".add(index >= 0 ? index : " + propertyName + ".size(), builder); return ("
+                        + returnType + ")this;"))
                 .endBlock().build();
 
+            List<Statement> setStatements = new ArrayList<>();
+            setStatements.add(new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
+                + property.getAttribute(LAZY_INIT) + ";}"));
+            setStatements.add(new StringStatement(builderClass + " builder = new " + builderClass + "(item);"));
+            if (!isDirectAcceptEnabled(property)) {
+              String visitables = visitablesOf(property, propertyName);
+              setStatements.add(new StringStatement("if (index < 0 || index >= " + visitables + ".size()) { " + visitables
+                  + ".add(builder); } else { " + visitables + ".set(index, builder);}"));
+            }
+            setStatements.add(new StringStatement("if (index < 0 || index >= " + propertyName + ".size()) { " + propertyName
+                + ".add(builder); } else { " + propertyName + ".set(index, builder);}"));
+            setStatements.add(new StringStatement(" return (" + returnType + ")this;"));
+
             setSingleItemAtIndex = new MethodBuilder(setSingleItemAtIndex).withParameters(parameters).editBlock()
-                .withStatements(
-                    new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
-                        + property.getAttribute(LAZY_INIT) + ";}"),
-                    new StringStatement(builderClass + " builder = new " + builderClass + "(item);"),
-                    new StringStatement("if (index < 0 || index >= _visitables.get(\"" + propertyName
-                        + "\").size()) { _visitables.get(\"" + propertyName + "\").add(builder); } else { _visitables.get(\""
-                        + propertyName + "\").set(index, builder);}"),
-                    new StringStatement("if (index < 0 || index >= " + propertyName + ".size()) { " + propertyName
-                        + ".add(builder); } else { " + propertyName + ".set(index, builder);}"),
-                    new StringStatement(" return (" + returnType + ")this;"))
+                .withStatements(setStatements)
                 .endBlock().build();
 
           } else if (!descendants.isEmpty()) {
             final ClassRef targetType = (ClassRef) unwrapped;
             parameters.addAll(GetDefinition.of(targetType).getParameters());
-            varArgInit.add(new StringStatement(" if (items != null && items.length > 0 && this." + propertyName
+            varArgStatements.add(new StringStatement(" if (items != null && items.length > 0 && this." + propertyName
                 + "== null) {this." + propertyName + " = new ArrayList<VisitableBuilder<? extends " + targetType + ",?>>();}"));
-            collectionInit.add(new StringStatement(" if (items != null && items.size() > 0 && this." + propertyName
+            collectionStatements.add(new StringStatement(" if (items != null && items.size() > 0 && this." + propertyName
                 + "== null) {this." + propertyName + " = new ArrayList<VisitableBuilder<? extends " + targetType + ",?>>();}"));
+            streamStatements.add(new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
+                + property.getAttribute(LAZY_INIT) + ";}"));
 
-            statements.add(new StringStatement("for (" + targetType.toString() + " item : items) { "));
-            statements.add(createAddToDescendants("addTo", descendants, false));
-            statements.add(createAddToDescendantsFallback(targetType.getFullyQualifiedName(), propertyName));
-            statements.add(new StringStatement("} return (" + returnType + ")this;"));
+            for (List<Statement> statements : Arrays.asList(varArgStatements, collectionStatements, streamStatements)) {
+              statements.add(new StringStatement("for (" + targetType.toString() + " item : "
+                  + (statements == streamStatements ? streamItems : "items") + ") { "));
+              statements.add(createAddToDescendants("addTo", descendants, false));
+              statements.add(createAddToDescendantsFallback(targetType.getFullyQualifiedName(), property));
+              statements.add(new StringStatement("} return (" + returnType + ")this;"));
+            }
 
             addSingleItemAtIndex = new MethodBuilder(addSingleItemAtIndex).withParameters(parameters).editBlock()
                 .withStatements(createAddToDescendants("addTo", descendants, true),
@@ -747,35 +784,54 @@ class ToMethod {
                 .addToStatements(
                     new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
                         + property.getAttribute(LAZY_INIT) + ";}"),
-                    new StringStatement("_visitables.get(\"" + propertyName + "\").add(builder);this." + propertyName
+                    new StringStatement(visitables(property, propertyName, "add(builder)") + "this." + propertyName
                         + ".add(builder); return (" + returnType + ")this;"))
                 .endBlock().build());
 
             methods.add(new MethodBuilder().withNewModifiers().withPublic().endModifiers().withParameters(parameters)
-                .withName(addVarargMethodName).withReturnType(returnType).withArguments(INDEX, builderProperty).withNewBlock()
+                .withName(addVarargMethodName).withReturnType(returnType)
+                .withArguments(BuilderUtils.indexOf(property), builderProperty).withNewBlock()
                 .addToStatements(
                     new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
                         + property.getAttribute(LAZY_INIT) + ";}"),
-                    new StringStatement("_visitables.get(\"" + propertyName + "\").add(index, builder);this." + propertyName
+                    new StringStatement(visitables(property, propertyName, "add(index, builder)") + "this." + propertyName
                         + ".add(index, builder); return (" + returnType + ")this;"))
                 .endBlock().build());
 
           } else {
-            statements.add(new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
-                + property.getAttribute(LAZY_INIT) + ";}"));
-            statements.add(new StringStatement("for (" + unwrapped.toString() + " item : items) {this." + property.getName()
-                + ".add(item);} return (" + returnType + ")this;"));
+            String lazyInit = "if (this." + propertyName + " == null) {this." + propertyName + " = "
+                + property.getAttribute(LAZY_INIT) + ";}";
+            alsoImport.add(new ClassRefBuilder().withFullyQualifiedName("java.util.Arrays").build());
+            varArgStatements.add(new StringStatement(lazyInit));
+            varArgStatements.add(new StringStatement("this." + propertyName + ".addAll(Arrays.asList(items)); return ("
+                + returnType + ")this;"));
+            collectionStatements.add(new StringStatement(lazyInit));
+            collectionStatements.add(new StringStatement("this." + propertyName + ".addAll(items); return ("
+                + returnType + ")this;"));
+            streamStatements.add(new StringStatement(lazyInit));
+            streamStatements.add(new StringStatement("for (" + unwrapped + " item : " + streamItems + ") {this."
+                + propertyName + ".add(item);} return (" + returnType + ")this;"));
           }
 
           Method addVaragToCollection = new MethodBuilder().withNewModifiers().withPublic().endModifiers()
               .withParameters(parameters).withName(addVarargMethodName).withReturnType(returnType).withArguments(item)
-              .withVarArgPreferred(true).withNewBlock().addAllToStatements(varArgInit).addAllToStatements(statements).endBlock()
+              .withVarArgPreferred(true).withNewBlock().addAllToStatements(varArgStatements).endBlock()
               .addToAttributes(Attributeable.ALSO_IMPORT, alsoImport).build();
 
           Method addAllToCollection = new MethodBuilder().withNewModifiers().withPublic().endModifiers()
               .withParameters(parameters).withName(addAllMethodName).withReturnType(returnType)
               .withArguments(new PropertyBuilder(item).withTypeRef(COLLECTION.toReference(unwrapped)).build()).withNewBlock()
-              .addAllToStatements(collectionInit).addAllToStatements(statements).endBlock()
+              .addAllToStatements(collectionStatements).endBlock()
+              .addToAttributes(Attributeable.ALSO_IMPORT, alsoImport).build();
+
+          //A distinct name, so that passing null to the collection overload doesn't become ambiguous
+          Method addStreamToCollection = new MethodBuilder().withNewModifiers().withPublic().endModifiers()
+              .withParameters(parameters).withName(addAllMethodName + "FromStream").withReturnType(returnType)
+              .withArguments(new PropertyBuilder(item).withTypeRef(
+                  new ClassRefBuilder().withFullyQualifiedName("java.util.stream.Stream").withArguments(unwrapped).build())
+                  .build())
+              .withNewBlock()
+              .addAllToStatements(streamStatements).endBlock()
               .addToAttributes(Attributeable.ALSO_IMPORT, alsoImport).build();
 
           if (io.sundr.model.utils.Collections.IS_LIST.apply(property.getTypeRef())) {
@@ -784,10 +840,46 @@ class ToMethod {
           }
           methods.add(addVaragToCollection);
           methods.add(addAllToCollection);
+          methods.add(addStreamToCollection);
 
           return methods;
         }
 
+        /**
+         * Add a batch of items to a buildable collection.
+         * The visitables of the property are looked up once and, when the size of the batch is known, both the field and
+         * the visitables are sized upfront.
+         */
+        private List<Statement> addAllBuildables(Property property, String propertyName, String builderClass, String items,
+            String size) {
+          TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
+          TypeRef unwrapped = BOXED_OF.apply(combine(UNWRAP_COLLECTION_OF).apply(property.getTypeRef()));
+          TypeRef fieldType = property.hasAttribute(DESCENDANT_OF)
+              ? ((Property) property.getAttribute(DESCENDANT_OF)).getTypeRef()
+              : property.getTypeRef();
+          boolean isArrayList = isList(fieldType) && (isAbstract(fieldType)
+              || (fieldType instanceof ClassRef
+                  && ((ClassRef) fieldType).getFullyQualifiedName().equals("java.util.ArrayList")));
+
+          List<Statement> statements = new ArrayList<>();
+          statements.add(new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
+              + property.getAttribute(LAZY_INIT) + ";}"));
+          if (isArrayList && size != null) {
+            statements.add(new StringStatement("this." + propertyName + ".ensureCapacity(this." + propertyName + ".size() + "
+                + size + ");"));
+          }
+          String register = "";
+          if (!isDirectAcceptEnabled(property)) {
+            statements.add(new StringStatement("List<Visitable> visitables = _visitables(" + slotOf(property) + ", \""
+                + propertyName + "\"" + (size != null ? ", " + size : "") + ");"));
+            register = "visitables.add(builder);";
+          }
+          statements.add(new StringStatement("for (" + ((ClassRef) unwrapped).getFullyQualifiedName() + " item : " + items
+              + ") {" + builderClass + " builder = new " + builderClass + "(item);" + register + "this." + propertyName
+              + ".add(builder);} return (" + returnType + ")this;"));
+          return statements;
+        }
+
         private Statement createAddToDescendants(final String prefix, Set<Property> descendants, final boolean useIndex) {
           return new StringStatement(Strings.join(descendants, item -> {
             TypeRef itemRef = combine(UNWRAP_COLLECTION_OF, ARRAY_OF, UNWRAP_OPTIONAL_OF).apply(item.getTypeRef());
@@ -798,10 +890,11 @@ class ToMethod {
           }, " else "));
         }
 
-        private Statement createAddToDescendantsFallback(String type, String name) {
+        private Statement createAddToDescendantsFallback(String type, Property property) {
+          String name = property.getName();
           return new StringStatement(
-              "else {  VisitableBuilder<? extends " + type + ",?> builder = builderOf(item); _visitables.get(\"" + name
-                  + "\").add(builder);this." + name + ".add(builder); }");
+              "else {  VisitableBuilder<? extends " + type + ",?> builder = builderOf(item); "
+                  + visitables(property, name, "add(builder)") + "this." + name + ".add(builder); }");
         }
       });
 
@@ -830,6 +923,8 @@ class ToMethod {
 
           String propertyName = property.getName();
           List<Statement> statements = new ArrayList<>();
+          List<Statement> varArgStatements = new ArrayList<>();
+          List<Statement> collectionStatements = new ArrayList<>();
           Set<Property> descendants = Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(property);
           if (isBuildable(unwrapped) && !isAbstract(unwrapped)) {
             final ClassRef targetType = (ClassRef) unwrapped;
@@ -846,9 +941,9 @@ class ToMethod {
             //We need to do it more elegantly
             alsoImport.add(BUILDER.apply(GetDefinition.of(targetType)).toInternalReference());
             alsoImport.add(LIST.toInternalReference());
-            statements.add(new StringStatement("for (" + targetClass + " item : items) {" + builderClass + " builder = new "
-                + builderClass + "(item);_visitables.get(\"" + propertyName + "\").remove(builder);if (this." + propertyName
-                + " != null) {this." + propertyName + ".remove(builder);}} return (" + returnType + ")this;"));
+            alsoImport.add(io.sundr.model.utils.Collections.ARRAY_LIST.toInternalReference());
+            varArgStatements.addAll(removeAllBuildables(property, propertyName, builderClass, "items.length"));
+            collectionStatements.addAll(removeAllBuildables(property, propertyName, builderClass, "items.size()"));
           } else if (!descendants.isEmpty()) {
             final ClassRef targetType = (ClassRef) unwrapped;
             parameters.addAll(GetDefinition.of(targetType).getParameters());
@@ -860,30 +955,37 @@ class ToMethod {
                   return "if (item instanceof " + className + "){" + removeFromMethodName + "((" + className + ")item);}\n";
                 }, " else ")));
 
-            statements.add(createRemoveFromDescendantsFallback(targetType.getFullyQualifiedName(), property.getName()));
+            statements.add(createRemoveFromDescendantsFallback(targetType.getFullyQualifiedName(), property));
             statements.add(new StringStatement("} return (" + returnType + ")this;"));
+            varArgStatements.addAll(statements);
+            collectionStatements.addAll(statements);
 
             methods.add(new MethodBuilder().withNewModifiers().withPublic().endModifiers().withParameters(parameters)
                 .withName(removeVarargMethodName).withReturnType(returnType).withArguments(builderProperty).withNewBlock()
                 .addToStatements(
                     new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
                         + property.getAttribute(LAZY_INIT) + ";}"),
-                    new StringStatement("_visitables.get(\"" + propertyName + "\").remove(builder);this." + propertyName
+                    new StringStatement(visitables(property, propertyName, "remove(builder)") + "this." + propertyName
                         + ".remove(builder); return (" + returnType + ")this;"))
                 .endBlock().build());
           } else {
-            statements.add(new StringStatement("for (" + unwrapped.toString() + " item : items) {if (this." + property.getName()
-                + "!= null){ this." + property.getName() + ".remove(item);}} return (" + returnType + ")this;"));
+            alsoImport.add(new ClassRefBuilder().withFullyQualifiedName("java.util.Arrays").build());
+            varArgStatements
+                .add(new StringStatement("removeEach(this." + property.getName() + ", Arrays.asList(items)); return ("
+                    + returnType + ")this;"));
+            collectionStatements.add(new StringStatement("removeEach(this." + property.getName() + ", items); return ("
+                + returnType + ")this;"));
           }
 
           Method removeVarargFromCollection = new MethodBuilder().withNewModifiers().withPublic().endModifiers()
               .withName(removeVarargMethodName).withParameters(parameters).withReturnType(returnType).withArguments(item)
-              .withVarArgPreferred(true).withNewBlock().withStatements(statements).endBlock().build();
+              .withVarArgPreferred(true).withNewBlock().withStatements(varArgStatements).endBlock()
+              .addToAttributes(Attributeable.ALSO_IMPORT, alsoImport).build();
 
           Method removeAllFromCollection = new MethodBuilder().withNewModifiers().withPublic().endModifiers()
               .withParameters(parameters).withName(removeAllMethdoName).withReturnType(returnType)
               .withArguments(new PropertyBuilder(item).withTypeRef(COLLECTION.toReference(unwrapped)).build()).withNewBlock()
-              .withStatements(statements).endBlock().addToAttributes(Attributeable.ALSO_IMPORT, alsoImport).build();
+              .withStatements(collectionStatements).endBlock().addToAttributes(Attributeable.ALSO_IMPORT, alsoImport).build();
 
           methods.add(removeVarargFromCollection);
           methods.add(removeAllFromCollection);
@@ -897,15 +999,7 @@ class ToMethod {
                   .withPublic().endModifiers().withReturnType(returnType).withParameters(parameters)
                   .withName(removeMatchingMethodName).addNewArgument().withName("predicate")
                   .withTypeRef(Constants.PREDICATE.toReference(builder)).endArgument().withNewBlock()
-                  .addNewStringStatementStatement("if (" + propertyName + " == null) return (" + returnType + ") this;")
-                  .addNewStringStatementStatement("final Iterator<" + builder + "> each = " + propertyName + ".iterator();")
-                  .addNewStringStatementStatement("final List visitables = _visitables.get(\"" + propertyName + "\");")
-                  .addNewStringStatementStatement("while (each.hasNext()) {")
-                  .addNewStringStatementStatement("  " + builder + " builder = each.next();")
-                  .addNewStringStatementStatement("  if (predicate.test(builder)) {")
-                  .addNewStringStatementStatement("    visitables.remove(builder);")
-                  .addNewStringStatementStatement("    each.remove();").addNewStringStatementStatement("  }")
-                  .addNewStringStatementStatement("}").addNewStringStatementStatement("return (" + returnType + ")this;")
+                  .withStatements(createRemoveMatchingStatements(property, propertyName, builder, returnType))
                   .endBlock().build());
             } else {
               ClassRef fluentType = FLUENT_REF.apply(GetDefinition.of((ClassRef) unwrapped));
@@ -919,15 +1013,7 @@ class ToMethod {
                   .withPublic().endModifiers().withReturnType(returnType).withParameters(parameters)
                   .withName(removeMatchingMethodName).addNewArgument().withName("predicate")
                   .withTypeRef(Constants.PREDICATE.toReference(builderType)).endArgument().withNewBlock()
-                  .addNewStringStatementStatement("if (" + propertyName + " == null) return (" + returnType + ") this;")
-                  .addNewStringStatementStatement("final Iterator<" + builderType + "> each = " + propertyName + ".iterator();")
-                  .addNewStringStatementStatement("final List visitables = _visitables.get(\"" + propertyName + "\");")
-                  .addNewStringStatementStatement("while (each.hasNext()) {")
-                  .addNewStringStatementStatement("  " + builderType + " builder = each.next();")
-                  .addNewStringStatementStatement("  if (predicate.test(builder)) {")
-                  .addNewStringStatementStatement("    visitables.remove(builder);")
-                  .addNewStringStatementStatement("    each.remove();").addNewStringStatementStatement("  }")
-                  .addNewStringStatementStatement("}").addNewStringStatementStatement("return (" + returnType + ")this;")
+                  .withStatements(createRemoveMatchingStatements(property, propertyName, builderType, returnType))
                   .endBlock().build());
             }
 
@@ -935,10 +1021,42 @@ class ToMethod {
           return methods;
         }
 
-        private Statement createRemoveFromDescendantsFallback(String type, String name) {
+        private List<Statement> createRemoveMatchingStatements(Property property, String propertyName, TypeRef builderType,
+            TypeRef returnType) {
+          List<Statement> statements = new ArrayList<>();
+          statements.add(new StringStatement("if (" + propertyName + " == null) return (" + returnType + ") this;"));
+          statements.add(new StringStatement("removeMatching(" + propertyName + ", "
+              + (isDirectAcceptEnabled(property) ? "null" : visitablesIfPresent(property, propertyName)) + ", predicate);"));
+          statements.add(new StringStatement("return (" + returnType + ")this;"));
+          return statements;
+        }
+
+        /**
+         * Remove a batch of items from a buildable collection.
+         * The builders of the items are collected first, so that they can be removed in a single pass.
+         */
+        private List<Statement> removeAllBuildables(Property property, String propertyName, String builderClass,
+            String size) {
+          TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
+          TypeRef unwrapped = BOXED_OF.apply(combine(UNWRAP_COLLECTION_OF).apply(property.getTypeRef()));
+          List<Statement> statements = new ArrayList<>();
+          statements.add(new StringStatement("if (this." + propertyName + " == null) return (" + returnType + ") this;"));
+          statements.add(new StringStatement("List<" + builderClass + "> builders = new ArrayList<" + builderClass + ">(" + size
+              + ");"));
+          statements.add(new StringStatement("for (" + ((ClassRef) unwrapped).getFullyQualifiedName() + " item : items) {"
+              + "builders.add(new " + builderClass + "(item));}"));
+          statements.add(new StringStatement("removeEach(this." + propertyName + ", "
+              + (isDirectAcceptEnabled(property) ? "" : visitablesIfPresent(property, propertyName) + ", ")
+              + "builders); return ("
+              + returnType + ")this;"));
+          return statements;
+        }
+
+        private Statement createRemoveFromDescendantsFallback(String type, Property property) {
+          String name = property.getName();
           return new StringStatement(
-              "else {  VisitableBuilder<? extends " + type + ",?> builder = builderOf(item); _visitables.get(\"" + name
-                  + "\").remove(builder);this." + name + ".remove(builder); }");
+              "else {  VisitableBuilder<? extends " + type + ",?> builder = builderOf(item); "
+                  + visitables(property, name, "remove(builder)") + "this." + name + ".remove(builder); }");
         }
       });
 
@@ -1403,7 +1521,7 @@ class ToMethod {
     ClassRef rewrapedImpl = nestedTypeImpl.toReference(typeArguments);
 
     return new MethodBuilder(method)
-        .addToArguments(0, INDEX)
+        .addToArguments(0, BuilderUtils.indexOf(property))
         .withName(method.getName().replaceFirst("add", "set"))
         .editBlock()
         .withStatements(new StringStatement("return new " + rewrapedImpl.getFullyQualifiedName() + "(index, item);"))
@@ -1461,7 +1579,7 @@ class ToMethod {
     if (isList(property.getTypeRef()) || isArray(property.getTypeRef())) {
       String suffix = Singularize.FUNCTION.apply(property.getNameCapitalized());
       methods.add(new MethodBuilder(base)
-          .withArguments(INDEX)
+          .withArguments(BuilderUtils.indexOf(property))
           .withName("edit" + suffix)
           .editBlock()
           .withStatements(
@@ -1517,6 +1635,73 @@ class ToMethod {
     return methods;
   };
 
+  static final Function<Property, List<Method>> KEYED = property -> {
+    List<Method> methods = new ArrayList<>();
+    Property key = BuilderUtils.getKeyProperty(property);
+    if (key == null) {
+      return methods;
+    }
+
+    TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
+    TypeRef unwrapped = combine(UNWRAP_ARRAY_OF, UNWRAP_COLLECTION_OF).apply(property.getTypeRef());
+    Property keyArgument = new PropertyBuilder().withName("key").withTypeRef(BOXED_OF.apply(key.getTypeRef())).build();
+    String suffix = Singularize.FUNCTION.apply(property.getNameCapitalized());
+    String byKey = "By" + key.getNameCapitalized();
+    String indexOf = "int index = indexOf" + suffix + byKey + "(key);";
+    String propertyName = property.getName();
+
+    methods.add(new MethodBuilder()
+        .withNewModifiers().withPublic().endModifiers()
+        .withReturnType(unwrapped)
+        .withName("build" + suffix + byKey)
+        .withArguments(keyArgument)
+        .withNewBlock()
+        .addNewStringStatementStatement(indexOf)
+        .addNewStringStatementStatement("return index < 0 ? null : this." + propertyName + ".get(index).build();")
+        .endBlock()
+        .build());
+
+    methods.add(new MethodBuilder()
+        .withNewModifiers().withPublic().endModifiers()
+        .withReturnType(BuilderUtils.booleanOf(property))
+        .withName("has" + suffix + byKey)
+        .withArguments(keyArgument)
+        .withNewBlock()
+        .addNewStringStatementStatement("return indexOf" + suffix + byKey + "(key) >= 0;")
+        .endBlock()
+        .build());
+
+    EDIT_NESTED.apply(property).stream()
+        .filter(m -> m.getName().equals("edit" + suffix))
+        .findFirst()
+        .ifPresent(edit -> methods.add(new MethodBuilder(edit)
+            .withName("edit" + suffix + byKey)
+            .withArguments(keyArgument)
+            .editBlock()
+            .withStatements(
+                new StringStatement(indexOf),
+                new StringStatement("if (index < 0) throw new RuntimeException(\"Can't edit " + propertyName
+                    + ". No match found for key: \" + key + \".\");"),
+                new StringStatement("return setNew" + suffix + "Like(index, build" + suffix + "(index));"))
+            .endBlock()
+            .build()));
+
+    String builderClass = ((ClassRef) unwrapped).getFullyQualifiedName() + "Builder";
+    methods.add(new MethodBuilder()
+        .withNewModifiers().withPublic().endModifiers()
+        .withReturnType(returnType)
+        .withName("removeFrom" + property.getNameCapitalized() + byKey)
+        .withArguments(keyArgument)
+        .withNewBlock()
+        .addNewStringStatementStatement(indexOf)
+        .addNewStringStatementStatement("if (index >= 0) { " + builderClass + " builder = this." + propertyName
+            + ".remove(index); " + visitables(property, propertyName, "remove(builder)") + " }")
+        .addNewStringStatementStatement("return (" + returnType + ") this;")
+        .endBlock()
+        .build());
+    return methods;
+  };
+
   static final Function<Property, Method> AND = new Function<Property, Method>() {
     public Method apply(Property property) {
       String classPrefix = getClassPrefix(property);
@@ -1579,4 +1764,57 @@ class ToMethod {
         .endBlock()
         .build();
   });
+
+  /**
+   * Creates the statement that keeps the visitables of the fluent in sync with the field of a buildable property.
+   * The statement is empty, when the fluent visits its fields directly.
+   *
+   * @param property the property.
+   * @param fieldName the name of the field.
+   * @param operation the operation to apply to the visitables of the field (e.g. add(builder)).
+   * @return the statement or an empty string.
+   */
+  private static String visitables(Property property, String fieldName, String operation) {
+    if (isDirectAcceptEnabled(property)) {
+      return "";
+    }
+    return (operation.startsWith("remove") ? visitablesIfPresent(property, fieldName) : visitablesOf(property, fieldName))
+        + "." + operation + ";";
+  }
+
+  /**
+   * Creates the expression that gets the visitables of a field, creating them if needed.
+   *
+   * @param property the property.
+   * @param fieldName the name of the field.
+   * @return the expression.
+   */
+  private static String visitablesOf(Property property, String fieldName) {
+    return "_visitables(" + slotOf(property) + ", \"" + fieldName + "\")";
+  }
+
+  /**
+   * Creates the expression that gets the visitables of a field, without creating them.
+   * Removals use it, so that removing from an empty fluent doesn't allocate.
+   *
+   * @param property the property.
+   * @param fieldName the name of the field.
+   * @return the expression.
+   */
+  private static String visitablesIfPresent(Property property, String fieldName) {
+    return "_visitablesIfPresent(" + slotOf(property) + ", \"" + fieldName + "\")";
+  }
+
+  /**
+   * Get the slot of a property in the visitables of the fluent.
+   * Descendants share the slot of the property they descend from. The slot is only a hint, so properties without one
+   * use the first slot.
+   *
+   * @param property the property.
+   * @return the slot.
+   */
+  private static int slotOf(Property property) {
+    Property slotted = property.hasAttribute(DESCENDANT_OF) ? property.getAttribute(DESCENDANT_OF) : property;
+    return slotted.hasAttribute(VISITABLE_SLOT) ? slotted.getAttribute(VISITABLE_SLOT) : 0;
+  }
 }
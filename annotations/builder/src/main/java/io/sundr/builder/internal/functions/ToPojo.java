@@ -89,6 +89,7 @@ import io.sundr.utils.Strings;
 public class ToPojo implements Function<RichTypeDef, TypeDef> {
 
   private static final String TO_STRING_ARRAY_TEXT = loadResourceQuietly(TO_STRING_ARRAY_SNIPPET);
+  private static final String HASH_CODE_FIELD = "_hashCode";
 
   //A stack of variable names to be used for lambda expressions.
   //We need them because nested lambdas may clash.
@@ -164,6 +165,7 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
     boolean autobox = false;
     boolean initialize = false;
     boolean mutable = false;
+    boolean cacheHashCode = false;
 
     final List adapters = new ArrayList();
 
@@ -181,6 +183,9 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
           if (params.containsKey("mutable")) {
             mutable = Boolean.parseBoolean(String.valueOf(r.getParameters().getOrDefault("mutable", false)));
           }
+          if (params.containsKey("cacheHashCode")) {
+            cacheHashCode = Boolean.parseBoolean(String.valueOf(r.getParameters().getOrDefault("cacheHashCode", false)));
+          }
           if (params.containsKey("autobox")) {
             autobox = Boolean.parseBoolean(String.valueOf(r.getParameters().getOrDefault("autobox", false)));
           }
@@ -461,6 +466,8 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
         .build();
 
     TypeDef pojoBuilder = BUILDER.apply(TypeArguments.apply(generatedPojo));
+    //Only immutable pojos can keep their hash code
+    final String hashCodeField = cacheHashCode && !mutable && !shouldBeAbstract ? HASH_CODE_FIELD : null;
 
     if (!shouldBeAbstract) {
       if (enableStaticBuilder) {
@@ -632,7 +639,7 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
           .addNewArgument().withName("o").withTypeRef(Types.OBJECT.toReference()).endArgument()
           .withName("equals")
           .withNewBlock()
-          .withStatements(BuilderUtils.toEquals(generatedPojo, fields))
+          .withStatements(BuilderUtils.toEquals(generatedPojo, fields, hashCodeField))
           .endBlock()
           .build();
 
@@ -641,7 +648,7 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
           .withReturnType(Types.PRIMITIVE_INT_REF)
           .withName("hashCode")
           .withNewBlock()
-          .withStatements(BuilderUtils.toHashCode(fields))
+          .withStatements(BuilderUtils.toHashCode(generatedPojo, fields, hashCodeField))
           .endBlock()
           .build();
 
@@ -716,7 +723,16 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
       }
     }
 
-    return DefinitionRepository.getRepository().register(new TypeDefBuilder(generatedPojo)
+    TypeDefBuilder result = new TypeDefBuilder(generatedPojo);
+    if (hashCodeField != null) {
+      result.addNewProperty()
+          .withNewModifiers().withPrivate().withTransient().endModifiers()
+          .withTypeRef(Types.PRIMITIVE_INT_REF)
+          .withName(hashCodeField)
+          .endProperty();
+    }
+
+    return DefinitionRepository.getRepository().register(result
         .withComments("Generated")
         .addAllToMethods(additionalMethods)
         .addToAttributes(ALSO_IMPORT, additionalImports)
@@ -24,15 +24,24 @@ import static io.sundr.builder.Constants.EMPTY_FUNCTION_SNIPPET;
 import static io.sundr.builder.Constants.EXTERNAL_BUILDABLE;
 import static io.sundr.utils.Strings.loadResourceQuietly;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
+import javax.annotation.processing.Filer;
 import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 
 import io.sundr.builder.Constants;
-import io.sundr.builder.Visitor;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.ExternalBuildables;
 import io.sundr.builder.annotations.Inline;
@@ -43,21 +52,36 @@ import io.sundr.builder.internal.functions.TypeAs;
 import io.sundr.builder.internal.utils.BuilderUtils;
 import io.sundr.codegen.apt.processor.AbstractCodeGeneratingProcessor;
 import io.sundr.model.ClassRef;
-import io.sundr.model.ClassRefBuilder;
+import io.sundr.model.Kind;
 import io.sundr.model.Method;
 import io.sundr.model.MethodBuilder;
 import io.sundr.model.Property;
 import io.sundr.model.PropertyBuilder;
 import io.sundr.model.RichTypeDef;
+import io.sundr.model.Statement;
+import io.sundr.model.StringStatement;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeRef;
 import io.sundr.model.utils.TypeArguments;
+import io.sundr.model.visitors.NodeRewriter;
+import io.sundr.utils.Strings;
 
 public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingProcessor {
 
   public static final String EMPTY = "";
 
+  /**
+   * The builder indexes generated so far, per compilation.
+   * The processors of a compilation share the same {@link Filer}, so they also share the indexes.
+   */
+  private static final Map<Filer, Set<String>> BUILDER_INDEXES = new WeakHashMap<>();
+
+  /**
+   * The buildable types of each package, that have not been added to a builder index yet.
+   */
+  private final Map<String, List<TypeDef>> unindexedBuildables = new LinkedHashMap<>();
+
   void generateLocalDependenciesIfNeeded() {
     BuilderContext context = BuilderContextManager.getContext();
     try {
@@ -69,16 +93,23 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
         generate(context.getTypedVisitorInterface());
         generate(context.getPathAwareVisitorClass());
         generate(context.getVisitorWiretapClass());
+        generate(context.getStoppableVisitorClass());
         generate(context.getDelegatingVisitorClass());
+        generate(context.getVisitorPathClass());
+        generate(context.getTraversalClass());
+        generate(context.getStopTraversalClass());
         generate(context.getVisitorListenerInterface());
+        generate(context.getActiveVisitorListenersClass());
 
         generate(context.getVisitableBuilderInterface());
         generate(context.getVisitableMapClass());
+        generate(context.getSparseValuesClass());
         generate(context.getBuilderInterface());
         generate(context.getFluentInterface());
         generate(context.getBaseFluentClass());
         generate(context.getNestedInterface());
         generate(context.getEditableInterface());
+        generate(context.getBuilderIndexInterface());
       }
 
       if (context.isValidationEnabled() && !classExists(context.getBuilderPackage() + ".ValidationUtils")) {
@@ -183,26 +214,26 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
           .build());
     }
 
-    return new TypeDefBuilder(shallowInlineType)
+    TypeDef inlineable = new TypeDefBuilder(shallowInlineType)
         .withAnnotations()
         .withNewModifiers().withPublic().endModifiers()
         .withConstructors(constructors)
         .addToProperties(builderProperty, functionProperty)
         .addToMethods(inlineMethod)
-        .accept(new Visitor<ClassRefBuilder>() {
-          @Override
-          public void visit(ClassRefBuilder builder) {
-            List<TypeRef> updatedArguments = new ArrayList<TypeRef>();
-            for (TypeRef arg : builder.getArguments()) {
-              if (arg.equals(builderType.toInternalReference())) {
-                updatedArguments.add(shallowInlineType.toInternalReference());
-              } else {
-                updatedArguments.add(arg);
-              }
-            }
-            builder.withArguments(updatedArguments);
-          }
-        }).build();
+        .build();
+
+    TypeRef builderRef = builderType.toInternalReference();
+    TypeRef inlineRef = shallowInlineType.toInternalReference();
+    return NodeRewriter.create().on(ClassRef.class, c -> {
+      if (!c.getArguments().contains(builderRef)) {
+        return c;
+      }
+      List<TypeRef> updatedArguments = new ArrayList<TypeRef>();
+      for (TypeRef arg : c.getArguments()) {
+        updatedArguments.add(arg.equals(builderRef) ? inlineRef : arg);
+      }
+      return new ClassRef(c.getFullyQualifiedName(), c.getDimensions(), updatedArguments, c.getAttributes());
+    }).rewrite(inlineable);
   }
 
   public void generateBuildables(BuilderContext ctx, Set<TypeDef> buildables) {
@@ -229,6 +260,10 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
         generate(ClazzAs.BUILDER.apply(richTypeDef));
       }
 
+      if (Strings.isNotNullOrEmpty(typeDef.getPackageName())) {
+        unindexedBuildables.computeIfAbsent(typeDef.getPackageName(), k -> new ArrayList<>()).add(typeDef);
+      }
+
       Buildable buildable = typeDef.getAttribute(BUILDABLE);
       ExternalBuildables externalBuildables = typeDef.getAttribute(EXTERNAL_BUILDABLE);
       if (buildable != null) {
@@ -282,6 +317,85 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
     generateBuildables(builderContext, additonalBuildables);
   }
 
+  /**
+   * Generates a builder index for each package with buildables generated since the last call.
+   * An index maps each buildable type to the constructor of its builder, so that builders can be created without
+   * reflection. Packages that span multiple rounds get an extra index per round.
+   *
+   * @param ctx The builder context.
+   */
+  public void generateBuilderIndexes(BuilderContext ctx) {
+    Method builderFactoryOf = ctx.getBuilderIndexInterface().getMethods().get(0);
+    for (Map.Entry<String, List<TypeDef>> entry : unindexedBuildables.entrySet()) {
+      String packageName = entry.getKey();
+      List<Statement> statements = new ArrayList<>();
+      for (TypeDef typeDef : entry.getValue()) {
+        statements.add(new StringStatement(String.format(BUILDER_FACTORY_FORMAT, typeDef.getFullyQualifiedName(),
+            TypeAs.BUILDER.apply(typeDef).getFullyQualifiedName(), typeDef.getFullyQualifiedName())));
+      }
+      statements.add(new StringStatement("return null;"));
+
+      TypeDef index = new TypeDefBuilder()
+          .withComments("Generated")
+          .withNewModifiers().withPublic().endModifiers()
+          .withKind(Kind.CLASS)
+          .withPackageName(packageName)
+          .withName(builderIndexName(packageName))
+          .withImplementsList(ctx.getBuilderIndexInterface().toInternalReference())
+          .addToMethods(new MethodBuilder(builderFactoryOf)
+              .withNewModifiers().withPublic().endModifiers()
+              .withNewBlock()
+              .withStatements(statements)
+              .endBlock()
+              .build())
+          .build();
+      generate(index);
+    }
+    unindexedBuildables.clear();
+  }
+
+  /**
+   * Registers the builder indexes of the compilation as services.
+   * The first processor to reach the last round writes the services file for all processors.
+   */
+  public void generateBuilderIndexServices() {
+    Filer filer = processingEnv.getFiler();
+    Set<String> indexes;
+    synchronized (BUILDER_INDEXES) {
+      indexes = BUILDER_INDEXES.remove(filer);
+    }
+    if (indexes == null || indexes.isEmpty()) {
+      return;
+    }
+
+    String service = BuilderContextManager.getContext().getBuilderIndexInterface().getFullyQualifiedName();
+    try {
+      FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, EMPTY, "META-INF/services/" + service);
+      try (Writer writer = file.openWriter()) {
+        for (String index : indexes) {
+          writer.write(index);
+          writer.write(System.lineSeparator());
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+          "Failed to register builder indexes: " + e.getMessage());
+    }
+  }
+
+  private String builderIndexName(String packageName) {
+    String prefix = Strings.capitalizeFirst(packageName.substring(packageName.lastIndexOf('.') + 1));
+    synchronized (BUILDER_INDEXES) {
+      Set<String> indexes = BUILDER_INDEXES.computeIfAbsent(processingEnv.getFiler(), k -> new LinkedHashSet<>());
+      String name = prefix + BUILDER_INDEX;
+      for (int i = 2; indexes.contains(packageName + "." + name) || classExists(packageName + "." + name); i++) {
+        name = prefix + BUILDER_INDEX + i;
+      }
+      indexes.add(packageName + "." + name);
+      return name;
+    }
+  }
+
   private static final String EMPTY_FUNCTION_TEXT = loadResourceQuietly(EMPTY_FUNCTION_SNIPPET);
 
   private static final String BUILDER = "builder";
@@ -293,4 +407,7 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
   private static final String NEW_BULDER_WITH_ITEM_AND_SET_FUNCTION_FORMAT = "super(item);this.builder=new %s(this, item);this.function=function;";
   private static final String BUILD_AND_APPLY_FUNCTION = " return function.apply(builder.build());";
 
+  private static final String BUILDER_INDEX = "BuilderIndex";
+  private static final String BUILDER_FACTORY_FORMAT = "if (type == %s.class) {\n  return item -> new %s((%s) item);\n}";
+
 }
@@ -17,10 +17,17 @@
 package io.sundr.builder.internal.processor;
 
 import static io.sundr.builder.Constants.BUILDABLE;
+import static io.sundr.builder.Constants.COPY_ON_ACCESS_ENABLED;
+import static io.sundr.builder.Constants.DIRECT_ACCEPT_ENABLED;
 import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.IGNORE_PROPERTIES;
+import static io.sundr.builder.Constants.KEY_PROPERTY;
 import static io.sundr.builder.Constants.LAZY_COLLECTIONS_INIT_ENABLED;
 import static io.sundr.builder.Constants.LAZY_MAP_INIT_ENABLED;
+import static io.sundr.builder.Constants.MEMOIZED_BUILD_ENABLED;
+import static io.sundr.builder.Constants.PRIMITIVE_API_ENABLED;
+import static io.sundr.builder.Constants.SPARSE_FIELDS_ENABLED;
+import static io.sundr.builder.Constants.UNMODIFIABLE_COLLECTIONS_ENABLED;
 import static io.sundr.builder.Constants.VALIDATION_ENABLED;
 
 import java.util.HashSet;
@@ -52,6 +59,11 @@ import io.sundr.model.repo.DefinitionRepository;
 public class BuildableProcessor extends AbstractBuilderProcessor {
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+    if (env.processingOver()) {
+      generateBuilderIndexServices();
+      return false;
+    }
+
     Elements elements = processingEnv.getElementUtils();
     Types types = processingEnv.getTypeUtils();
     Filer filer = processingEnv.getFiler();
@@ -75,11 +87,18 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
             .addToAttributes(EDITABLE_ENABLED, buildable.editableEnabled())
             .addToAttributes(VALIDATION_ENABLED, buildable.validationEnabled())
             .addToAttributes(IGNORE_PROPERTIES, buildable.ignore())
+            .addToAttributes(KEY_PROPERTY, buildable.keyProperty())
             .accept(new Visitor<PropertyBuilder>() {
               @Override
               public void visit(PropertyBuilder builder) {
                 builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, buildable.lazyCollectionInitEnabled());
                 builder.addToAttributes(LAZY_MAP_INIT_ENABLED, buildable.lazyMapInitEnabled());
+                builder.addToAttributes(DIRECT_ACCEPT_ENABLED, buildable.directAcceptEnabled());
+                builder.addToAttributes(COPY_ON_ACCESS_ENABLED, buildable.copyOnAccessEnabled());
+                builder.addToAttributes(MEMOIZED_BUILD_ENABLED, buildable.memoizedBuildEnabled());
+                builder.addToAttributes(UNMODIFIABLE_COLLECTIONS_ENABLED, buildable.unmodifiableCollectionsEnabled());
+                builder.addToAttributes(PRIMITIVE_API_ENABLED, buildable.primitiveApiEnabled());
+                builder.addToAttributes(SPARSE_FIELDS_ENABLED, buildable.sparseFieldsEnabled());
               }
             }).build();
 
@@ -93,11 +112,18 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
               .addToAttributes(EDITABLE_ENABLED, buildable.editableEnabled())
               .addToAttributes(VALIDATION_ENABLED, buildable.validationEnabled())
               .addToAttributes(IGNORE_PROPERTIES, buildable.ignore())
+              .addToAttributes(KEY_PROPERTY, buildable.keyProperty())
               .accept(new Visitor<PropertyBuilder>() {
                 @Override
                 public void visit(PropertyBuilder builder) {
                   builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, buildable.lazyCollectionInitEnabled());
                   builder.addToAttributes(LAZY_MAP_INIT_ENABLED, buildable.lazyMapInitEnabled());
+                  builder.addToAttributes(DIRECT_ACCEPT_ENABLED, buildable.directAcceptEnabled());
+                  builder.addToAttributes(COPY_ON_ACCESS_ENABLED, buildable.copyOnAccessEnabled());
+                  builder.addToAttributes(MEMOIZED_BUILD_ENABLED, buildable.memoizedBuildEnabled());
+                  builder.addToAttributes(UNMODIFIABLE_COLLECTIONS_ENABLED, buildable.unmodifiableCollectionsEnabled());
+                  builder.addToAttributes(PRIMITIVE_API_ENABLED, buildable.primitiveApiEnabled());
+                  builder.addToAttributes(SPARSE_FIELDS_ENABLED, buildable.sparseFieldsEnabled());
                 }
               }).build();
 
@@ -115,6 +141,7 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
     ctx.getDefinitionRepository().updateReferenceMap();
     generateBuildables(ctx, buildables);
     generatePojos(ctx, buildables);
+    generateBuilderIndexes(ctx);
     processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
         String.format("%-120s", "100%: Builder generation complete."));
     return false;
@@ -16,11 +16,18 @@
 
 package io.sundr.builder.internal.processor;
 
+import static io.sundr.builder.Constants.COPY_ON_ACCESS_ENABLED;
+import static io.sundr.builder.Constants.DIRECT_ACCEPT_ENABLED;
 import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.EXTERNAL_BUILDABLE;
 import static io.sundr.builder.Constants.IGNORE_PROPERTIES;
+import static io.sundr.builder.Constants.KEY_PROPERTY;
 import static io.sundr.builder.Constants.LAZY_COLLECTIONS_INIT_ENABLED;
 import static io.sundr.builder.Constants.LAZY_MAP_INIT_ENABLED;
+import static io.sundr.builder.Constants.MEMOIZED_BUILD_ENABLED;
+import static io.sundr.builder.Constants.PRIMITIVE_API_ENABLED;
+import static io.sundr.builder.Constants.SPARSE_FIELDS_ENABLED;
+import static io.sundr.builder.Constants.UNMODIFIABLE_COLLECTIONS_ENABLED;
 import static io.sundr.builder.Constants.VALIDATION_ENABLED;
 import static io.sundr.utils.Patterns.isExcluded;
 import static io.sundr.utils.Patterns.isIncluded;
@@ -59,6 +66,11 @@ import io.sundr.model.TypeDefBuilder;
 public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+    if (env.processingOver()) {
+      generateBuilderIndexServices();
+      return false;
+    }
+
     Elements elements = processingEnv.getElementUtils();
     Types types = processingEnv.getTypeUtils();
     Filer filer = processingEnv.getFiler();
@@ -125,6 +137,12 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                       builder.addToAttributes(VALIDATION_ENABLED, generated.validationEnabled());
                       builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, isLazyCollectionInitEnabled);
                       builder.addToAttributes(LAZY_MAP_INIT_ENABLED, isLazyMapInitEnabled);
+                      builder.addToAttributes(DIRECT_ACCEPT_ENABLED, generated.directAcceptEnabled());
+                      builder.addToAttributes(COPY_ON_ACCESS_ENABLED, generated.copyOnAccessEnabled());
+                      builder.addToAttributes(MEMOIZED_BUILD_ENABLED, generated.memoizedBuildEnabled());
+                      builder.addToAttributes(UNMODIFIABLE_COLLECTIONS_ENABLED, generated.unmodifiableCollectionsEnabled());
+                      builder.addToAttributes(PRIMITIVE_API_ENABLED, generated.primitiveApiEnabled());
+                      builder.addToAttributes(SPARSE_FIELDS_ENABLED, generated.sparseFieldsEnabled());
                     }
                   }
                 }).build();
@@ -147,6 +165,7 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
             if (isExcluded(b.getFullyQualifiedName(), generated.excludes())) {
               continue;
             }
+            b = new TypeDefBuilder(b).addToAttributes(KEY_PROPERTY, generated.keyProperty()).build();
             ctx.getDefinitionRepository().register(b);
             ctx.getBuildableRepository().register(b);
             buildables.add(b);
@@ -177,6 +196,12 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                     builder.addToAttributes(IGNORE_PROPERTIES, generated.ignore());
                     builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, isLazyCollectionInitEnabled);
                     builder.addToAttributes(LAZY_MAP_INIT_ENABLED, isLazyMapInitEnabled);
+                    builder.addToAttributes(DIRECT_ACCEPT_ENABLED, generated.directAcceptEnabled());
+                    builder.addToAttributes(COPY_ON_ACCESS_ENABLED, generated.copyOnAccessEnabled());
+                    builder.addToAttributes(MEMOIZED_BUILD_ENABLED, generated.memoizedBuildEnabled());
+                    builder.addToAttributes(UNMODIFIABLE_COLLECTIONS_ENABLED, generated.unmodifiableCollectionsEnabled());
+                    builder.addToAttributes(PRIMITIVE_API_ENABLED, generated.primitiveApiEnabled());
+                    builder.addToAttributes(SPARSE_FIELDS_ENABLED, generated.sparseFieldsEnabled());
                   }
                 }
               }).build();
@@ -203,6 +228,7 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
             continue;
           }
 
+          r = new TypeDefBuilder(r).addToAttributes(KEY_PROPERTY, generated.keyProperty()).build();
           ctx.getDefinitionRepository().register(r);
           ctx.getBuildableRepository().register(r);
           buildables.add(r);
@@ -225,6 +251,7 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
     ctx.getDefinitionRepository().updateReferenceMap();
     generateBuildables(ctx, buildables);
     generatePojos(ctx, buildables);
+    generateBuilderIndexes(ctx);
     processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
         String.format("%-120s", "100%: Builder generation complete."));
     return true;
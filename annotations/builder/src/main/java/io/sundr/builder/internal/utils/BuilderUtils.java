@@ -16,8 +16,17 @@
 
 package io.sundr.builder.internal.utils;
 
+import static io.sundr.builder.Constants.COPY_ON_ACCESS_ENABLED;
 import static io.sundr.builder.Constants.DESCENDANTS;
+import static io.sundr.builder.Constants.DIRECT_ACCEPT_ENABLED;
+import static io.sundr.builder.Constants.INDEX;
+import static io.sundr.builder.Constants.KEY_PROPERTY;
 import static io.sundr.builder.Constants.LAZY_COLLECTIONS_INIT_ENABLED;
+import static io.sundr.builder.Constants.MEMOIZED_BUILD_ENABLED;
+import static io.sundr.builder.Constants.PRIMITIVE_API_ENABLED;
+import static io.sundr.builder.Constants.PRIMITIVE_INDEX;
+import static io.sundr.builder.Constants.SPARSE_FIELDS_ENABLED;
+import static io.sundr.builder.Constants.UNMODIFIABLE_COLLECTIONS_ENABLED;
 import static io.sundr.builder.internal.functions.TypeAs.BOXED_OF;
 import static io.sundr.builder.internal.functions.TypeAs.UNWRAP_ARRAY_OF;
 import static io.sundr.builder.internal.functions.TypeAs.UNWRAP_COLLECTION_OF;
@@ -37,6 +46,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -153,6 +163,130 @@ public class BuilderUtils {
     return isRegisteredAsBuildable(typeDef) && canBeBuilt(typeDef);
   }
 
+  /**
+   * Checks if the fluent that holds the {@link Property} visits its fields directly.
+   *
+   * @param property The property.
+   * @return True if the property has been marked with direct accept enabled.
+   */
+  public static boolean isDirectAcceptEnabled(Property property) {
+    return property.hasAttribute(DIRECT_ACCEPT_ENABLED) && property.getAttribute(DIRECT_ACCEPT_ENABLED);
+  }
+
+  /**
+   * Checks if the fluent that holds the {@link Property} creates its nested builders on access.
+   *
+   * @param property The property.
+   * @return True if the property has been marked with copy on access enabled.
+   */
+  public static boolean isCopyOnAccessEnabled(Property property) {
+    return property.hasAttribute(COPY_ON_ACCESS_ENABLED) && property.getAttribute(COPY_ON_ACCESS_ENABLED);
+  }
+
+  /**
+   * Checks if the fluent that holds the {@link Property} builds unmodifiable collections.
+   *
+   * @param property The property.
+   * @return True if the property has been marked with unmodifiable collections enabled.
+   */
+  public static boolean isUnmodifiableCollectionsEnabled(Property property) {
+    return property.hasAttribute(UNMODIFIABLE_COLLECTIONS_ENABLED) && property.getAttribute(UNMODIFIABLE_COLLECTIONS_ENABLED);
+  }
+
+  /**
+   * Finds the key property of the elements of a list or array {@link Property}.
+   * The elements need to be concrete buildables that declare a key property, which is not buildable itself.
+   *
+   * @param property The property.
+   * @return The key property of the elements, or null if the elements have no usable key.
+   */
+  public static Property getKeyProperty(Property property) {
+    TypeRef typeRef = property.getTypeRef();
+    if (!Types.isList(typeRef) && !Types.isArray(typeRef)) {
+      return null;
+    }
+    TypeRef unwrapped = TypeAs.combine(UNWRAP_ARRAY_OF, UNWRAP_COLLECTION_OF).apply(typeRef);
+    if (!(unwrapped instanceof ClassRef) || isAbstract(unwrapped)) {
+      return null;
+    }
+    TypeDef definition = BuilderContextManager.getContext().getBuildableRepository().getBuildable(unwrapped);
+    if (definition == null || !definition.hasAttribute(KEY_PROPERTY)
+        || definition.getAttribute(KEY_PROPERTY).isEmpty()) {
+      return null;
+    }
+    String name = definition.getAttribute(KEY_PROPERTY);
+    for (Property candidate : definition.getProperties()) {
+      if (candidate.getName().equals(name) && !candidate.isStatic()) {
+        if (isBuildable(candidate.getTypeRef()) || !Getter.findOptional(definition, candidate).isPresent()) {
+          return null;
+        }
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks if the fluent that holds the {@link Property} uses primitive types for indexes, flags and has methods.
+   *
+   * @param property The property.
+   * @return True if the property has been marked with primitive api enabled.
+   */
+  public static boolean isPrimitiveApiEnabled(Property property) {
+    return property.hasAttribute(PRIMITIVE_API_ENABLED) && property.getAttribute(PRIMITIVE_API_ENABLED);
+  }
+
+  /**
+   * Checks if the fluent that holds the {@link Property} uses sparse storage for its plain properties.
+   *
+   * @param property The property.
+   * @return True if the property has been marked with sparse fields enabled.
+   */
+  public static boolean isSparseFieldsEnabled(Property property) {
+    return property.hasAttribute(SPARSE_FIELDS_ENABLED) && property.getAttribute(SPARSE_FIELDS_ENABLED);
+  }
+
+  /**
+   * Checks if the builder of the {@link TypeDef} uses primitive types for its flags.
+   *
+   * @param typeDef The type.
+   * @return True if the properties of the type have been marked with primitive api enabled.
+   */
+  public static boolean isPrimitiveApiEnabled(TypeDef typeDef) {
+    return typeDef.getProperties().stream().anyMatch(BuilderUtils::isPrimitiveApiEnabled);
+  }
+
+  /**
+   * Returns the index argument of the methods of a list or array {@link Property}.
+   *
+   * @param property The property.
+   * @return An int argument if primitive api is enabled, an Integer argument otherwise.
+   */
+  public static Property indexOf(Property property) {
+    return isPrimitiveApiEnabled(property) ? PRIMITIVE_INDEX : INDEX;
+  }
+
+  /**
+   * Returns the type that the has methods of a {@link Property} return.
+   *
+   * @param property The property.
+   * @return boolean if primitive api is enabled, Boolean otherwise.
+   */
+  public static TypeRef booleanOf(Property property) {
+    return isPrimitiveApiEnabled(property) ? Types.PRIMITIVE_BOOLEAN_REF : Types.BOOLEAN_REF;
+  }
+
+  /**
+   * Checks if the builder of the {@link TypeDef} memoizes the objects it builds.
+   *
+   * @param typeDef The type.
+   * @return True if the properties of the type have been marked with memoized build enabled.
+   */
+  public static boolean isMemoizedBuildEnabled(TypeDef typeDef) {
+    return typeDef.getProperties().stream()
+        .anyMatch(p -> p.hasAttribute(MEMOIZED_BUILD_ENABLED) && p.getAttribute(MEMOIZED_BUILD_ENABLED));
+  }
+
   /**
    * Checks if {@link ClassRef} is buildable.
    * 
@@ -766,33 +900,92 @@ public class BuilderUtils {
         property.getName(), property.getName(), suffix);
   }
 
-  public static List<Statement> toHashCode(Collection<Property> properties) {
+  public static List<Statement> toHashCode(TypeDef type, Collection<Property> properties) {
+    return toHashCode(type, properties, null);
+  }
+
+  /**
+   * Creates the body of hashCode, that combines the hash codes of the properties, just like
+   * {@link java.util.Objects#hash(Object...)} does, but without allocating an array or boxing primitives.
+   * Like {@link #toEquals(TypeDef, Collection, String)}, it only includes super.hashCode() for superclasses other than
+   * Object and the base fluent, so that equal objects always have equal hash codes.
+   *
+   * @param type the type.
+   * @param properties the properties.
+   * @param cacheField the name of the int field that caches the hash code, or null if it shouldn't be cached.
+   * @return the statements.
+   */
+  public static List<Statement> toHashCode(TypeDef type, Collection<Property> properties, String cacheField) {
     List<Statement> statements = new ArrayList<>();
-    statements.add(new StringStatement("return java.util.Objects.hash(" + Stream
-        .concat(properties.stream().map(Property::getName), Stream.of("super.hashCode()")).collect(Collectors.joining(",  "))
-        + ");"));
+    if (cacheField != null) {
+      statements.add(new StringStatement("int result = this." + cacheField + ";"));
+      statements.add(new StringStatement("if (result != 0) return result;"));
+      statements.add(new StringStatement("result = 1;"));
+    } else {
+      statements.add(new StringStatement("int result = 1;"));
+    }
+    for (Property property : properties) {
+      statements.add(new StringStatement("result = 31 * result + " + hashOf(property) + ";"));
+    }
+    if (hasComparableSuperclass(type)) {
+      statements.add(new StringStatement("result = 31 * result + super.hashCode();"));
+    }
+    if (cacheField != null) {
+      statements.add(new StringStatement("this." + cacheField + " = result;"));
+    }
+    statements.add(new StringStatement("return result;"));
     return statements;
   }
 
+  private static String hashOf(Property property) {
+    String field = "this." + property.getName();
+    if (property.getTypeRef() instanceof PrimitiveRef && ((PrimitiveRef) property.getTypeRef()).getDimensions() == 0) {
+      String name = ((PrimitiveRef) property.getTypeRef()).getName();
+      String boxed = name.equals("int") ? "Integer" : name.equals("char") ? "Character" : capitalizeFirst(name);
+      return "java.lang." + boxed + ".hashCode(" + field + ")";
+    }
+    return "java.util.Objects.hashCode(" + field + ")";
+  }
+
   public static List<Statement> toEquals(TypeDef type, Collection<Property> properties) {
+    return toEquals(type, properties, null);
+  }
+
+  public static List<Statement> toEquals(TypeDef type, Collection<Property> properties, String cacheField) {
+    return toEquals(type, properties, cacheField, java.util.Collections.emptyList());
+  }
+
+  /**
+   * Creates the body of equals. The primitive properties are compared first, as they are cheaper to compare.
+   *
+   * @param type the type.
+   * @param properties the properties.
+   * @param cacheField the name of the int field that caches the hash code, or null if it isn't cached.
+   * @param afterCast the statements to run once `o` has been cast to `that`, before any property is compared.
+   * @return the statements.
+   */
+  public static List<Statement> toEquals(TypeDef type, Collection<Property> properties, String cacheField,
+      List<Statement> afterCast) {
     List<Statement> statements = new ArrayList<>();
 
     String simpleName = type.getName();
-    ClassRef superClass = type.getExtendsList().isEmpty() ? TypeDef.OBJECT_REF : type.getExtendsList().iterator().next();
     statements.add(new StringStatement("if (this == o) return true;"));
     statements.add(new StringStatement("if (o == null || getClass() != o.getClass()) return false;"));
 
-    //If base fluent is the superclass just skip.
-    final BuilderContext context = BuilderContextManager.getContext();
-    final String superClassFQN = superClass.getFullyQualifiedName();
-    if (!context.getBaseFluentClass().getFullyQualifiedName().equals(superClassFQN)
-        && !OBJECT_FULLY_QUALIFIED_NAME.equals(superClassFQN)) {
+    if (hasComparableSuperclass(type)) {
       statements.add(new StringStatement("if (!super.equals(o)) return false;"));
     }
     statements.add(new StringStatement(
         new StringBuilder().append(simpleName).append(" that = (").append(simpleName).append(") o;").toString()));
+    statements.addAll(afterCast);
+    if (cacheField != null) {
+      statements.add(new StringStatement("if (" + cacheField + " != 0 && that." + cacheField + " != 0 && " + cacheField
+          + " != that." + cacheField + ") return false;"));
+    }
 
-    for (Property property : properties) {
+    List<Property> ordered = new ArrayList<>(properties);
+    ordered.sort(Comparator.comparing(p -> !Types.isPrimitive(p.getTypeRef())));
+    for (Property property : ordered) {
       String name = property.getName();
       if (Types.isPrimitive(property.getTypeRef())) {
         statements.add(new StringStatement(new StringBuilder().append("if (").append(name).append(" != ").append("that.")
@@ -816,4 +1009,18 @@ public class BuilderUtils {
     return statements;
   }
 
+  /**
+   * Checks if the superclass of the type takes part in equals and hashCode.
+   * Object and the base fluent are skipped, as they don't hold any state.
+   *
+   * @param type the type.
+   * @return true if super.equals and super.hashCode should be called.
+   */
+  private static boolean hasComparableSuperclass(TypeDef type) {
+    ClassRef superClass = type.getExtendsList().isEmpty() ? TypeDef.OBJECT_REF : type.getExtendsList().iterator().next();
+    String superClassFQN = superClass.getFullyQualifiedName();
+    return !BuilderContextManager.getContext().getBaseFluentClass().getFullyQualifiedName().equals(superClassFQN)
+        && !OBJECT_FULLY_QUALIFIED_NAME.equals(superClassFQN);
+  }
+
 }
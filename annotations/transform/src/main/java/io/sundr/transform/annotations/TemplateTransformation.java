@@ -30,6 +30,7 @@ public @interface TemplateTransformation {
 
   /**
    * @return the name of a classpath resource containing the template.
+   *         When the template renders nothing for a class, no file is generated for it.
    */
   String value();
 
@@ -47,4 +48,10 @@ public @interface TemplateTransformation {
    *         representation of the class).
    */
   boolean gather() default false;
+
+  /**
+   * @return the parameters to pass to the template, which it can access as $parameters.
+   *         This allows using one template for several transformations.
+   */
+  String[] parameters() default {};
 }
@@ -130,40 +130,46 @@ public class TemplateTransformationProcessor extends AbstractCodeGeneratingProce
           }
         }
       }
+    }
 
-      for (Map.Entry<TemplateTransformation, Map<String, TypeDef>> entry : annotatedTypes.entrySet()) {
-        TemplateTransformation transformation = entry.getKey();
-        Map<String, TypeDef> annotated = entry.getValue();
-        try {
-          if (transformation.gather()) {
-            URL templateUrl = readTemplateURL(filer, null, transformation.value());
-            TemplateRenderer<Map> renderer = TemplateRenderers.getTemplateRenderer(Map.class, templateUrl)
+    for (Map.Entry<TemplateTransformation, Map<String, TypeDef>> entry : annotatedTypes.entrySet()) {
+      TemplateTransformation transformation = entry.getKey();
+      Map<String, TypeDef> annotated = entry.getValue();
+      try {
+        if (transformation.gather()) {
+          URL templateUrl = readTemplateURL(filer, null, transformation.value());
+          TemplateRenderer<Map> renderer = TemplateRenderers.getTemplateRenderer(Map.class, templateUrl,
+              transformation.parameters())
+              .orElseThrow(() -> new IllegalStateException("No template renderer found for:" + templateUrl));
+          CodeGenerator.newGenerator(Map.class)
+              .withRenderer(renderer)
+              .withOutput(new GenericAptOutput<Map>(filer, renderer, transformation.outputPath()))
+              .skipping(i -> false)
+              .generate(annotated);
+
+        } else {
+          for (TypeDef typeDef : annotated.values()) {
+            URL templateUrl = readTemplateURL(filer, typeDef.getPackageName(), transformation.value());
+            TemplateRenderer<TypeDef> renderer = TemplateRenderers.getTemplateRenderer(TypeDef.class, templateUrl,
+                transformation.parameters())
                 .orElseThrow(() -> new IllegalStateException("No template renderer found for:" + templateUrl));
-            CodeGenerator.newGenerator(Map.class)
-                .withRenderer(renderer)
-                .withOutput(new GenericAptOutput<Map>(filer, renderer, transformation.outputPath()))
-                .skipping(i -> false)
-                .generate(annotated);
-
-          } else {
-            for (TypeDef typeDef : annotated.values()) {
-              URL templateUrl = readTemplateURL(filer, typeDef.getPackageName(), transformation.value());
-              TemplateRenderer<TypeDef> renderer = TemplateRenderers.getTemplateRenderer(TypeDef.class, templateUrl)
-                  .orElseThrow(() -> new IllegalStateException("No template renderer found for:" + templateUrl));
-
-              Function<TypeDef, String> identifier = t -> io.sundr.model.utils.Types
-                  .parseFullyQualifiedName(renderer.render(t));
-              CodeGenerator.newGenerator(TypeDef.class)
-                  .withRenderer(renderer)
-                  .withIdentifier(identifier)
-                  .withOutput(new TypeDefAptOutput(filer, renderer))
-                  .skipping(t -> TypeLookup.lookup(identifier.apply(typeDef), AptContext.getContext()).isPresent())
-                  .generate(typeDef);
+            //Templates render nothing for the types they don't apply to
+            if (renderer.render(typeDef).trim().isEmpty()) {
+              continue;
             }
+
+            Function<TypeDef, String> identifier = t -> io.sundr.model.utils.Types
+                .parseFullyQualifiedName(renderer.render(t));
+            CodeGenerator.newGenerator(TypeDef.class)
+                .withRenderer(renderer)
+                .withIdentifier(identifier)
+                .withOutput(new TypeDefAptOutput(filer, renderer))
+                .skipping(t -> TypeLookup.lookup(identifier.apply(typeDef), AptContext.getContext()).isPresent())
+                .generate(typeDef);
           }
-        } catch (IOException e) {
-          throw new RuntimeException(e);
         }
+      } catch (IOException e) {
+        throw new RuntimeException(e);
       }
     }
     return false;
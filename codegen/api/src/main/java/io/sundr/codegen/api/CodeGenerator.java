@@ -32,7 +32,7 @@ public class CodeGenerator<T> {
   private final Class<T> type;
   private final Function<T, Writer> output;
   private final Function<T, String> identifier;
-  private final Function<T, String> renderer;
+  private final Renderer<T> renderer;
   private final Predicate<T> skip;
   private final Consumer<T> onSkip;
 
@@ -45,7 +45,7 @@ public class CodeGenerator<T> {
     private final Class<T> type;
     private final Function<T, Writer> output;
     private final Function<T, String> identifier;
-    private final Function<T, String> renderer;
+    private final Renderer<T> renderer;
     private final Predicate<T> skip;
     private final Consumer<T> onSkip;
 
@@ -53,7 +53,7 @@ public class CodeGenerator<T> {
       this(type, null, null, null, null, null);
     }
 
-    private Builder(Class<T> type, Function<T, Writer> output, Function<T, String> identifier, Function<T, String> renderer,
+    private Builder(Class<T> type, Function<T, Writer> output, Function<T, String> identifier, Renderer<T> renderer,
         Predicate<T> skip,
         Consumer<T> onSkip) {
       this.type = type;
@@ -81,11 +81,21 @@ public class CodeGenerator<T> {
     }
 
     public Builder<T> withRenderer(Renderer<T> renderer) {
-      return withRenderer(renderer.getFunction());
+      return new Builder<>(type, output, identifier, renderer, skip, onSkip);
     }
 
     public Builder<T> withRenderer(Function<T, String> renderer) {
-      return new Builder<>(type, output, identifier, renderer, skip, onSkip);
+      return withRenderer(new Renderer<T>() {
+        @Override
+        public Class<T> getType() {
+          return type;
+        }
+
+        @Override
+        public Function<T, String> getFunction() {
+          return renderer;
+        }
+      });
     }
 
     public Builder<T> skipping(Predicate<T> skip) {
@@ -101,14 +111,14 @@ public class CodeGenerator<T> {
     }
   }
 
-  private CodeGenerator(Class<T> type, Function<T, Writer> output, Function<T, String> identifier, Function<T, String> renderer,
+  private CodeGenerator(Class<T> type, Function<T, Writer> output, Function<T, String> identifier, Renderer<T> renderer,
       Predicate<T> skip, Consumer<T> onSkip) {
     this.type = type;
     this.output = output != null ? output : new SystemOutput<T>().getFunction();
     this.identifier = identifier != null ? identifier
         : Identifiers.findIdentifier(type).map(Identifier::getFunction).orElse(o -> String.valueOf(o.hashCode()));
     this.renderer = renderer != null ? renderer
-        : Renderers.findRenderer(type).map(Renderer::getFunction)
+        : Renderers.findRenderer(type)
             .orElseThrow(() -> new IllegalStateException("Renderer should not be null."));
     this.skip = skip != null ? skip : Predicates.distinct(t -> this.identifier.apply(t));
     this.onSkip = onSkip != null ? onSkip : ignore;
@@ -140,7 +150,7 @@ public class CodeGenerator<T> {
           continue;
         }
         try (Writer writer = output.apply(item)) {
-          writer.write(renderer.apply(item));
+          renderer.render(item, writer);
           generated.add(id);
         } catch (IOException e) {
           return false;
@@ -17,6 +17,7 @@
 
 package io.sundr.codegen.api;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -37,7 +38,7 @@ public class FileOutput<T> implements Output<T> {
   public Function<T, Writer> getFunction() {
     return t -> {
       try {
-        return new FileWriter(file);
+        return new BufferedWriter(new FileWriter(file));
       } catch (IOException e) {
         throw SundrException.launderThrowable(e);
       }
@@ -55,10 +55,18 @@ public class TypeDefAptOutput implements Output<TypeDef> {
   public Function<TypeDef, Writer> getFunction() {
     return type -> {
       try {
-        String rendered = renderer.render(type);
-        String pkg = Types.parsePackage(rendered).orElse("");
-        String name = Types.parseName(rendered)
-            .orElseThrow(() -> new IllegalStateException("Cannot extract fully qualified name from generated code."));
+        String pkg;
+        String name;
+        //The default renderer emits the type as is, so there's no need to render it just to find out its name.
+        if (renderer instanceof TypeDefRenderer) {
+          pkg = Strings.isNullOrEmpty(type.getPackageName()) ? "" : type.getPackageName();
+          name = type.getName();
+        } else {
+          String rendered = renderer.render(type);
+          pkg = Types.parsePackage(rendered).orElse("");
+          name = Types.parseName(rendered)
+              .orElseThrow(() -> new IllegalStateException("Cannot extract fully qualified name from generated code."));
+        }
         String fqcn = Strings.isNullOrEmpty(pkg) ? name : pkg + "." + name;
 
         FileObject fileObject = filer.getResource(StandardLocation.SOURCE_OUTPUT, pkg, name + ".java");
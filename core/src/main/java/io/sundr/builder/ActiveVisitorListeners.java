@@ -0,0 +1,43 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the resolved listeners as an array, so that {@link VisitorListener#wrap(Visitor)} can read them without locking.
+ * It is only updated by {@link VisitorListener}, while holding its lock.
+ */
+final class ActiveVisitorListeners {
+
+  private static final VisitorListener[] NONE = new VisitorListener[0];
+
+  private static final AtomicReference<VisitorListener[]> CURRENT = new AtomicReference<>(NONE);
+
+  private ActiveVisitorListeners() {
+    //Utility Class
+  }
+
+  static VisitorListener[] get() {
+    return CURRENT.get();
+  }
+
+  static void set(Set<VisitorListener> listeners) {
+    CURRENT.set(listeners.isEmpty() ? NONE : listeners.toArray(NONE));
+  }
+}
@@ -16,20 +16,58 @@
 
 package io.sundr.builder;
 
-import java.util.AbstractMap;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class BaseFluent<F extends Fluent<F>> implements Fluent<F>, Visitable<F> {
 
-  public final VisitableMap _visitables = new VisitableMap();
+  /**
+   * The visitables of the fluent, grouped by property.
+   * Fluents generated by this version create the map when the first visitable is added, so it is null in leaf builders.
+   * Fluents generated by earlier versions use the field directly and rely on the no-arg constructor to create it.
+   */
+  public VisitableMap _visitables;
+
+  /**
+   * The builder factory of each type, so that builders are looked up once per type instead of once per call.
+   */
+  private static final ClassValue<Function<Object, VisitableBuilder<?, ?>>> BUILDER_FACTORIES = new ClassValue<Function<Object, VisitableBuilder<?, ?>>>() {
+    @Override
+    protected Function<Object, VisitableBuilder<?, ?>> computeValue(Class<?> type) {
+      return builderFactoryOf(type);
+    }
+  };
+
+  public BaseFluent() {
+    this(true);
+  }
+
+  /**
+   * Create the fluent.
+   *
+   * @param createVisitables true to create {@link #_visitables} right away, false to create it on first use
+   */
+  protected BaseFluent(boolean createVisitables) {
+    if (createVisitables) {
+      _visitables = new VisitableMap();
+    }
+  }
 
   public static <T> VisitableBuilder<T, ?> builderOf(T item) {
     if (item instanceof Editable) {
@@ -39,28 +77,284 @@ public class BaseFluent<F extends Fluent<F>> implements Fluent<F>, Visitable<F>
       }
     }
 
+    return (VisitableBuilder<T, ?>) BUILDER_FACTORIES.get(item.getClass()).apply(item);
+  }
+
+  /**
+   * Finds the builder factory of a type.
+   * The generated {@link BuilderIndex} instances are checked first and the builder constructor is used as a fallback.
+   *
+   * @param type the type of the item to build
+   * @return a function that creates a builder, or that fails if no builder can be found.
+   */
+  private static Function<Object, VisitableBuilder<?, ?>> builderFactoryOf(Class<?> type) {
+    try {
+      for (BuilderIndex index : ServiceLoader.load(BuilderIndex.class, type.getClassLoader())) {
+        Function<Object, VisitableBuilder<?, ?>> factory = index.builderFactoryOf(type);
+        if (factory != null) {
+          return factory;
+        }
+      }
+    } catch (ServiceConfigurationError e) {
+      // Ignore indexes that can't be loaded and use the constructor instead.
+    }
+
     try {
-      return (VisitableBuilder<T, ?>) Class.forName(item.getClass().getName() + "Builder").getConstructor(item.getClass())
-          .newInstance(item);
+      Class<?> builderType = Class.forName(type.getName() + "Builder", false, type.getClassLoader());
+      MethodHandle constructor = MethodHandles.publicLookup()
+          .findConstructor(builderType, MethodType.methodType(void.class, type))
+          .asType(MethodType.methodType(VisitableBuilder.class, Object.class));
+      return item -> {
+        try {
+          return (VisitableBuilder<?, ?>) constructor.invokeExact(item);
+        } catch (Throwable e) {
+          throw new IllegalStateException("Failed to create builder for: " + type, e);
+        }
+      };
     } catch (Exception e) {
-      throw new IllegalStateException("Failed to create builder for: " + item.getClass(), e);
+      return item -> {
+        throw new IllegalStateException("Failed to create builder for: " + type, e);
+      };
     }
   }
 
+  /**
+   * Build all the builders of the list.
+   * The objects are collected once, into a list of the right size.
+   *
+   * @param list the builders
+   * @param <T> the type of the built objects
+   * @return a new list with the built objects, or null if the list is null.
+   */
   public static <T> List<T> build(List<? extends Builder<? extends T>> list) {
-    return list == null ? null : new ArrayList<T>(list.stream().map(Builder::build).collect(Collectors.toList()));
+    if (list == null) {
+      return null;
+    }
+    List<T> result = new ArrayList<T>(list.size());
+    for (Builder<? extends T> builder : list) {
+      result.add(builder.build());
+    }
+    return result;
   }
 
+  /**
+   * Build all the builders of the set.
+   * The objects are collected once, into a set of the right size that keeps the order of the builders.
+   *
+   * @param set the builders
+   * @param <T> the type of the built objects
+   * @return a new set with the built objects, or null if the set is null.
+   */
   public static <T> Set<T> build(Set<? extends Builder<? extends T>> set) {
-    return set == null ? null : new LinkedHashSet<T>(set.stream().map(Builder::build).collect(Collectors.toSet()));
+    if (set == null) {
+      return null;
+    }
+    Set<T> result = new LinkedHashSet<T>(capacityOf(set.size()));
+    for (Builder<? extends T> builder : set) {
+      result.add(builder.build());
+    }
+    return result;
+  }
+
+  /**
+   * Build all the builders of the list, into a list that can't be modified and can be shared safely.
+   *
+   * @param list the builders
+   * @param <T> the type of the built objects
+   * @return an unmodifiable list with the built objects, or null if the list is null.
+   */
+  public static <T> List<T> buildUnmodifiable(List<? extends Builder<? extends T>> list) {
+    return list == null ? null : Collections.unmodifiableList(build(list));
+  }
+
+  /**
+   * Build all the builders of the set, into a set that can't be modified and can be shared safely.
+   *
+   * @param set the builders
+   * @param <T> the type of the built objects
+   * @return an unmodifiable set with the built objects, or null if the set is null.
+   */
+  public static <T> Set<T> buildUnmodifiable(Set<? extends Builder<? extends T>> set) {
+    return set == null ? null : Collections.unmodifiableSet(build(set));
+  }
+
+  /**
+   * Copy the list, into a list that can't be modified and can be shared safely.
+   *
+   * @param list the list
+   * @param <T> the type of the items
+   * @return an unmodifiable copy of the list, or null if the list is null.
+   */
+  public static <T> List<T> unmodifiableCopy(List<? extends T> list) {
+    return list == null ? null : Collections.unmodifiableList(new ArrayList<T>(list));
+  }
+
+  /**
+   * Copy the set, into a set that can't be modified and can be shared safely.
+   *
+   * @param set the set
+   * @param <T> the type of the items
+   * @return an unmodifiable copy of the set, or null if the set is null.
+   */
+  public static <T> Set<T> unmodifiableCopy(Set<? extends T> set) {
+    return set == null ? null : Collections.unmodifiableSet(new LinkedHashSet<T>(set));
   }
 
   public static <T> List<T> aggregate(List<? extends T>... lists) {
-    return new ArrayList(Arrays.stream(lists).filter(Objects::nonNull).collect(Collectors.toList()));
+    int size = 0;
+    for (List<? extends T> list : lists) {
+      size += list != null ? list.size() : 0;
+    }
+    List<T> result = new ArrayList<T>(size);
+    for (List<? extends T> list : lists) {
+      if (list != null) {
+        result.addAll(list);
+      }
+    }
+    return result;
   }
 
   public static <T> Set<T> aggregate(Set<? extends T>... sets) {
-    return new LinkedHashSet(Arrays.stream(sets).filter(Objects::nonNull).collect(Collectors.toSet()));
+    int size = 0;
+    for (Set<? extends T> set : sets) {
+      size += set != null ? set.size() : 0;
+    }
+    Set<T> result = new LinkedHashSet<T>(capacityOf(size));
+    for (Set<? extends T> set : sets) {
+      if (set != null) {
+        result.addAll(set);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The initial capacity of a hash based collection, so that it can hold the specified number of items without resizing.
+   *
+   * @param size the number of items
+   * @return the capacity.
+   */
+  private static int capacityOf(int size) {
+    return Math.max((int) (size / .75f) + 1, 16);
+  }
+
+  /**
+   * Remove one occurrence of each of the specified items from a collection.
+   *
+   * @param collection the collection, may be null
+   * @param items the items to remove
+   */
+  protected static void removeEach(Collection<?> collection, Collection<?> items) {
+    removeEach(collection, null, items);
+  }
+
+  /**
+   * Remove one occurrence of each of the specified items from the builders of a property, and the removed builders
+   * from its visitables.
+   * Large batches are removed from lists in a single pass that preserves the order of the remaining builders, instead
+   * of shifting the tail of the list once per item.
+   *
+   * @param builders the builders of the property, may be null
+   * @param visitables the visitables of the property, may be null
+   * @param items the items to remove
+   */
+  protected static void removeEach(Collection<?> builders, Collection<?> visitables, Collection<?> items) {
+    if (builders == null || items.isEmpty()) {
+      return;
+    }
+    if (!(builders instanceof List) || items.size() < 16) {
+      for (Object item : items) {
+        if (builders.remove(item) && visitables != null) {
+          visitables.remove(item);
+        }
+      }
+      return;
+    }
+    Map<Object, int[]> pending = new HashMap<>(capacityOf(items.size()));
+    for (Object item : items) {
+      pending.computeIfAbsent(item, k -> new int[1])[0]++;
+    }
+    Set<Object> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+    builders.removeIf(builder -> {
+      int[] count = pending.get(builder);
+      if (count == null || count[0] == 0) {
+        return false;
+      }
+      count[0]--;
+      removed.add(builder);
+      return true;
+    });
+    if (visitables != null && !removed.isEmpty()) {
+      visitables.removeIf(removed::contains);
+    }
+  }
+
+  /**
+   * Remove the builders of a property that match the predicate, and the removed builders from its visitables.
+   * Both collections are compacted in a single pass.
+   *
+   * @param builders the builders of the property, may be null
+   * @param visitables the visitables of the property, may be null
+   * @param predicate the predicate
+   * @param <T> the type of the builders
+   */
+  protected static <T> void removeMatching(Collection<T> builders, Collection<?> visitables,
+      Predicate<? super T> predicate) {
+    if (builders == null) {
+      return;
+    }
+    Set<Object> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+    builders.removeIf(builder -> {
+      if (!predicate.test(builder)) {
+        return false;
+      }
+      removed.add(builder);
+      return true;
+    });
+    if (visitables != null && !removed.isEmpty()) {
+      visitables.removeIf(removed::contains);
+    }
+  }
+
+  /**
+   * Get the visitables of a property, creating {@link #_visitables} and the list of the property if needed.
+   *
+   * @param slot the slot of the property in {@link #_visitables}
+   * @param key the name of the property
+   * @return the visitables of the property.
+   */
+  protected List<Visitable> _visitables(int slot, String key) {
+    if (_visitables == null) {
+      _visitables = new VisitableMap();
+    }
+    return _visitables.get(slot, key);
+  }
+
+  /**
+   * Get the visitables of a property, making room for a batch of entries that is about to be added.
+   *
+   * @param slot the slot of the property in {@link #_visitables}
+   * @param key the name of the property
+   * @param additional the number of entries that will be added
+   * @return the visitables of the property.
+   */
+  protected List<Visitable> _visitables(int slot, String key, int additional) {
+    if (_visitables == null) {
+      _visitables = new VisitableMap();
+    }
+    return _visitables.get(slot, key, additional);
+  }
+
+  /**
+   * Get the visitables of a property, without creating anything if there are none.
+   *
+   * @param slot the slot of the property in {@link #_visitables}
+   * @param key the name of the property
+   * @return the visitables of the property, or an empty list if there are none.
+   */
+  protected List<Visitable> _visitablesIfPresent(int slot, String key) {
+    List<Visitable> visitables = _visitables != null ? _visitables.peek(slot, key) : null;
+    return visitables != null ? visitables : Collections.emptyList();
   }
 
   public F accept(Visitor... visitors) {
@@ -84,40 +378,226 @@ public class BaseFluent<F extends Fluent<F>> implements Fluent<F>, Visitable<F>
       public void visit(V element) {
         visitor.visit(element);
       }
+
+      @Override
+      public Traversal traverse(List<Entry<String, Object>> path, V element) {
+        return visitor.traverse(path, element);
+      }
     });
   }
 
   public F accept(List<Entry<String, Object>> path, String currentKey, Visitor... visitors) {
-    Arrays.stream(visitors)
-        .map(v -> VisitorListener.wrap(v))
-        .filter(v -> ((Visitor) v).canVisit(path, this))
-        .sorted((l, r) -> ((Visitor) r).order() - ((Visitor) l).order())
-        .forEach(v -> {
-          ((Visitor) v).visit(path, this);
-        });
-
-    List<Entry<String, Object>> copyOfPath = path != null ? new ArrayList(path) : new ArrayList<>();
-    copyOfPath.add(new AbstractMap.SimpleEntry<String, Object>(currentKey, this));
-
-    _visitables.forEach((key, visitables) -> {
-      List<Entry<String, Object>> newPath = Collections.unmodifiableList(copyOfPath);
-      // Copy visitables to avoid ConcurrrentModificationException when Visitors add/remove Visitables
-      new ArrayList<>(visitables).forEach(visitable -> {
-        Arrays.stream(visitors)
-            .filter(v -> v.getType() != null && v.getType().isAssignableFrom(visitable.getClass()))
-            .forEach(v -> visitable.accept(newPath, key, v));
-
-        Arrays.stream(visitors)
-            .filter(v -> v.getType() == null || !v.getType().isAssignableFrom(visitable.getClass()))
-            .forEach(v -> visitable.accept(newPath, key, v));
-      });
-    });
+    acceptChildren(path, currentKey, false, visitSelf(path, visitors));
     return (F) this;
   }
 
+  /**
+   * Visit the tree, starting at the fluent.
+   * Visitors control how the traversal proceeds through {@link Visitor#traverse(List, Object)}: the subtree of a node
+   * can be skipped, and a visitor can stop, while the other visitors go on.
+   *
+   * @param path the path of the fluent
+   * @param visitors the visitors
+   * @return the fluent.
+   */
   @Override
   public F accept(List<Entry<String, Object>> path, Visitor... visitors) {
-    return accept(path, "", visitors);
+    try {
+      return accept(path, "", StoppableVisitor.wrap(wiretap(visitors)));
+    } catch (StopTraversal e) {
+      return (F) this;
+    }
+  }
+
+  /**
+   * Visit the tree once, dispatching each node to all the specified visitors.
+   * Unlike {@link #accept(Visitor...)}, which walks each subtree once per visitor, a node and its subtree are
+   * visited by all visitors, before moving to the next sibling. The visitors of a single node are applied in
+   * {@link Visitor#order()} sequence, exactly as {@link #accept(Visitor...)} does.
+   *
+   * @param visitors the visitors
+   * @return the fluent.
+   */
+  public F acceptFused(Visitor... visitors) {
+    try {
+      return acceptFused(Collections.emptyList(), "", StoppableVisitor.wrap(wiretap(visitors)));
+    } catch (StopTraversal e) {
+      return (F) this;
+    }
+  }
+
+  public F acceptFused(List<Entry<String, Object>> path, String currentKey, Visitor... visitors) {
+    acceptChildren(path, currentKey, true, visitSelf(path, visitors));
+    return (F) this;
+  }
+
+  /**
+   * Pass the visitors to the visitables nested in the fluent.
+   * By default these are the visitables registered in {@link #_visitables}. Generated fluents that visit their fields
+   * directly, override this method and pass each field to {@link #acceptChild} or {@link #acceptChildren}.
+   *
+   * @param path the path of the fluent
+   * @param currentKey the key of the fluent
+   * @param fused true when the visitors should be passed to each visitable at once
+   * @param visitors the visitors
+   */
+  protected void acceptChildren(List<Entry<String, Object>> path, String currentKey, boolean fused, Visitor... visitors) {
+    if (_visitables == null || _visitables.isEmpty() || visitors.length == 0) {
+      return;
+    }
+
+    List<Entry<String, Object>> newPath = VisitorPath.of(path).push(currentKey, this);
+    _visitables.forEach((key, visitables) -> acceptChildren(newPath, key, visitables, fused, visitors));
+  }
+
+  protected void acceptChildren(List<Entry<String, Object>> path, String key, Collection<?> children, boolean fused,
+      Visitor... visitors) {
+    if (children == null || children.isEmpty()) {
+      return;
+    }
+    Visitor[] reaching = reachingVisitors(key, visitors);
+    if (reaching.length == 0) {
+      return;
+    }
+    // Copy visitables to avoid ConcurrrentModificationException when Visitors add/remove Visitables
+    for (Object child : children.toArray()) {
+      visitChild(path, key, (Visitable) child, fused, reaching);
+    }
+  }
+
+  protected void acceptChild(List<Entry<String, Object>> path, String key, Object child, boolean fused,
+      Visitor... visitors) {
+    if (child == null) {
+      return;
+    }
+    Visitor[] reaching = reachingVisitors(key, visitors);
+    if (reaching.length == 0) {
+      return;
+    }
+    visitChild(path, key, (Visitable) child, fused, reaching);
+  }
+
+  private static void visitChild(List<Entry<String, Object>> path, String key, Visitable child, boolean fused,
+      Visitor... visitors) {
+    if (fused) {
+      if (child instanceof BaseFluent) {
+        ((BaseFluent) child).acceptFused(path, key, visitors);
+      } else {
+        child.accept(path, key, visitors);
+      }
+      return;
+    }
+    Arrays.stream(visitors)
+        .filter(v -> v.getType() != null && v.getType().isAssignableFrom(child.getClass()))
+        .forEach(v -> child.accept(path, key, v));
+
+    Arrays.stream(visitors)
+        .filter(v -> v.getType() == null || !v.getType().isAssignableFrom(child.getClass()))
+        .forEach(v -> child.accept(path, key, v));
+  }
+
+  /**
+   * Filter out the visitors that can't find a node of their type under the specified key of the visitables, and the
+   * visitors that have stopped.
+   *
+   * @param key the key of the visitables
+   * @param visitors the visitors
+   * @return the visitors that need to descend under the key (the specified array if all of them do).
+   */
+  private Visitor[] reachingVisitors(String key, Visitor... visitors) {
+    Visitor[] reaching = visitors;
+    int count = 0;
+    for (Visitor visitor : visitors) {
+      if (Visitors.canReach(getClass(), key, visitor.getType()) && !StoppableVisitor.isStopped(visitor)) {
+        if (reaching != visitors) {
+          reaching[count] = visitor;
+        }
+        count++;
+      } else if (reaching == visitors) {
+        reaching = new Visitor[visitors.length - 1];
+        System.arraycopy(visitors, 0, reaching, 0, count);
+      }
+    }
+    return reaching == visitors ? visitors : Arrays.copyOf(reaching, count);
+  }
+
+  /**
+   * Wrap the visitors of a traversal, so that they notify the {@link VisitorListener listeners}.
+   * This happens once, when the traversal starts, and the wrapped visitors are passed down the tree.
+   *
+   * @param visitors the visitors
+   * @return the wrapped visitors (the specified array if there is nothing to wrap).
+   */
+  private static Visitor[] wiretap(Visitor... visitors) {
+    Visitor[] wrapped = visitors;
+    for (int i = 0; i < visitors.length; i++) {
+      Visitor visitor = VisitorListener.wrap(visitors[i]);
+      if (visitor != visitors[i]) {
+        if (wrapped == visitors) {
+          wrapped = Arrays.copyOf(visitors, visitors.length);
+        }
+        wrapped[i] = visitor;
+      }
+    }
+    return wrapped;
+  }
+
+  /**
+   * Apply the visitors that can visit the fluent.
+   *
+   * @param path the path of the fluent
+   * @param visitors the visitors
+   * @return the visitors that should continue with the children of the fluent.
+   */
+  private Visitor[] visitSelf(List<Entry<String, Object>> path, Visitor... visitors) {
+    Visitor[] applicable = Arrays.stream(visitors)
+        .filter(v -> v.canVisit(path, this))
+        .sorted((l, r) -> r.order() - l.order())
+        .toArray(Visitor[]::new);
+
+    Visitor[] descending = visitors;
+    for (Visitor visitor : applicable) {
+      Traversal traversal = visitor.traverse(path, this);
+      if (traversal == Traversal.STOP) {
+        throw StopTraversal.INSTANCE;
+      } else if (traversal == Traversal.SKIP_SUBTREE) {
+        descending = Arrays.stream(descending).filter(v -> v != visitor).toArray(Visitor[]::new);
+      }
+    }
+    return descending;
+  }
+
+  /**
+   * Checks if the fluent and its nested builders are unchanged since they were last built.
+   * Generated fluents that memoize the built objects override this method, all other fluents are never unchanged.
+   *
+   * @return true if building again would return the previously built object, false otherwise.
+   */
+  protected boolean isUnchanged() {
+    return false;
+  }
+
+  /**
+   * Mark the fluent as unchanged, after it has been built.
+   * Generated fluents that memoize the built objects override this method.
+   */
+  protected void markUnchanged() {
+  }
+
+  protected static boolean unchanged(Object builder) {
+    return builder == null || (builder instanceof BaseFluent && ((BaseFluent<?>) builder).isUnchanged());
+  }
+
+  protected static boolean unchanged(Collection<?> builders) {
+    if (builders == null) {
+      return true;
+    }
+    for (Object builder : builders) {
+      if (!unchanged(builder)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import java.util.function.Function;
+
+/**
+ * An index of the builders generated for a package.
+ * Indexes are generated along with the builders and are discovered using the {@link java.util.ServiceLoader},
+ * so that {@link BaseFluent#builderOf(Object)} can create builders without reflection.
+ */
+public interface BuilderIndex {
+
+  /**
+   * Returns a function that creates a builder out of an instance of the specified type.
+   *
+   * @param type the exact type of the instance
+   * @return the builder factory, or null if the type is not indexed.
+   */
+  Function<Object, VisitableBuilder<?, ?>> builderFactoryOf(Class<?> type);
+}
@@ -51,6 +51,11 @@ public class DelegatingVisitor<T> implements Visitor<T> {
     delegate.visit(path, target);
   }
 
+  @Override
+  public Traversal traverse(List<Entry<String, Object>> path, T target) {
+    return delegate.traverse(path, target);
+  }
+
   @Override
   public Class<T> getType() {
     return type;
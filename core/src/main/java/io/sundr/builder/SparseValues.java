@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import java.util.Arrays;
+
+/**
+ * The values of the sparse properties of a fluent, by slot.
+ * A bitset tells which slots are set and the values of the set slots are packed in slot order, so a fluent with hundreds
+ * of properties only pays for the ones that are set. Setting a slot to null clears it.
+ */
+public class SparseValues {
+
+  private static final long[] NO_BITS = new long[0];
+  private static final Object[] EMPTY = new Object[0];
+
+  private long[] bits = NO_BITS;
+  private Object[] values = EMPTY;
+  private int size;
+
+  public boolean has(int slot) {
+    int word = slot >>> 6;
+    return word < bits.length && (bits[word] & (1L << slot)) != 0;
+  }
+
+  public Object get(int slot) {
+    return has(slot) ? values[rank(slot)] : null;
+  }
+
+  public void set(int slot, Object value) {
+    if (value == null) {
+      remove(slot);
+      return;
+    }
+    int index = rank(slot);
+    if (has(slot)) {
+      values[index] = value;
+      return;
+    }
+    int word = slot >>> 6;
+    if (word >= bits.length) {
+      bits = Arrays.copyOf(bits, word + 1);
+    }
+    bits[word] |= 1L << slot;
+    if (size == values.length) {
+      values = Arrays.copyOf(values, Math.max(2, size + (size >> 1)));
+    }
+    System.arraycopy(values, index, values, index + 1, size - index);
+    values[index] = value;
+    size++;
+  }
+
+  public void remove(int slot) {
+    if (!has(slot)) {
+      return;
+    }
+    int index = rank(slot);
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    values[--size] = null;
+    bits[slot >>> 6] &= ~(1L << slot);
+  }
+
+  /**
+   * The number of set slots before the specified one, which is where the value of the slot goes.
+   *
+   * @param slot the slot
+   * @return the index of the value of the slot.
+   */
+  private int rank(int slot) {
+    int word = Math.min(slot >>> 6, bits.length);
+    int rank = 0;
+    for (int i = 0; i < word; i++) {
+      rank += Long.bitCount(bits[i]);
+    }
+    if (word < bits.length) {
+      rank += Long.bitCount(bits[word] & ((1L << slot) - 1));
+    }
+    return rank;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SparseValues that = (SparseValues) o;
+    if (size != that.size) {
+      return false;
+    }
+    for (int i = 0; i < Math.max(bits.length, that.bits.length); i++) {
+      if ((i < bits.length ? bits[i] : 0L) != (i < that.bits.length ? that.bits[i] : 0L)) {
+        return false;
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      if (!values[i].equals(that.values[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    for (int i = 0; i < bits.length; i++) {
+      if (bits[i] != 0L) {
+        result = 31 * result + (i ^ Long.hashCode(bits[i]));
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      result = 31 * result + values[i].hashCode();
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0, slot = 0; i < size; slot++) {
+      if (has(slot)) {
+        sb.append(i == 0 ? "" : ", ").append(slot).append('=').append(values[i++]);
+      }
+    }
+    return sb.append(']').toString();
+  }
+}
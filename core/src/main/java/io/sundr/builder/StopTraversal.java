@@ -0,0 +1,32 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+/**
+ * Unwinds a traversal when its last running visitor returns {@link Traversal#STOP}.
+ * The entry points of a traversal, like {@link Visitable#accept(Visitor...)}, catch it, so it never reaches their callers.
+ * It is only thrown by {@link Visitable#accept(java.util.List, String, Visitor...)}, which generated code calls to
+ * visit the children of a node. Callers of that overload should catch it, if they need to stop gracefully.
+ */
+public final class StopTraversal extends RuntimeException {
+
+  static final StopTraversal INSTANCE = new StopTraversal();
+
+  private StopTraversal() {
+    super(null, null, false, false);
+  }
+}
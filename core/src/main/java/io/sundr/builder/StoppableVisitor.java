@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Scopes {@link Traversal#STOP} to the visitor that returned it, when a traversal has more than one visitor.
+ * A stopped visitor turns down all the remaining elements, while the others go on. The traversal only stops, when the
+ * last of its visitors does.
+ */
+final class StoppableVisitor<T> implements Visitor<T> {
+
+  private final Visitor<T> delegate;
+  private final AtomicInteger running;
+  private boolean stopped;
+
+  private StoppableVisitor(Visitor<T> delegate, AtomicInteger running) {
+    this.delegate = delegate;
+    this.running = running;
+  }
+
+  /**
+   * Wrap the visitors of a traversal.
+   *
+   * @param visitors the visitors
+   * @return the wrapped visitors (the specified array if there are less than two, since a single visitor can stop the
+   *         whole traversal).
+   */
+  static Visitor[] wrap(Visitor... visitors) {
+    if (visitors.length < 2) {
+      return visitors;
+    }
+    AtomicInteger running = new AtomicInteger(visitors.length);
+    Visitor[] wrapped = new Visitor[visitors.length];
+    for (int i = 0; i < visitors.length; i++) {
+      wrapped[i] = new StoppableVisitor<>(visitors[i], running);
+    }
+    return wrapped;
+  }
+
+  static boolean isStopped(Visitor visitor) {
+    return visitor instanceof StoppableVisitor && ((StoppableVisitor) visitor).stopped;
+  }
+
+  @Override
+  public Predicate<List<Entry<String, Object>>> getRequirement() {
+    return delegate.getRequirement();
+  }
+
+  @Override
+  public <F> Boolean canVisit(List<Entry<String, Object>> path, F target) {
+    return !stopped && delegate.canVisit(path, target);
+  }
+
+  @Override
+  public int order() {
+    return delegate.order();
+  }
+
+  @Override
+  public void visit(T target) {
+    delegate.visit(target);
+  }
+
+  @Override
+  public void visit(List<Entry<String, Object>> path, T target) {
+    delegate.visit(path, target);
+  }
+
+  @Override
+  public Traversal traverse(List<Entry<String, Object>> path, T target) {
+    Traversal traversal = delegate.traverse(path, target);
+    if (traversal != Traversal.STOP) {
+      return traversal;
+    }
+    stopped = true;
+    return running.decrementAndGet() > 0 ? Traversal.SKIP_SUBTREE : Traversal.STOP;
+  }
+
+  @Override
+  public Class<T> getType() {
+    return delegate.getType();
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+/**
+ * Tells a traversal how to proceed, after a visitor has visited an element.
+ *
+ * @see Visitor#traverse(java.util.List, Object)
+ */
+public enum Traversal {
+
+  /**
+   * Continue with the children of the element.
+   */
+  CONTINUE,
+
+  /**
+   * Don't pass the visitor to the children of the element, but continue with its siblings.
+   */
+  SKIP_SUBTREE,
+
+  /**
+   * Stop the traversal for the visitor. The other visitors of the traversal go on, and the traversal ends when the last
+   * one stops.
+   */
+  STOP
+}
@@ -46,17 +46,30 @@ public interface Visitable<T> {
     return getTarget(this);
   }
 
+  /**
+   * Visit the element as part of a traversal, that started at one of its ancestors.
+   *
+   * @param path the path of the element
+   * @param currentKey the name of the property that holds the element
+   * @param visitors the visitors
+   * @return the target of the element.
+   * @throws StopTraversal if a visitor stopped the traversal.
+   */
   default T accept(List<Entry<String, Object>> path, String currentKey, Visitor... visitors) {
     for (Visitor visitor : visitors) {
-      if (visitor.canVisit(path, this)) {
-        visitor.visit(path, this);
+      if (visitor.canVisit(path, this) && visitor.traverse(path, this) == Traversal.STOP) {
+        throw StopTraversal.INSTANCE;
       }
     }
     return getTarget(this);
   }
 
   default T accept(List<Entry<String, Object>> path, Visitor... visitors) {
-    return accept(path, "", visitors);
+    try {
+      return accept(path, "", StoppableVisitor.wrap(visitors));
+    } catch (StopTraversal e) {
+      return getTarget(this);
+    }
   }
 
   default T getTarget(Visitable<T> visitable) {
@@ -16,22 +16,283 @@
 
 package io.sundr.builder;
 
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
+/**
+ * The visitables of a fluent, grouped by the name of the property that holds them.
+ * The keys and their lists are kept in a single array, with one pair of slots per property. Generated fluents give each
+ * of their properties a constant slot, so their lookups go straight to the list of the property. Properties that are
+ * looked up by name, or whose slot is taken by another property (e.g. one of a superclass fluent), get the first free
+ * slot and are found by comparing names. The array is only allocated when the first property is added, and doubles in
+ * size when it runs out of room. Iterating over the visitables or the entries doesn't allocate.
+ * <p>
+ * The map is still a {@link HashMap} for compatibility, but it keeps nothing in it: all the map methods use the slots.
+ */
 public class VisitableMap extends HashMap<String, List<Visitable>> implements Iterable<Visitable> {
 
+  private static final Object[] EMPTY = new Object[0];
+  private static final Object NULL_KEY = new Object();
+
+  //Free slots have a null key, the null key itself is stored as NULL_KEY
+  private Object[] slots = EMPTY;
+  private int size;
+
   @Override
   public List<Visitable> get(Object key) {
-    if (!containsKey(key)) {
-      put(String.valueOf(key), new ArrayList());
+    int index = indexOf(key);
+    if (index >= 0) {
+      return (List<Visitable>) slots[index + 1];
+    }
+    List<Visitable> list = new ArrayList<>();
+    insert(-1, key, list);
+    return list;
+  }
+
+  /**
+   * Get the visitables of the specified property, making room for a batch of entries that is about to be added.
+   *
+   * @param key the name of the property
+   * @param additional the number of entries that will be added
+   * @return the visitables of the property.
+   */
+  public List<Visitable> get(Object key, int additional) {
+    return reserve(get(key), additional);
+  }
+
+  /**
+   * Get the visitables of the property that has the specified slot.
+   *
+   * @param slot the slot of the property, a constant of the fluent that declares it
+   * @param key the name of the property
+   * @return the visitables of the property.
+   */
+  public List<Visitable> get(int slot, String key) {
+    int index = slot * 2;
+    Object[] current = slots;
+    if (index < current.length && current[index] == key && key != null) {
+      return (List<Visitable>) current[index + 1];
+    }
+    index = indexOf(key);
+    if (index >= 0) {
+      return (List<Visitable>) slots[index + 1];
+    }
+    List<Visitable> list = new ArrayList<>();
+    insert(slot * 2, key, list);
+    return list;
+  }
+
+  /**
+   * Get the visitables of the property that has the specified slot, making room for a batch of entries that is about to
+   * be added.
+   *
+   * @param slot the slot of the property, a constant of the fluent that declares it
+   * @param key the name of the property
+   * @param additional the number of entries that will be added
+   * @return the visitables of the property.
+   */
+  public List<Visitable> get(int slot, String key, int additional) {
+    return reserve(get(slot, key), additional);
+  }
+
+  /**
+   * Get the visitables of the property that has the specified slot, without creating a list if the property is missing.
+   *
+   * @param slot the slot of the property, a constant of the fluent that declares it
+   * @param key the name of the property
+   * @return the visitables of the property, or null if the property is not present.
+   */
+  public List<Visitable> peek(int slot, String key) {
+    int index = slot * 2;
+    Object[] current = slots;
+    if (index < current.length && current[index] == key && key != null) {
+      return (List<Visitable>) current[index + 1];
+    }
+    return peek(key);
+  }
+
+  @Override
+  public List<Visitable> put(String key, List<Visitable> value) {
+    int index = indexOf(key);
+    if (index >= 0) {
+      List<Visitable> previous = (List<Visitable>) slots[index + 1];
+      slots[index + 1] = value;
+      return previous;
+    }
+    insert(-1, key, value);
+    return null;
+  }
+
+  @Override
+  public List<Visitable> remove(Object key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    List<Visitable> previous = (List<Visitable>) slots[index + 1];
+    slots[index] = null;
+    slots[index + 1] = null;
+    size--;
+    return previous;
+  }
+
+  /**
+   * Unlike {@link #get(Object)}, the methods below don't create a list for missing keys, just like they wouldn't on a
+   * {@link java.util.HashMap}. Missing keys and keys mapped to null are treated the same way.
+   */
+  @Override
+  public List<Visitable> getOrDefault(Object key, List<Visitable> defaultValue) {
+    List<Visitable> value = peek(key);
+    return value != null ? value : defaultValue;
+  }
+
+  @Override
+  public List<Visitable> putIfAbsent(String key, List<Visitable> value) {
+    List<Visitable> current = peek(key);
+    if (current == null) {
+      put(key, value);
+    }
+    return current;
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    int index = indexOf(key);
+    if (index < 0 || !Objects.equals(slots[index + 1], value)) {
+      return false;
+    }
+    remove(key);
+    return true;
+  }
+
+  @Override
+  public List<Visitable> replace(String key, List<Visitable> value) {
+    int index = indexOf(key);
+    return index >= 0 ? put(key, value) : null;
+  }
+
+  @Override
+  public boolean replace(String key, List<Visitable> oldValue, List<Visitable> newValue) {
+    int index = indexOf(key);
+    if (index < 0 || !Objects.equals(slots[index + 1], oldValue)) {
+      return false;
+    }
+    slots[index + 1] = newValue;
+    return true;
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super String, ? super List<Visitable>, ? extends List<Visitable>> function) {
+    Object[] current = slots;
+    for (int i = 0; i < current.length; i += 2) {
+      if (current[i] != null) {
+        current[i + 1] = function.apply(keyAt(i), (List<Visitable>) current[i + 1]);
+      }
+    }
+  }
+
+  @Override
+  public List<Visitable> computeIfAbsent(String key,
+      Function<? super String, ? extends List<Visitable>> mappingFunction) {
+    List<Visitable> current = peek(key);
+    if (current != null) {
+      return current;
+    }
+    List<Visitable> value = mappingFunction.apply(key);
+    if (value != null) {
+      put(key, value);
+    }
+    return value;
+  }
+
+  @Override
+  public List<Visitable> computeIfPresent(String key,
+      BiFunction<? super String, ? super List<Visitable>, ? extends List<Visitable>> remappingFunction) {
+    List<Visitable> current = peek(key);
+    if (current == null) {
+      return null;
+    }
+    return update(key, remappingFunction.apply(key, current));
+  }
+
+  @Override
+  public List<Visitable> compute(String key,
+      BiFunction<? super String, ? super List<Visitable>, ? extends List<Visitable>> remappingFunction) {
+    return update(key, remappingFunction.apply(key, peek(key)));
+  }
+
+  @Override
+  public List<Visitable> merge(String key, List<Visitable> value,
+      BiFunction<? super List<Visitable>, ? super List<Visitable>, ? extends List<Visitable>> remappingFunction) {
+    Objects.requireNonNull(value);
+    List<Visitable> current = peek(key);
+    return update(key, current == null ? value : remappingFunction.apply(current, value));
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ? extends List<Visitable>> map) {
+    map.forEach(this::put);
+  }
+
+  @Override
+  public void clear() {
+    slots = EMPTY;
+    size = 0;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    Object[] current = slots;
+    for (int i = 0; i < current.length; i += 2) {
+      if (current[i] != null && Objects.equals(value, current[i + 1])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super List<Visitable>> action) {
+    Object[] current = slots;
+    for (int i = 0; i < current.length; i += 2) {
+      if (current[i] != null) {
+        action.accept(keyAt(i), (List<Visitable>) current[i + 1]);
+      }
     }
-    return super.get(key);
   }
 
   public List<Visitable> aggregate() {
@@ -40,17 +301,284 @@ public class VisitableMap extends HashMap<String, List<Visitable>> implements It
 
   @Override
   public Iterator<Visitable> iterator() {
-    return aggregate().iterator();
+    return new Iterator<Visitable>() {
+      private int slot = -1;
+      private int index;
+      private List<Visitable> list;
+
+      @Override
+      public boolean hasNext() {
+        while (list == null || index >= list.size()) {
+          slot += 2;
+          if (slot >= slots.length) {
+            return false;
+          }
+          list = (List<Visitable>) slots[slot];
+          index = 0;
+        }
+        return true;
+      }
+
+      @Override
+      public Visitable next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return list.get(index++);
+      }
+    };
   }
 
   @Override
   public void forEach(Consumer<? super Visitable> action) {
-    aggregate().forEach(action);
+    Object[] current = slots;
+    for (int i = 1; i < current.length; i += 2) {
+      List<Visitable> list = (List<Visitable>) current[i];
+      for (int j = 0; list != null && j < list.size(); j++) {
+        action.accept(list.get(j));
+      }
+    }
   }
 
   @Override
   public Spliterator<Visitable> spliterator() {
-    return aggregate().spliterator();
+    return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
   }
 
+  @Override
+  public Set<String> keySet() {
+    return new AbstractSet<String>() {
+      @Override
+      public Iterator<String> iterator() {
+        return slots(i -> keyAt(i));
+      }
+
+      @Override
+      public int size() {
+        return VisitableMap.this.size();
+      }
+    };
+  }
+
+  @Override
+  public Collection<List<Visitable>> values() {
+    return new AbstractCollection<List<Visitable>>() {
+      @Override
+      public Iterator<List<Visitable>> iterator() {
+        return slots(i -> (List<Visitable>) slots[i + 1]);
+      }
+
+      @Override
+      public int size() {
+        return VisitableMap.this.size();
+      }
+    };
+  }
+
+  @Override
+  public Set<Entry<String, List<Visitable>>> entrySet() {
+    return new AbstractSet<Entry<String, List<Visitable>>>() {
+      @Override
+      public Iterator<Entry<String, List<Visitable>>> iterator() {
+        return slots(i -> new AbstractMap.SimpleEntry<String, List<Visitable>>(keyAt(i),
+            (List<Visitable>) slots[i + 1]) {
+          @Override
+          public List<Visitable> setValue(List<Visitable> value) {
+            put(getKey(), value);
+            return super.setValue(value);
+          }
+        });
+      }
+
+      @Override
+      public int size() {
+        return VisitableMap.this.size();
+      }
+    };
+  }
+
+  /**
+   * Copy the map. Like {@link HashMap#clone()}, the lists are not copied.
+   * The copy is not created through {@link HashMap#clone()}, which would copy the entries into the unused table.
+   *
+   * @return the copy.
+   */
+  @Override
+  public Object clone() {
+    VisitableMap clone = new VisitableMap();
+    clone.slots = size == 0 ? EMPTY : slots.clone();
+    clone.size = size;
+    return clone;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Map)) {
+      return false;
+    }
+    return entrySet().equals(((Map) obj).entrySet());
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 0;
+    for (int i = 0; i < slots.length; i += 2) {
+      if (slots[i] != null) {
+        result += Objects.hashCode(keyAt(i)) ^ Objects.hashCode(slots[i + 1]);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("{");
+    for (int i = 0; i < slots.length; i += 2) {
+      if (slots[i] != null) {
+        sb.append(sb.length() == 1 ? "" : ", ").append(keyAt(i)).append("=").append(slots[i + 1]);
+      }
+    }
+    return sb.append("}").toString();
+  }
+
+  /**
+   * Get the visitables of the specified property, without creating a list if the property is missing.
+   *
+   * @param key the name of the property
+   * @return the visitables of the property, or null if the property is not present.
+   */
+  private List<Visitable> peek(Object key) {
+    int index = indexOf(key);
+    return index >= 0 ? (List<Visitable>) slots[index + 1] : null;
+  }
+
+  /**
+   * Store the result of a remapping function, removing the property if the result is null.
+   *
+   * @param key the name of the property
+   * @param value the new visitables of the property
+   * @return the new visitables.
+   */
+  private List<Visitable> update(String key, List<Visitable> value) {
+    if (value == null) {
+      remove(key);
+    } else {
+      put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * Make room in the specified list for a batch of entries that is about to be added.
+   *
+   * @param list the list
+   * @param additional the number of entries that will be added
+   * @return the list.
+   */
+  private static List<Visitable> reserve(List<Visitable> list, int additional) {
+    if (list instanceof ArrayList) {
+      ((ArrayList<Visitable>) list).ensureCapacity(list.size() + additional);
+    }
+    return list;
+  }
+
+  /**
+   * Find the slot of the specified key.
+   * Keys are usually the same string constants, so they are compared by identity first.
+   *
+   * @param key the key
+   * @return the index of the key slot, or -1 if the key is not present.
+   */
+  private int indexOf(Object key) {
+    Object stored = key != null ? key : NULL_KEY;
+    Object[] current = slots;
+    for (int i = 0; i < current.length; i += 2) {
+      if (current[i] == stored) {
+        return i;
+      }
+    }
+    for (int i = 0; i < current.length; i += 2) {
+      if (current[i] != null && current[i].equals(stored)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Add a key that is not present, at the specified index if that slot is free, or else at the first free slot.
+   *
+   * @param index the index of the preferred key slot, or -1 if there is none
+   * @param key the key
+   * @param value the value
+   */
+  private void insert(int index, Object key, List<Visitable> value) {
+    if (index < 0 || (index < slots.length && slots[index] != null)) {
+      index = 0;
+      while (index < slots.length && slots[index] != null) {
+        index += 2;
+      }
+    }
+    if (index >= slots.length) {
+      slots = Arrays.copyOf(slots, Math.max(index + 2, slots.length * 2));
+    }
+    slots[index] = key != null ? key : NULL_KEY;
+    slots[index + 1] = value;
+    size++;
+  }
+
+  /**
+   * Get the key of the specified slot.
+   *
+   * @param index the index of the key slot
+   * @return the key.
+   */
+  private String keyAt(int index) {
+    Object key = slots[index];
+    return key != NULL_KEY ? (String) key : null;
+  }
+
+  /**
+   * Iterate over the key slots that are in use, converting each one with the specified function.
+   * Removing through the iterator removes the whole entry.
+   *
+   * @param function the function that converts the index of a key slot
+   * @return the iterator.
+   */
+  private <T> Iterator<T> slots(IntFunction<T> function) {
+    return new Iterator<T>() {
+      private int next;
+      private int last = -1;
+
+      @Override
+      public boolean hasNext() {
+        while (next < slots.length && slots[next] == null) {
+          next += 2;
+        }
+        return next < slots.length;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        last = next;
+        next += 2;
+        return function.apply(last);
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) {
+          throw new IllegalStateException();
+        }
+        VisitableMap.this.remove(keyAt(last));
+        last = -1;
+      }
+    };
+  }
 }
@@ -30,6 +30,20 @@ public interface Visitor<T> {
     visit(element);
   }
 
+  /**
+   * Visit the element and tell the traversal how to proceed.
+   * By default, this calls {@link #visit(List, Object)} and continues. Visitors can override it to skip the subtree of
+   * the element, or to stop the traversal as soon as they have found what they were looking for.
+   *
+   * @param path the path to the element
+   * @param element the element
+   * @return how the traversal should proceed.
+   */
+  default Traversal traverse(List<Entry<String, Object>> path, T element) {
+    visit(path, element);
+    return Traversal.CONTINUE;
+  }
+
   default Class<T> getType() {
     List<Class> args = Visitors.getTypeArguments(Visitor.class, getClass());
     if (args == null || args.isEmpty()) {
@@ -17,50 +17,80 @@
 
 package io.sundr.builder;
 
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Listens to the visitors applied by {@link BaseFluent}.
+ * Listeners are loaded using {@link ServiceLoader} the first time they are needed, or added using
+ * {@link #register(VisitorListener)}. When no listener is present, visitors are not wrapped at all.
+ */
 public interface VisitorListener {
 
   static AtomicBoolean loaded = new AtomicBoolean();
-  static Set<VisitorListener> listeners = new HashSet<>();
+  static Set<VisitorListener> listeners = new CopyOnWriteArraySet<>();
 
+  /**
+   * Get the registered listeners, loading them on the first call.
+   *
+   * @return a read-only view of the listeners.
+   */
   public static Set<VisitorListener> getListeners() {
     if (loaded.get()) {
-      return listeners;
+      return Collections.unmodifiableSet(listeners);
     }
     synchronized (loaded) {
-      listeners.add(new VisitorListener() {
-      });
-      for (VisitorListener listener : ServiceLoader.load(VisitorListener.class,
-          VisitorListener.class.getClassLoader())) {
-        listeners.add(listener);
-      }
-      if (Thread.currentThread().getContextClassLoader() != null) {
+      if (!loaded.get()) {
         for (VisitorListener listener : ServiceLoader.load(VisitorListener.class,
-            Thread.currentThread().getContextClassLoader())) {
+            VisitorListener.class.getClassLoader())) {
           listeners.add(listener);
         }
+        if (Thread.currentThread().getContextClassLoader() != null) {
+          for (VisitorListener listener : ServiceLoader.load(VisitorListener.class,
+              Thread.currentThread().getContextClassLoader())) {
+            listeners.add(listener);
+          }
+        }
+        ActiveVisitorListeners.set(listeners);
+        loaded.set(true);
       }
-      loaded.set(true);
     }
-    return listeners;
+    return Collections.unmodifiableSet(listeners);
   }
 
+  /**
+   * Wrap the visitor, so that it notifies the listeners.
+   *
+   * @param visitor the visitor
+   * @return the wrapped visitor, or the visitor itself if there are no listeners.
+   */
   public static <T> Visitor<T> wrap(Visitor<T> visitor) {
-    return VisitorWiretap.create(visitor, getListeners());
+    if (!loaded.get()) {
+      getListeners();
+    }
+    VisitorListener[] current = ActiveVisitorListeners.get();
+    return current.length == 0 ? visitor : VisitorWiretap.create(visitor, current);
   }
 
   public static void register(VisitorListener listener) {
-    listeners.add(listener);
+    synchronized (loaded) {
+      getListeners();
+      listeners.add(listener);
+      ActiveVisitorListeners.set(listeners);
+    }
   }
 
   public static void unregister(VisitorListener listener) {
-    listeners.add(listener);
+    synchronized (loaded) {
+      getListeners();
+      listeners.remove(listener);
+      ActiveVisitorListeners.set(listeners);
+    }
   }
 
   default <T> void beforeVisit(Visitor<T> v, List<Entry<String, Object>> path, T target) {
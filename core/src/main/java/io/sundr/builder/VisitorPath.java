@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * A read-only view of the path from the root of a traversal to the current node.
+ * Each path links to its parent, so descending into a node is O(1) and never copies the entries of the parent.
+ */
+public final class VisitorPath extends AbstractList<Entry<String, Object>> {
+
+  private static final VisitorPath EMPTY = new VisitorPath(Collections.emptyList(), null, null, 0);
+
+  private final List<Entry<String, Object>> parent;
+  private final Entry<String, Object> last;
+  private final int size;
+
+  private VisitorPath(List<Entry<String, Object>> parent, String key, Object value, int size) {
+    this.parent = parent;
+    this.last = size > 0 ? new AbstractMap.SimpleImmutableEntry<>(key, value) : null;
+    this.size = size;
+  }
+
+  /**
+   * Get a {@link VisitorPath} for the specified path.
+   * Paths that are already a {@link VisitorPath} are returned as is, other lists are copied once.
+   *
+   * @param path the path
+   * @return the path as a {@link VisitorPath}.
+   */
+  public static VisitorPath of(List<Entry<String, Object>> path) {
+    if (path instanceof VisitorPath) {
+      return (VisitorPath) path;
+    }
+    if (path == null || path.isEmpty()) {
+      return EMPTY;
+    }
+    List<Entry<String, Object>> copy = Collections.unmodifiableList(new ArrayList<>(path));
+    Entry<String, Object> last = copy.get(copy.size() - 1);
+    return new VisitorPath(copy.subList(0, copy.size() - 1), last.getKey(), last.getValue(), copy.size());
+  }
+
+  /**
+   * Create a new path that extends the current one with the specified entry.
+   *
+   * @param key the key under which the value was found
+   * @param value the value
+   * @return the new path.
+   */
+  public VisitorPath push(String key, Object value) {
+    return new VisitorPath(this, key, value, size + 1);
+  }
+
+  @Override
+  public Entry<String, Object> get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    VisitorPath current = this;
+    while (index < current.size - 1) {
+      if (!(current.parent instanceof VisitorPath)) {
+        return current.parent.get(index);
+      }
+      current = (VisitorPath) current.parent;
+    }
+    return current.last;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Iterator<Entry<String, Object>> iterator() {
+    Entry<String, Object>[] entries = new Entry[size];
+    List<Entry<String, Object>> current = this;
+    int index = size;
+    while (current instanceof VisitorPath && index > 0) {
+      VisitorPath path = (VisitorPath) current;
+      entries[--index] = path.last;
+      current = path.parent;
+    }
+    for (int i = index - 1; i >= 0; i--) {
+      entries[i] = current.get(i);
+    }
+    return Collections.unmodifiableList(Arrays.asList(entries)).iterator();
+  }
+}
@@ -25,15 +25,19 @@ import java.util.function.Predicate;
 
 public class VisitorWiretap<T> implements Visitor<T> {
 
-  private final Collection<VisitorListener> listeners;
+  private final VisitorListener[] listeners;
   private final Visitor<T> delegate;
 
-  private VisitorWiretap(Visitor<T> delegate, Collection<VisitorListener> listeners) {
+  private VisitorWiretap(Visitor<T> delegate, VisitorListener... listeners) {
     this.delegate = delegate;
     this.listeners = listeners;
   }
 
   public static <T> VisitorWiretap<T> create(Visitor<T> visitor, Collection<VisitorListener> listeners) {
+    return create(visitor, listeners.toArray(new VisitorListener[0]));
+  }
+
+  public static <T> VisitorWiretap<T> create(Visitor<T> visitor, VisitorListener... listeners) {
     if (visitor instanceof VisitorWiretap) {
       return (VisitorWiretap<T>) visitor;
     }
@@ -48,7 +52,9 @@ public class VisitorWiretap<T> implements Visitor<T> {
   @Override
   public <F> Boolean canVisit(List<Entry<String, Object>> path, F target) {
     boolean canVisit = delegate.canVisit(path, target);
-    listeners.forEach(l -> l.onCheck(delegate, canVisit, target));
+    for (VisitorListener l : listeners) {
+      l.onCheck(delegate, canVisit, target);
+    }
     return canVisit;
   }
 
@@ -59,16 +65,36 @@ public class VisitorWiretap<T> implements Visitor<T> {
 
   @Override
   public void visit(T target) {
-    listeners.forEach(l -> l.beforeVisit(delegate, Collections.emptyList(), target));
+    for (VisitorListener l : listeners) {
+      l.beforeVisit(delegate, Collections.emptyList(), target);
+    }
     delegate.visit(target);
-    listeners.forEach(l -> l.afterVisit(delegate, Collections.emptyList(), target));
+    for (VisitorListener l : listeners) {
+      l.afterVisit(delegate, Collections.emptyList(), target);
+    }
   }
 
   @Override
   public void visit(List<Entry<String, Object>> path, T target) {
-    listeners.forEach(l -> l.beforeVisit(delegate, path, target));
+    for (VisitorListener l : listeners) {
+      l.beforeVisit(delegate, path, target);
+    }
     delegate.visit(path, target);
-    listeners.forEach(l -> l.afterVisit(delegate, path, target));
+    for (VisitorListener l : listeners) {
+      l.afterVisit(delegate, path, target);
+    }
+  }
+
+  @Override
+  public Traversal traverse(List<Entry<String, Object>> path, T target) {
+    for (VisitorListener l : listeners) {
+      l.beforeVisit(delegate, path, target);
+    }
+    Traversal traversal = delegate.traverse(path, target);
+    for (VisitorListener l : listeners) {
+      l.afterVisit(delegate, path, target);
+    }
+    return traversal;
   }
 
   @Override
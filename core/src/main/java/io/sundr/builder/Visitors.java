@@ -18,19 +18,49 @@
 package io.sundr.builder;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Field;
 import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class Visitors {
 
+  /**
+   * Resolved type arguments per child class, keyed by the generic base class they were resolved against.
+   * The values are computed once per (child, base) pair, as the generic hierarchy of a class never changes.
+   */
+  private static final ClassValue<Map<Class, List<Class>>> TYPE_ARGUMENTS = new ClassValue<Map<Class, List<Class>>>() {
+    @Override
+    protected Map<Class, List<Class>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  /**
+   * Whether a node of a given type can be found under a key of the visitables of a fluent class.
+   * Keyed by fluent class, then by visitables key and finally by the type of the node.
+   */
+  private static final ClassValue<Map<String, Map<Class, Boolean>>> CAN_REACH = new ClassValue<Map<String, Map<Class, Boolean>>>() {
+    @Override
+    protected Map<String, Map<Class, Boolean>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   private Visitors() {
     //Utility Class
   }
@@ -48,6 +78,18 @@ public final class Visitors {
    * @return a list of the raw classes for the actual type arguments.
    */
   protected static <T> List<Class> getTypeArguments(Class<T> baseClass, Class<? extends T> childClass) {
+    return TYPE_ARGUMENTS.get(childClass).computeIfAbsent(baseClass, b -> resolveTypeArguments(b, childClass));
+  }
+
+  /**
+   * Walk the inheritance hierarchy of the child class and resolve the type arguments used for the generic base class.
+   * This is the uncached version of {@link #getTypeArguments(Class, Class)}.
+   *
+   * @param baseClass the base class
+   * @param childClass the child class
+   * @return an unmodifiable list of the raw classes for the actual type arguments.
+   */
+  private static List<Class> resolveTypeArguments(Class baseClass, Class childClass) {
     Map<Type, Type> resolvedTypes = new LinkedHashMap<Type, Type>();
     Type type = childClass;
     // start walking up the inheritance hierarchy until we hit baseClass
@@ -100,7 +142,7 @@ public final class Visitors {
       }
       typeArgumentsAsClasses.add(getClass(baseType));
     }
-    return typeArgumentsAsClasses;
+    return Collections.unmodifiableList(typeArgumentsAsClasses);
   }
 
   /**
@@ -152,4 +194,114 @@ public final class Visitors {
       return Optional.empty();
     }
   }
+
+  /**
+   * Checks if a node of the specified type may be found in the subtree under the specified key of the visitables of
+   * a fluent. The check uses the declared types of the fields of the fluent and of its nested builders, so it assumes
+   * that nested builders are instances of the declared builder classes (or of subclasses that do not add visitables).
+   * Whenever the declared types are not conclusive (e.g. abstract or generic builders), the subtree is considered
+   * reachable.
+   *
+   * @param fluentType the class of the fluent.
+   * @param key the key of the visitables.
+   * @param type the type of the node, or null for any type.
+   * @return false if no node of the type can be found under the key, true otherwise.
+   */
+  public static boolean canReach(Class<?> fluentType, String key, Class<?> type) {
+    if (type == null || type == Object.class) {
+      return true;
+    }
+    return CAN_REACH.get(fluentType).computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(type, t -> canReach(findReachable(fluentType, key), t));
+  }
+
+  private static boolean canReach(Optional<Set<Class>> reachable, Class<?> type) {
+    if (!reachable.isPresent()) {
+      return true;
+    }
+    for (Class candidate : reachable.get()) {
+      if (type.isAssignableFrom(candidate) || candidate.isAssignableFrom(type)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Find all the classes of the nodes that can be found in the subtree under the specified key.
+   *
+   * @param fluentType the class of the fluent.
+   * @param key the key of the visitables.
+   * @return the set of classes, or empty if the set could not be determined.
+   */
+  private static Optional<Set<Class>> findReachable(Class<?> fluentType, String key) {
+    for (Class c = fluentType; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (!field.getName().equals(key) || Modifier.isStatic(field.getModifiers())) {
+          continue;
+        }
+        Class elementType = getElementClass(field.getGenericType());
+        Set<Class> reachable = new HashSet<>();
+        if (elementType != null && Visitable.class.isAssignableFrom(elementType)
+            && collectReachable(elementType, reachable)) {
+          return Optional.of(reachable);
+        }
+        return Optional.empty();
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static boolean collectReachable(Class type, Set<Class> reachable) {
+    if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      return false;
+    }
+    if (!reachable.add(type)) {
+      return true;
+    }
+    for (Class c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+          continue;
+        }
+        Class elementType = getElementClass(field.getGenericType());
+        if (elementType != null && Visitable.class.isAssignableFrom(elementType)
+            && !collectReachable(elementType, reachable)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Get the raw class of the elements that a field of the specified type holds.
+   * For collections this is the class of the items, for maps the class of the values, for anything else the class of
+   * the field itself.
+   *
+   * @param type the type of the field.
+   * @return the raw class of the elements, or null if it can't be determined.
+   */
+  private static Class getElementClass(Type type) {
+    if (type instanceof ParameterizedType) {
+      ParameterizedType parameterizedType = (ParameterizedType) type;
+      Class rawType = getClass(parameterizedType.getRawType());
+      Type[] arguments = parameterizedType.getActualTypeArguments();
+      if (rawType != null && Collection.class.isAssignableFrom(rawType) && arguments.length == 1) {
+        return getErasure(arguments[0]);
+      } else if (rawType != null && Map.class.isAssignableFrom(rawType) && arguments.length == 2) {
+        return getErasure(arguments[1]);
+      }
+    }
+    return getErasure(type);
+  }
+
+  private static Class getErasure(Type type) {
+    if (type instanceof WildcardType) {
+      return getErasure(((WildcardType) type).getUpperBounds()[0]);
+    } else if (type instanceof TypeVariable) {
+      return getErasure(((TypeVariable) type).getBounds()[0]);
+    }
+    return getClass(type);
+  }
 }
@@ -0,0 +1,452 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class BaseFluentTest {
+
+  @Test
+  public void shouldVisitEachNodeOncePerVisitor() {
+    List<String> first = new ArrayList<>();
+    List<String> second = new ArrayList<>();
+    Node root = tree();
+    root.accept(new Collect(first), new Collect(second));
+    assertEquals(Arrays.asList("root", "a", "a1", "a2", "b"), first);
+    assertEquals(first, second);
+  }
+
+  @Test
+  public void shouldEnterEachNodeOnceWhenFused() {
+    List<String> first = new ArrayList<>();
+    List<String> second = new ArrayList<>();
+    Node root = tree();
+    root.accept(new Collect(first), new Collect(second));
+    assertEquals(9, root.entered());
+
+    first.clear();
+    second.clear();
+    root = tree();
+    root.acceptFused(new Collect(first), new Collect(second));
+    assertEquals(Arrays.asList("root", "a", "a1", "a2", "b"), first);
+    assertEquals(first, second);
+    assertEquals(5, root.entered());
+  }
+
+  @Test
+  public void shouldVisitNodeInOrderWhenFused() {
+    List<String> visits = new ArrayList<>();
+    Node root = tree();
+    root.acceptFused(new Collect(visits, "low:", 0), new Collect(visits, "high:", 10));
+    assertEquals(Arrays.asList("high:root", "low:root", "high:a", "low:a", "high:a1", "low:a1", "high:a2", "low:a2",
+        "high:b", "low:b"), visits);
+  }
+
+  @Test
+  public void shouldPassPathWhenFused() {
+    List<String> paths = new ArrayList<>();
+    tree().acceptFused(new Visitor<Node>() {
+      @Override
+      public void visit(Node element) {
+      }
+
+      @Override
+      public void visit(List<Entry<String, Object>> path, Node element) {
+        StringBuilder sb = new StringBuilder();
+        path.forEach(e -> sb.append(((Node) e.getValue()).name).append("/"));
+        paths.add(sb.append(element.name).toString());
+      }
+    });
+    assertEquals(Arrays.asList("root", "root/a", "root/a/a1", "root/a/a2", "root/b"), paths);
+  }
+
+  @Test
+  public void shouldFindReachableTypes() {
+    assertTrue(Visitors.canReach(Node.class, "children", Node.class));
+    assertTrue(Visitors.canReach(Node.class, "children", Leaf.class));
+    assertTrue(Visitors.canReach(Node.class, "leaves", Leaf.class));
+    assertTrue(Visitors.canReach(Node.class, "leaves", BaseFluent.class));
+    assertTrue(Visitors.canReach(Node.class, "leaves", null));
+    assertFalse(Visitors.canReach(Node.class, "leaves", Node.class));
+    assertFalse(Visitors.canReach(Node.class, "leaves", String.class));
+    assertTrue(Visitors.canReach(Node.class, "unknown", String.class));
+  }
+
+  @Test
+  public void shouldSkipSubtreesThatCantContainType() {
+    List<String> visits = new ArrayList<>();
+    Node root = tree();
+    Leaf leaf = new Leaf();
+    root.children.get(0).addLeaf(leaf);
+    root.accept(new Collect(visits));
+    assertEquals(Arrays.asList("root", "a", "a1", "a2", "b"), visits);
+    assertEquals(0, leaf.entered);
+
+    List<Leaf> leaves = new ArrayList<>();
+    root.accept(new Visitor<Leaf>() {
+      @Override
+      public void visit(Leaf element) {
+        leaves.add(element);
+      }
+    });
+    assertEquals(Arrays.asList(leaf), leaves);
+    assertEquals(1, leaf.entered);
+  }
+
+  @Test
+  public void shouldStopTraversal() {
+    List<String> visits = new ArrayList<>();
+    Node root = tree();
+    Visitor<Node> find = stopAt("a1", visits);
+    assertSame(root, root.accept(find));
+    assertEquals(Arrays.asList("root", "a", "a1"), visits);
+
+    visits.clear();
+    assertSame(root, root.acceptFused(find));
+    assertEquals(Arrays.asList("root", "a", "a1"), visits);
+  }
+
+  @Test
+  public void shouldOnlyStopTheVisitorThatStops() {
+    List<String> visits = new ArrayList<>();
+    List<String> others = new ArrayList<>();
+    Node root = tree();
+    root.accept(stopAt("a1", visits), new Collect(others));
+    assertEquals(Arrays.asList("root", "a", "a1"), visits);
+    assertEquals(Arrays.asList("root", "a", "a1", "a2", "b"), others);
+
+    visits.clear();
+    others.clear();
+    root.acceptFused(stopAt("a1", visits), new Collect(others));
+    assertEquals(Arrays.asList("root", "a", "a1"), visits);
+    assertEquals(Arrays.asList("root", "a", "a1", "a2", "b"), others);
+  }
+
+  @Test
+  public void shouldStopTraversalWhenAllVisitorsStop() {
+    List<String> visits = new ArrayList<>();
+    List<String> others = new ArrayList<>();
+    Node root = tree();
+    assertSame(root, root.accept(stopAt("a1", visits), stopAt("a2", others)));
+    assertEquals(Arrays.asList("root", "a", "a1"), visits);
+    assertEquals(Arrays.asList("root", "a", "a1", "a2"), others);
+
+    visits.clear();
+    others.clear();
+    assertSame(root, root.acceptFused(stopAt("a1", visits), stopAt("a2", others)));
+    assertEquals(Arrays.asList("root", "a", "a1"), visits);
+    assertEquals(Arrays.asList("root", "a", "a1", "a2"), others);
+  }
+
+  @Test
+  public void shouldSkipSubtree() {
+    List<String> visits = new ArrayList<>();
+    List<String> others = new ArrayList<>();
+    Visitor<Node> skip = new Visitor<Node>() {
+      @Override
+      public void visit(Node element) {
+        visits.add(element.name);
+      }
+
+      @Override
+      public Traversal traverse(List<Entry<String, Object>> path, Node element) {
+        visit(path, element);
+        return element.name.equals("a") ? Traversal.SKIP_SUBTREE : Traversal.CONTINUE;
+      }
+    };
+    tree().accept(skip, new Collect(others));
+    assertEquals(Arrays.asList("root", "a", "b"), visits);
+    assertEquals(Arrays.asList("root", "a", "a1", "a2", "b"), others);
+
+    visits.clear();
+    others.clear();
+    tree().acceptFused(skip, new Collect(others));
+    assertEquals(Arrays.asList("root", "a", "b"), visits);
+    assertEquals(Arrays.asList("root", "a", "a1", "a2", "b"), others);
+  }
+
+  @Test
+  public void shouldNotifyListeners() {
+    List<String> visits = new ArrayList<>();
+    List<String> events = new ArrayList<>();
+    Collect collect = new Collect(visits);
+    VisitorListener listener = new VisitorListener() {
+      @Override
+      public <T> void beforeVisit(Visitor<T> v, List<Entry<String, Object>> path, T target) {
+        assertSame(collect, v);
+        events.add("before:" + ((Node) target).name);
+      }
+
+      @Override
+      public <T> void afterVisit(Visitor<T> v, List<Entry<String, Object>> path, T target) {
+        events.add("after:" + ((Node) target).name);
+      }
+    };
+
+    assertSame(collect, VisitorListener.wrap(collect));
+    VisitorListener.register(listener);
+    try {
+      assertTrue(VisitorListener.getListeners().contains(listener));
+      assertTrue(VisitorListener.wrap(collect) instanceof VisitorWiretap);
+      tree().accept(collect);
+      assertEquals(Arrays.asList("before:root", "after:root", "before:a", "after:a", "before:a1", "after:a1",
+          "before:a2", "after:a2", "before:b", "after:b"), events);
+
+      events.clear();
+      tree().acceptFused(collect);
+      assertEquals(10, events.size());
+    } finally {
+      VisitorListener.unregister(listener);
+    }
+
+    assertFalse(VisitorListener.getListeners().contains(listener));
+    assertSame(collect, VisitorListener.wrap(collect));
+    events.clear();
+    tree().accept(collect);
+    assertTrue(events.isEmpty());
+  }
+
+  @Test
+  public void shouldBuildCollectionsInOrder() {
+    List<Builder<String>> builders = Arrays.asList(() -> "c", () -> "a", () -> "b");
+    assertEquals(Arrays.asList("c", "a", "b"), BaseFluent.build(builders));
+    Set<String> built = BaseFluent.build(new LinkedHashSet<>(builders));
+    assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(built));
+    assertEquals(null, BaseFluent.build((List<Builder<String>>) null));
+  }
+
+  @Test
+  public void shouldAggregateItems() {
+    assertEquals(Arrays.asList("a", "b", "c"), BaseFluent.aggregate(Arrays.asList("a"), null, Arrays.asList("b", "c")));
+    assertEquals(new LinkedHashSet<>(Arrays.asList("a", "b")),
+        BaseFluent.aggregate(new LinkedHashSet<>(Arrays.asList("a")), new LinkedHashSet<>(Arrays.asList("a", "b"))));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldBuildUnmodifiableLists() {
+    List<Builder<String>> builders = Arrays.asList(() -> "a");
+    List<String> built = BaseFluent.buildUnmodifiable(builders);
+    assertEquals(Arrays.asList("a"), built);
+    built.add("b");
+  }
+
+  @Test
+  public void shouldCopyIntoUnmodifiableCollections() {
+    List<String> list = new ArrayList<>(Arrays.asList("a"));
+    List<String> copy = BaseFluent.unmodifiableCopy(list);
+    list.add("b");
+    assertEquals(Arrays.asList("a"), copy);
+    assertEquals(null, BaseFluent.unmodifiableCopy((Set<String>) null));
+  }
+
+  private static Node tree() {
+    return new Node("root")
+        .add(new Node("a").add(new Node("a1")).add(new Node("a2")))
+        .add(new Node("b"));
+  }
+
+  private static Visitor<Node> stopAt(String name, List<String> visits) {
+    return new Visitor<Node>() {
+      @Override
+      public void visit(Node element) {
+        visits.add(element.name);
+      }
+
+      @Override
+      public Traversal traverse(List<Entry<String, Object>> path, Node element) {
+        visit(path, element);
+        return element.name.equals(name) ? Traversal.STOP : Traversal.CONTINUE;
+      }
+    };
+  }
+
+  private static class Collect implements Visitor<Node> {
+
+    private final List<String> visits;
+    private final String prefix;
+    private final int order;
+
+    Collect(List<String> visits) {
+      this(visits, "", 0);
+    }
+
+    Collect(List<String> visits, String prefix, int order) {
+      this.visits = visits;
+      this.prefix = prefix;
+      this.order = order;
+    }
+
+    @Override
+    public void visit(Node element) {
+      visits.add(prefix + element.name);
+    }
+
+    @Override
+    public int order() {
+      return order;
+    }
+  }
+
+  private static class Node extends BaseFluent<Node> {
+
+    private final String name;
+    private final List<Node> children = new ArrayList<>();
+    private final List<Leaf> leaves = new ArrayList<>();
+    private int entered;
+
+    Node(String name) {
+      this.name = name;
+    }
+
+    Node add(Node child) {
+      children.add(child);
+      _visitables.get("children").add(child);
+      return this;
+    }
+
+    Node addLeaf(Leaf leaf) {
+      leaves.add(leaf);
+      _visitables.get("leaves").add(leaf);
+      return this;
+    }
+
+    int entered() {
+      return entered + children.stream().mapToInt(Node::entered).sum();
+    }
+
+    @Override
+    public Node accept(List<Entry<String, Object>> path, String currentKey, Visitor... visitors) {
+      entered++;
+      return super.accept(path, currentKey, visitors);
+    }
+
+    @Override
+    public Node acceptFused(List<Entry<String, Object>> path, String currentKey, Visitor... visitors) {
+      entered++;
+      return super.acceptFused(path, currentKey, visitors);
+    }
+  }
+
+  @Test
+  public void shouldRemoveOneOccurrenceOfEachItem() {
+    List<String> items = new ArrayList<>();
+    List<String> removed = new ArrayList<>();
+    for (int i = 0; i < 80; i++) {
+      items.add(String.valueOf(i % 40));
+      if (i < 40 && i % 2 == 0) {
+        removed.add(String.valueOf(i));
+      }
+    }
+    List<Object> visitables = new ArrayList<>(items);
+    BaseFluent.removeEach(items, visitables, removed);
+
+    List<String> expected = new ArrayList<>();
+    for (int i = 1; i < 40; i += 2) {
+      expected.add(String.valueOf(i));
+    }
+    for (int i = 0; i < 40; i++) {
+      expected.add(String.valueOf(i));
+    }
+    assertEquals(expected, items);
+    assertEquals(expected, visitables);
+  }
+
+  @Test
+  public void shouldRemoveMatchingItems() {
+    List<String> items = new ArrayList<>(Arrays.asList("a", "b", "a", "c"));
+    List<Object> visitables = new ArrayList<>(items);
+    BaseFluent.removeMatching(items, visitables, "a"::equals);
+    assertEquals(Arrays.asList("b", "c"), items);
+    assertEquals(Arrays.asList("b", "c"), visitables);
+  }
+
+  @Test
+  public void shouldCreateVisitablesOnFirstUse() {
+    BaseFluent<?> fluent = new BaseFluent(false);
+    assertNull(fluent._visitables);
+    assertTrue(fluent._visitablesIfPresent(0, "leaves").isEmpty());
+    assertFalse(fluent._visitablesIfPresent(0, "leaves").remove(new Leaf()));
+    fluent.accept(new Visitor<Leaf>() {
+      @Override
+      public void visit(Leaf element) {
+      }
+    });
+    assertNull(fluent._visitables);
+
+    Leaf leaf = new Leaf();
+    fluent._visitables(0, "leaves").add(leaf);
+    assertEquals(Arrays.asList(leaf), fluent._visitables.get("leaves"));
+    assertSame(fluent._visitables(0, "leaves"), fluent._visitablesIfPresent(0, "leaves"));
+    assertNotNull(new BaseFluent()._visitables);
+  }
+
+  @Test
+  public void shouldCreateBuilderByConstructor() {
+    Point point = new Point();
+    VisitableBuilder<Point, ?> builder = BaseFluent.builderOf(point);
+    assertTrue(builder instanceof PointBuilder);
+    assertSame(point, builder.build());
+    assertSame(point, BaseFluent.builderOf(point).build());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldFailWithoutBuilder() {
+    BaseFluent.builderOf(new Leaf());
+  }
+
+  public static class Point {
+  }
+
+  public static class PointBuilder implements VisitableBuilder<Point, PointBuilder> {
+
+    private final Point point;
+
+    public PointBuilder(Point point) {
+      this.point = point;
+    }
+
+    @Override
+    public Point build() {
+      return point;
+    }
+  }
+
+  private static class Leaf extends BaseFluent<Leaf> {
+
+    private int entered;
+
+    @Override
+    public Leaf accept(List<Entry<String, Object>> path, String currentKey, Visitor... visitors) {
+      entered++;
+      return super.accept(path, currentKey, visitors);
+    }
+  }
+}
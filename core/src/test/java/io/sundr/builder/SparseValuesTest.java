@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class SparseValuesTest {
+
+  @Test
+  public void shouldKeepValuesBySlot() {
+    SparseValues values = new SparseValues();
+    for (int slot = 199; slot >= 0; slot -= 3) {
+      values.set(slot, "v" + slot);
+    }
+    for (int slot = 0; slot < 200; slot++) {
+      assertEquals((199 - slot) % 3 == 0, values.has(slot));
+      assertEquals((199 - slot) % 3 == 0 ? "v" + slot : null, values.get(slot));
+    }
+    assertFalse(values.has(1000));
+    assertNull(values.get(1000));
+  }
+
+  @Test
+  public void shouldClearSlotsSetToNull() {
+    SparseValues values = new SparseValues();
+    values.set(1, "a");
+    values.set(70, "b");
+    values.set(3, "c");
+    values.set(1, null);
+    values.remove(70);
+    values.set(5, null);
+    assertFalse(values.has(1));
+    assertFalse(values.has(70));
+    assertEquals("c", values.get(3));
+    assertEquals("[3=c]", values.toString());
+
+    values.set(3, "d");
+    assertEquals("d", values.get(3));
+  }
+
+  @Test
+  public void shouldCompareByContent() {
+    SparseValues first = new SparseValues();
+    SparseValues second = new SparseValues();
+    first.set(2, "a");
+    first.set(90, "b");
+    second.set(90, "b");
+    second.set(2, "a");
+    second.set(130, "c");
+    assertNotEquals(first, second);
+
+    second.set(130, null);
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+
+    second.set(2, "z");
+    assertNotEquals(first, second);
+  }
+}
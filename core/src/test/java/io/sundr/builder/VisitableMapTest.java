@@ -0,0 +1,219 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.Test;
+
+public class VisitableMapTest {
+
+  private final Visitable a = new BaseFluent();
+  private final Visitable b = new BaseFluent();
+  private final Visitable c = new BaseFluent();
+
+  @Test
+  public void shouldCreateListOnMiss() {
+    VisitableMap map = new VisitableMap();
+    assertTrue(map.isEmpty());
+    List<Visitable> list = map.get("first");
+    assertTrue(list.isEmpty());
+    assertSame(list, map.get("first"));
+    assertSame(list, map.get(new String("first")));
+    assertEquals(1, map.size());
+    assertTrue(map.containsKey("first"));
+    assertTrue(map.containsValue(list));
+  }
+
+  @Test
+  public void shouldKeepInsertionOrder() {
+    VisitableMap map = new VisitableMap();
+    map.get("z").add(a);
+    map.get("a").add(b);
+    map.get("m").add(c);
+    assertEquals(Arrays.asList("z", "a", "m"), new ArrayList<>(map.keySet()));
+    assertEquals(Arrays.asList(a, b, c), map.aggregate());
+    List<Visitable> visited = new ArrayList<>();
+    map.forEach(v -> visited.add(v));
+    assertEquals(Arrays.asList(a, b, c), visited);
+    assertEquals(Arrays.asList(a, b, c), StreamSupport.stream(map.spliterator(), false).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldIterateOverNonEmptyLists() {
+    VisitableMap map = new VisitableMap();
+    map.get("empty");
+    map.get("first").addAll(Arrays.asList(a, b));
+    map.get("other");
+    map.get("second").add(c);
+    Iterator<Visitable> iterator = map.iterator();
+    List<Visitable> visited = new ArrayList<>();
+    while (iterator.hasNext()) {
+      visited.add(iterator.next());
+    }
+    assertEquals(Arrays.asList(a, b, c), visited);
+  }
+
+  @Test
+  public void shouldPutAndRemove() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> first = new ArrayList<>(Arrays.asList(a));
+    assertNull(map.put("first", first));
+    map.get("second").add(b);
+    map.get("third").add(c);
+    assertSame(first, map.remove("first"));
+    assertNull(map.remove("first"));
+    assertEquals(Arrays.asList("second", "third"), new ArrayList<>(map.keySet()));
+    map.keySet().remove("second");
+    assertEquals(Arrays.asList(c), map.aggregate());
+    map.clear();
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void shouldBeEqualToOtherMaps() {
+    VisitableMap map = new VisitableMap();
+    map.get("first").add(a);
+    map.get("second").add(b);
+    Map<String, List<Visitable>> other = new HashMap<>();
+    other.put("second", Arrays.asList(b));
+    other.put("first", Arrays.asList(a));
+    assertEquals(other, map);
+    assertEquals(map, other);
+    assertEquals(other.hashCode(), map.hashCode());
+    other.remove("second");
+    assertFalse(map.equals(other));
+  }
+
+  @Test
+  public void shouldWriteThroughEntries() {
+    VisitableMap map = new VisitableMap();
+    map.get("first").add(a);
+    List<Visitable> replacement = new ArrayList<>(Arrays.asList(b));
+    map.entrySet().iterator().next().setValue(replacement);
+    assertSame(replacement, map.get("first"));
+  }
+
+  @Test
+  public void shouldNotCreateListsInDefaultMethods() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> fallback = new ArrayList<>();
+    assertSame(fallback, map.getOrDefault("first", fallback));
+    assertNull(map.replace("first", fallback));
+    assertFalse(map.remove("first", fallback));
+    assertNull(map.computeIfPresent("first", (k, v) -> fallback));
+    assertTrue(map.isEmpty());
+
+    List<Visitable> first = new ArrayList<>(Arrays.asList(a));
+    assertSame(first, map.computeIfAbsent("first", k -> first));
+    assertSame(first, map.computeIfAbsent("first", k -> fallback));
+    assertSame(first, map.getOrDefault("first", fallback));
+    assertSame(first, map.putIfAbsent("first", fallback));
+    assertNull(map.putIfAbsent("second", fallback));
+    assertEquals(Arrays.asList("first", "second"), new ArrayList<>(map.keySet()));
+  }
+
+  @Test
+  public void shouldComputeAndMerge() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> merged = map.merge("first", new ArrayList<>(Arrays.asList(a)), (x, y) -> x);
+    assertSame(merged, map.merge("first", Arrays.asList(b), (x, y) -> {
+      x.addAll(y);
+      return x;
+    }));
+    assertEquals(Arrays.asList(a, b), map.get("first"));
+    List<Visitable> second = new ArrayList<>(Arrays.asList(c));
+    assertSame(second, map.compute("second", (k, v) -> v == null ? second : v));
+    assertTrue(map.replace("second", second, merged));
+    assertSame(merged, map.get("second"));
+    assertNull(map.compute("second", (k, v) -> null));
+    assertTrue(map.remove("first", merged));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void shouldUseSlots() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> second = map.get(1, "second");
+    List<Visitable> first = map.get(0, "first");
+    assertSame(first, map.get(0, "first"));
+    assertSame(second, map.get(1, "second"));
+    assertSame(second, map.get("second"));
+    assertSame(first, map.peek(0, "first"));
+    assertNull(map.peek(2, "third"));
+    assertEquals(Arrays.asList("first", "second"), new ArrayList<>(map.keySet()));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  public void shouldFallBackToFreeSlots() {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> first = map.get(0, "first");
+    List<Visitable> other = map.get(0, "other");
+    assertSame(first, map.get(0, "first"));
+    assertSame(other, map.get(0, "other"));
+    assertSame(other, map.peek(0, "other"));
+    for (int i = 0; i < 100; i++) {
+      map.get("key" + i).add(a);
+    }
+    assertEquals(102, map.size());
+    assertEquals(100, map.aggregate().size());
+    assertSame(other, map.get(0, "other"));
+  }
+
+  @Test
+  public void shouldSupportNullKeys() {
+    VisitableMap map = new VisitableMap();
+    assertFalse(map.containsKey(null));
+    map.get(null).add(a);
+    assertTrue(map.containsKey(null));
+    assertEquals(Arrays.asList(a), map.get(null));
+    assertEquals(Arrays.asList((String) null), new ArrayList<>(map.keySet()));
+    assertEquals(Arrays.asList(a), map.remove(null));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void shouldBeUsableAsHashMap() {
+    VisitableMap map = new VisitableMap();
+    map.get("first").add(a);
+    map.get("second").add(b);
+    HashMap<String, List<Visitable>> hashMap = map;
+    HashMap<String, List<Visitable>> copy = (HashMap<String, List<Visitable>>) hashMap.clone();
+    assertTrue(copy instanceof VisitableMap);
+    assertEquals(map, copy);
+    copy.remove("first");
+    assertEquals(2, map.size());
+    assertEquals(Arrays.asList(b), ((VisitableMap) copy).aggregate());
+    map.replaceAll((k, v) -> new ArrayList<>(Arrays.asList(c)));
+    assertEquals(Arrays.asList(c, c), map.aggregate());
+    assertEquals("{first=" + Arrays.asList(c) + ", second=" + Arrays.asList(c) + "}", map.toString());
+  }
+}
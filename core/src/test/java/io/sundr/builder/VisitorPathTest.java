@@ -0,0 +1,86 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.junit.Test;
+
+public class VisitorPathTest {
+
+  @Test
+  public void shouldBeEmpty() {
+    VisitorPath path = VisitorPath.of(Collections.emptyList());
+    assertTrue(path.isEmpty());
+    assertSame(path, VisitorPath.of(null));
+    assertSame(path, VisitorPath.of(path));
+  }
+
+  @Test
+  public void shouldPushEntries() {
+    VisitorPath root = VisitorPath.of(Collections.emptyList());
+    VisitorPath path = root.push("", "a").push("b", "b").push("c", "c");
+    assertTrue(root.isEmpty());
+    assertEquals(3, path.size());
+    assertEquals("a", path.get(0).getValue());
+    assertEquals("b", path.get(1).getKey());
+    assertEquals("c", path.get(2).getValue());
+    assertEquals(Arrays.asList(new AbstractMap.SimpleEntry<>("", "a"), new AbstractMap.SimpleEntry<>("b", "b"),
+        new AbstractMap.SimpleEntry<>("c", "c")), new ArrayList<>(path));
+  }
+
+  @Test
+  public void shouldShareParent() {
+    VisitorPath parent = VisitorPath.of(Collections.emptyList()).push("", "a");
+    VisitorPath left = parent.push("left", "l");
+    VisitorPath right = parent.push("right", "r");
+    assertEquals("l", left.get(1).getValue());
+    assertEquals("r", right.get(1).getValue());
+    assertSame(left.get(0), right.get(0));
+  }
+
+  @Test
+  public void shouldExtendForeignPath() {
+    List<Entry<String, Object>> foreign = new ArrayList<>();
+    foreign.add(new AbstractMap.SimpleEntry<>("x", "x"));
+    foreign.add(new AbstractMap.SimpleEntry<>("y", "y"));
+    VisitorPath path = VisitorPath.of(foreign).push("z", "z");
+    foreign.clear();
+
+    assertEquals(3, path.size());
+    assertEquals("x", path.get(0).getValue());
+    assertEquals("y", path.get(1).getValue());
+    assertEquals("z", path.get(2).getValue());
+    List<Object> values = new ArrayList<>();
+    path.forEach(e -> values.add(e.getValue()));
+    assertEquals(Arrays.asList("x", "y", "z"), values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldBeReadOnly() {
+    VisitorPath.of(Collections.emptyList()).push("", "a").add(new AbstractMap.SimpleEntry<>("b", "b"));
+  }
+}
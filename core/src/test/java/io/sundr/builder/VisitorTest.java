@@ -18,6 +18,8 @@
 package io.sundr.builder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Test;
 
@@ -48,4 +50,31 @@ public class VisitorTest {
     };
     assertEquals(String.class, v.getType());
   }
+
+  @Test
+  public void pathAwareTypedVisitorTest() {
+    PathAwareTypedVisitor<String, Integer> v = new PathAwareTypedVisitor<String, Integer>() {
+      @Override
+      public void visit(String element) {
+      }
+    };
+    assertEquals(String.class, v.getType());
+    assertEquals(Integer.class, v.getParentType());
+  }
+
+  @Test
+  public void typeArgumentsShouldBeResolvedOnce() {
+    Visitor<String> v = new Visitor<String>() {
+      @Override
+      public void visit(String element) {
+      }
+    };
+    assertSame(Visitors.getTypeArguments(Visitor.class, v.getClass()),
+        Visitors.getTypeArguments(Visitor.class, v.getClass()));
+
+    Visitor<String> lambda = item -> {
+    };
+    assertNull(lambda.getType());
+    assertNull(lambda.getType());
+  }
 }
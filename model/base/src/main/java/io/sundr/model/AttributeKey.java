@@ -16,10 +16,18 @@
 
 package io.sundr.model;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public final class AttributeKey<T> {
 
+  private static final AtomicInteger IDS = new AtomicInteger();
+  private static final ConcurrentMap<Class<?>, ConcurrentMap<String, AttributeKey<?>>> NAMED = new ConcurrentHashMap<>();
+
   private final String name;
   private final Class<T> type;
+  private final int id;
 
   public AttributeKey(Class type) {
     this(type.getName(), type);
@@ -28,6 +36,28 @@ public final class AttributeKey<T> {
   public AttributeKey(String name, Class type) {
     this.name = name;
     this.type = type;
+    this.id = IDS.getAndIncrement();
+  }
+
+  /**
+   * Returns the shared key with the specified name and type, creating it on first use.
+   * Keys are compared by identity, so this is the way to refer to the same attribute by name from different places.
+   *
+   * @param name the name of the key.
+   * @param type the type of the attribute value.
+   * @param <T> the type of the attribute value.
+   * @return the shared key.
+   */
+  public static <T> AttributeKey<T> forName(String name, Class<T> type) {
+    ConcurrentMap<String, AttributeKey<?>> keys = NAMED.get(type);
+    if (keys == null) {
+      keys = NAMED.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+    }
+    AttributeKey<?> key = keys.get(name);
+    if (key == null) {
+      key = keys.computeIfAbsent(name, n -> new AttributeKey<T>(n, type));
+    }
+    return (AttributeKey<T>) key;
   }
 
   public String getName() {
@@ -38,6 +68,13 @@ public final class AttributeKey<T> {
     return type;
   }
 
+  /**
+   * @return a small number that is unique to this key, used to index attributes.
+   */
+  int getId() {
+    return id;
+  }
+
   @Override
   public String toString() {
     return "AttributeKey [name=" + name + "]";
@@ -0,0 +1,201 @@
+/*
+ *      Copyright 2016 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable map of attributes, stored inline in two arrays sorted by {@link AttributeKey#getId()}.
+ * Most nodes carry a handful of attributes, which are found with a linear scan. Larger sets use a binary search.
+ * Neither lookups nor {@link #forEach(BiConsumer)} allocate.
+ */
+final class AttributeMap extends AbstractMap<AttributeKey, Object> {
+
+  static final AttributeMap EMPTY = new AttributeMap(new AttributeKey[0], new Object[0]);
+
+  private static final int LINEAR_SCAN_LIMIT = 8;
+
+  private final AttributeKey[] keys;
+  private final Object[] values;
+
+  private AttributeMap(AttributeKey[] keys, Object[] values) {
+    this.keys = keys;
+    this.values = values;
+  }
+
+  /**
+   * Returns an {@link AttributeMap} with the content of the specified map.
+   * Instances of {@link AttributeMap} are immutable, so they are returned as is.
+   *
+   * @param map the map to copy.
+   * @return the attribute map.
+   */
+  static AttributeMap copyOf(Map<AttributeKey, Object> map) {
+    if (map instanceof AttributeMap) {
+      return (AttributeMap) map;
+    }
+    if (map.isEmpty()) {
+      return EMPTY;
+    }
+    AttributeKey[] keys = new AttributeKey[map.size()];
+    Object[] values = new Object[map.size()];
+    int size = 0;
+    for (Map.Entry<AttributeKey, Object> entry : map.entrySet()) {
+      if (entry.getKey() == null) {
+        continue;
+      }
+      //Insertion sort, as attribute sets are small
+      int i = size++;
+      for (; i > 0 && keys[i - 1].getId() > entry.getKey().getId(); i--) {
+        keys[i] = keys[i - 1];
+        values[i] = values[i - 1];
+      }
+      keys[i] = entry.getKey();
+      values[i] = entry.getValue();
+    }
+    if (size == 0) {
+      return EMPTY;
+    }
+    return size == keys.length ? new AttributeMap(keys, values)
+        : new AttributeMap(Arrays.copyOf(keys, size), Arrays.copyOf(values, size));
+  }
+
+  /**
+   * Returns a copy of this map, with the specified attribute added (or replaced).
+   *
+   * @param key the key of the attribute.
+   * @param value the value of the attribute.
+   * @return the new map.
+   */
+  AttributeMap with(AttributeKey<?> key, Object value) {
+    int index = indexOf(key);
+    if (index >= 0) {
+      Object[] updated = values.clone();
+      updated[index] = value;
+      return new AttributeMap(keys, updated);
+    }
+    int insertAt = 0;
+    while (insertAt < keys.length && keys[insertAt].getId() < key.getId()) {
+      insertAt++;
+    }
+    AttributeKey[] newKeys = new AttributeKey[keys.length + 1];
+    Object[] newValues = new Object[keys.length + 1];
+    System.arraycopy(keys, 0, newKeys, 0, insertAt);
+    System.arraycopy(values, 0, newValues, 0, insertAt);
+    newKeys[insertAt] = key;
+    newValues[insertAt] = value;
+    System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+    System.arraycopy(values, insertAt, newValues, insertAt + 1, keys.length - insertAt);
+    return new AttributeMap(newKeys, newValues);
+  }
+
+  private int indexOf(Object key) {
+    if (!(key instanceof AttributeKey)) {
+      return -1;
+    }
+    if (keys.length <= LINEAR_SCAN_LIMIT) {
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i] == key) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    int id = ((AttributeKey) key).getId();
+    int low = 0;
+    int high = keys.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int midId = keys[mid].getId();
+      if (midId < id) {
+        low = mid + 1;
+      } else if (midId > id) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public Object get(Object key) {
+    int index = indexOf(key);
+    return index >= 0 ? values[index] : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super AttributeKey, ? super Object> action) {
+    for (int i = 0; i < keys.length; i++) {
+      action.accept(keys[i], values[i]);
+    }
+  }
+
+  @Override
+  public Set<Entry<AttributeKey, Object>> entrySet() {
+    return new AbstractSet<Entry<AttributeKey, Object>>() {
+      @Override
+      public Iterator<Entry<AttributeKey, Object>> iterator() {
+        return new Iterator<Entry<AttributeKey, Object>>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return index < keys.length;
+          }
+
+          @Override
+          public Entry<AttributeKey, Object> next() {
+            if (index >= keys.length) {
+              throw new NoSuchElementException();
+            }
+            Entry<AttributeKey, Object> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+            index++;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return keys.length;
+      }
+    };
+  }
+}
@@ -16,22 +16,33 @@
 
 package io.sundr.model;
 
-import java.util.Collections;
 import java.util.Map;
 
 public class AttributeSupport implements Attributeable {
 
+  //Always an AttributeMap, declared as a Map so that generated fluents keep exposing a plain map.
   private final Map<AttributeKey, Object> attributes;
 
   public AttributeSupport(Map<AttributeKey, Object> attributes) {
-    this.attributes = attributes;
+    this.attributes = attributes != null ? AttributeMap.copyOf(attributes) : null;
   }
 
+  /**
+   * @return the attributes, as an immutable map (no need to wrap it on each call).
+   */
   public Map<AttributeKey, Object> getAttributes() {
-    if (attributes == null) {
-      return null;
-    }
-    return Collections.unmodifiableMap(attributes);
+    return attributes;
+  }
+
+  /**
+   * Creates a copy of the attributes, with the specified attribute added (or replaced).
+   *
+   * @param key the key of the attribute.
+   * @param value the value of the attribute.
+   * @return a new map with the attributes.
+   */
+  protected Map<AttributeKey, Object> attributesWith(AttributeKey<?> key, Object value) {
+    return (attributes != null ? AttributeMap.copyOf(attributes) : AttributeMap.EMPTY).with(key, value);
   }
 
   @Override
@@ -16,6 +16,7 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
 import java.util.List;
 
 public class Block {
@@ -30,4 +31,19 @@ public class Block {
     return statements;
   }
 
+  /**
+   * Render the statements into the specified {@link Appendable}, one per line.
+   *
+   * @param out the {@link Appendable} to render into.
+   * @param indent the indentation to use for each statement.
+   * @throws IOException if the {@link Appendable} fails.
+   */
+  public void render(Appendable out, String indent) throws IOException {
+    for (Statement statement : statements) {
+      out.append(indent);
+      statement.render(out);
+      out.append(Node.NEWLINE);
+    }
+  }
+
 }
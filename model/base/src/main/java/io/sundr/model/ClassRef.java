@@ -16,6 +16,7 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -34,6 +35,11 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
   private final int dimensions;
   private final List<TypeRef> arguments;
 
+  // Derived data, lazily computed once as the reference is immutable.
+  private String name;
+  private String packageName;
+  private int hash;
+
   public ClassRef(String fullyQualifiedName, int dimensions, List<TypeRef> arguments,
       Map<AttributeKey, Object> attributes) {
     super(attributes);
@@ -62,6 +68,18 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
     return new ClassRef(this.getFullyQualifiedName(), dimensions, getArguments(), getAttributes());
   }
 
+  public ClassRef withFullyQualifiedName(String fullyQualifiedName) {
+    return new ClassRef(fullyQualifiedName, dimensions, arguments, getAttributes());
+  }
+
+  public ClassRef withArguments(List<TypeRef> arguments) {
+    return new ClassRef(fullyQualifiedName, dimensions, arguments, getAttributes());
+  }
+
+  public <T> ClassRef withAttribute(AttributeKey<T> key, T value) {
+    return new ClassRef(fullyQualifiedName, dimensions, arguments, attributesWith(key, value));
+  }
+
   public Set<ClassRef> getReferences() {
     Set<ClassRef> refs = new LinkedHashSet<ClassRef>();
     for (TypeRef argument : arguments) {
@@ -75,7 +93,22 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
 
   @Override
   public String getName() {
-    return Nameable.getClassName(fullyQualifiedName);
+    String result = name;
+    if (result == null) {
+      result = Nameable.getClassName(fullyQualifiedName);
+      name = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String getPackageName() {
+    String result = packageName;
+    if (result == null) {
+      result = Nameable.getPackageName(fullyQualifiedName);
+      packageName = result;
+    }
+    return result;
   }
 
   @Override
@@ -96,9 +129,13 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
 
   @Override
   public int hashCode() {
-    int result = fullyQualifiedName != null ? fullyQualifiedName.hashCode() : 0;
-    result = 31 * result + dimensions;
-    result = 31 * result + (arguments != null ? arguments.hashCode() : 0);
+    int result = hash;
+    if (result == 0) {
+      result = fullyQualifiedName != null ? fullyQualifiedName.hashCode() : 0;
+      result = 31 * result + dimensions;
+      result = 31 * result + (arguments != null ? arguments.hashCode() : 0);
+      hash = result;
+    }
     return result;
   }
 
@@ -120,18 +157,21 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
 
   @Override
   public String render(TypeDef enclosingType) {
-    StringBuilder sb = new StringBuilder();
-    sb.append(fullyQualifiedName);
+    return Renderable.render(this, enclosingType);
+  }
+
+  @Override
+  public void render(Appendable out, TypeDef enclosingType) throws IOException {
+    out.append(fullyQualifiedName);
     if (arguments.size() > 0) {
-      sb.append(LT);
-      sb.append(arguments.stream().map(a -> a.render(enclosingType)).collect(Collectors.joining(COMA)));
-      sb.append(GT);
+      out.append(LT);
+      Renderable.join(out, arguments, COMA, enclosingType);
+      out.append(GT);
     }
 
     for (int i = 0; i < dimensions; i++) {
-      sb.append(BRACKETS);
+      out.append(BRACKETS);
     }
-    return sb.toString();
   }
 
 }
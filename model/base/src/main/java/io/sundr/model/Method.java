@@ -16,6 +16,8 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -113,6 +115,56 @@ public class Method extends ModifierSupport implements Renderable, Commentable,
         block, modifiers, getAttributes());
   }
 
+  public Method withComments(List<String> comments) {
+    return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+        defaultMethod, block, modifiers, getAttributes());
+  }
+
+  public Method withAnnotations(List<AnnotationRef> annotations) {
+    return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+        defaultMethod, block, modifiers, getAttributes());
+  }
+
+  public Method withParameters(List<TypeParamDef> parameters) {
+    return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+        defaultMethod, block, modifiers, getAttributes());
+  }
+
+  public Method withName(String name) {
+    return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+        defaultMethod, block, modifiers, getAttributes());
+  }
+
+  public Method withReturnType(TypeRef returnType) {
+    return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+        defaultMethod, block, modifiers, getAttributes());
+  }
+
+  public Method withArguments(List<Property> arguments) {
+    return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+        defaultMethod, block, modifiers, getAttributes());
+  }
+
+  public Method withExceptions(List<ClassRef> exceptions) {
+    return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+        defaultMethod, block, modifiers, getAttributes());
+  }
+
+  public Method withBlock(Block block) {
+    return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+        defaultMethod, block, modifiers, getAttributes());
+  }
+
+  public Method withModifiers(Modifiers modifiers) {
+    return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+        defaultMethod, block, modifiers, getAttributes());
+  }
+
+  public <T> Method withAttribute(AttributeKey<T> key, T value) {
+    return new Method(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions,
+        defaultMethod, block, modifiers, attributesWith(key, value));
+  }
+
   public Set<ClassRef> getReferences() {
     Set<ClassRef> refs = new LinkedHashSet<ClassRef>();
 
@@ -221,76 +273,92 @@ public class Method extends ModifierSupport implements Renderable, Commentable,
   }
 
   public void renderDefinition(StringBuilder sb, TypeDef enclosingType) {
+    try {
+      renderDefinition((Appendable) sb, enclosingType);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public void renderDefinition(Appendable out, TypeDef enclosingType) throws IOException {
     if (isDefaultMethod()) {
-      sb.append(DEFAULT).append(SPACE);
+      out.append(DEFAULT).append(SPACE);
     } else {
-      renderModifiers(sb);
+      out.append(renderModifiers());
     }
 
     if (parameters != null && !parameters.isEmpty()) {
-      sb.append(LT);
-      sb.append(parameters.stream().map(p -> p.render(enclosingType)).collect(Collectors.joining(COMA)));
-      sb.append(GT);
+      out.append(LT);
+      Renderable.join(out, parameters, COMA, enclosingType);
+      out.append(GT);
     }
 
     if (name != null) {
-      sb.append(returnType.render(enclosingType));
-      sb.append(SPACE).append(name);
+      returnType.render(out, enclosingType);
+      out.append(SPACE).append(name);
     } else if (enclosingType != null
         && enclosingType.getFullyQualifiedName().equals(((ClassRef) returnType).getFullyQualifiedName())) {
       //This is a constructor for a top-level class
-      sb.append(enclosingType.getName());
+      out.append(enclosingType.getName());
     } else {
       //This is a constructor
       String fqcn = ((ClassRef) returnType).getFullyQualifiedName();
       String className = Nameable.getClassName(fqcn);
-      sb.append(className);
+      out.append(className);
     }
 
-    sb.append(OP);
+    out.append(OP);
     if (!varArgPreferred) {
-      sb.append(arguments.stream().map(a -> (String) a.withoutModiers().render(enclosingType))
-          .collect(Collectors.joining(COMA)));
+      for (int i = 0; i < arguments.size(); i++) {
+        if (i > 0) {
+          out.append(COMA);
+        }
+        arguments.get(i).withoutModiers().render(out, enclosingType);
+      }
     } else if (!arguments.isEmpty()) {
       List<Property> args = arguments.subList(0, arguments.size() - 1);
       Property varArg = arguments.get(arguments.size() - 1);
-      sb.append(args.stream().map(a -> a.render(enclosingType)).collect(Collectors.joining(COMA)));
+      Renderable.join(out, args, COMA, enclosingType);
       if (!args.isEmpty()) {
-        sb.append(COMA);
+        out.append(COMA);
       }
       if (varArg.getTypeRef().getDimensions() == 1) {
-        sb.append(varArg.getTypeRef().withDimensions(0)).append(VARARG).append(SPACE);
+        out.append(varArg.getTypeRef().withDimensions(0).toString()).append(VARARG).append(SPACE);
       } else {
-        sb.append(varArg.getTypeRef().render(enclosingType)).append(SPACE);
+        varArg.getTypeRef().render(out, enclosingType);
+        out.append(SPACE);
       }
-      sb.append(varArg.getName());
+      out.append(varArg.getName());
     }
-    sb.append(CP);
+    out.append(CP);
 
     if (exceptions != null && !exceptions.isEmpty()) {
-      sb.append(SPACE).append(THROWS).append(SPACE)
-          .append(exceptions.stream().map(e -> e.render(enclosingType)).collect(Collectors.joining(COMA)));
+      out.append(SPACE).append(THROWS).append(SPACE);
+      Renderable.join(out, exceptions, COMA, enclosingType);
     }
   }
 
   @Override
   public String render(TypeDef enclosingType) {
-    StringBuilder sb = new StringBuilder();
-    renderDefinition(sb, enclosingType);
+    return Renderable.render(this, enclosingType);
+  }
+
+  @Override
+  public void render(Appendable out, TypeDef enclosingType) throws IOException {
+    renderDefinition(out, enclosingType);
     boolean renderBody = isDefaultMethod() || isStatic()
         || (enclosingType != null && enclosingType.getKind() != Kind.INTERFACE);
 
     if (renderBody) {
       String indent = enclosingType != null && enclosingType.getOuterTypeName() != null ? "    " : "  ";
-      sb.append(SPACE).append(OB).append(NEWLINE);
+      out.append(SPACE).append(OB).append(NEWLINE);
       if (getBlock() != null) {
-        sb.append(getBlock().getStatements().stream().map(s -> indent + "  " + s + NEWLINE).collect(Collectors.joining()));
+        getBlock().render(out, indent + "  ");
       }
-      sb.append(indent).append(CB);
+      out.append(indent).append(CB);
     } else {
-      sb.append(SEMICOLN);
+      out.append(SEMICOLN);
     }
-    return sb.toString();
   }
 
   @Override
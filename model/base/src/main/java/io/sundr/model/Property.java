@@ -16,6 +16,7 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -115,6 +116,30 @@ public class Property extends ModifierSupport implements Renderable, Commentable
         comments, Modifiers.create(), getAttributes());
   }
 
+  public Property withAnnotations(List<AnnotationRef> annotations) {
+    return new Property(annotations, typeRef, name, comments, modifiers, getAttributes());
+  }
+
+  public Property withTypeRef(TypeRef typeRef) {
+    return new Property(annotations, typeRef, name, comments, modifiers, getAttributes());
+  }
+
+  public Property withName(String name) {
+    return new Property(annotations, typeRef, name, comments, modifiers, getAttributes());
+  }
+
+  public Property withComments(List<String> comments) {
+    return new Property(annotations, typeRef, name, comments, modifiers, getAttributes());
+  }
+
+  public Property withModifiers(Modifiers modifiers) {
+    return new Property(annotations, typeRef, name, comments, modifiers, getAttributes());
+  }
+
+  public <T> Property withAttribute(AttributeKey<T> key, T value) {
+    return new Property(annotations, typeRef, name, comments, modifiers, attributesWith(key, value));
+  }
+
   protected String getDefaultValue() {
     Object value = getAttribute(INIT);
     if (getTypeRef() instanceof ClassRef && ((ClassRef) getTypeRef()).getFullyQualifiedName().equals(JAVA_LANG_STRING)
@@ -161,28 +186,34 @@ public class Property extends ModifierSupport implements Renderable, Commentable
 
   @Override
   public String render(TypeDef enclosingType) {
-    StringBuilder sb = new StringBuilder();
+    return Renderable.render(this, enclosingType);
+  }
 
+  @Override
+  public void render(Appendable out, TypeDef enclosingType) throws IOException {
     if (isPublic()) {
-      sb.append(PUBLIC).append(SPACE);
+      out.append(PUBLIC).append(SPACE);
     } else if (isProtected()) {
-      sb.append(PROTECTED).append(SPACE);
+      out.append(PROTECTED).append(SPACE);
     } else if (isPrivate()) {
-      sb.append(PRIVATE).append(SPACE);
+      out.append(PRIVATE).append(SPACE);
     }
 
     if (isStatic()) {
-      sb.append(STATIC).append(SPACE);
+      out.append(STATIC).append(SPACE);
     }
 
     if (isFinal()) {
-      sb.append(FINAL).append(SPACE);
+      out.append(FINAL).append(SPACE);
     }
 
-    sb.append(typeRef.render(enclosingType)).append(SPACE);
-    sb.append(name);
+    if (isTransient()) {
+      out.append(TRANSIENT).append(SPACE);
+    }
 
-    return sb.toString();
+    typeRef.render(out, enclosingType);
+    out.append(SPACE);
+    out.append(name);
   }
 
   @Override
@@ -205,6 +236,10 @@ public class Property extends ModifierSupport implements Renderable, Commentable
       sb.append(FINAL).append(SPACE);
     }
 
+    if (isTransient()) {
+      sb.append(TRANSIENT).append(SPACE);
+    }
+
     sb.append(typeRef).append(SPACE);
     sb.append(name);
 
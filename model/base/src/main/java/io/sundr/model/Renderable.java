@@ -17,6 +17,10 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+
 public interface Renderable {
 
   /**
@@ -30,7 +34,7 @@ public interface Renderable {
    * @return the {@link String} representation of the object as it's meant to appear in the generated code.
    */
   default String render() {
-    return render(null);
+    return render((TypeDef) null);
   }
 
   /**
@@ -44,4 +48,65 @@ public interface Renderable {
   default String render(TypeDef enclosingType) {
     return toString();
   }
+
+  /**
+   * Render the type into the specified {@link Appendable} for the purpose of code generation.
+   * This is the streaming equivalent of {@link #render()}.
+   *
+   * @param out the {@link Appendable} to render into.
+   * @throws IOException if the {@link Appendable} fails.
+   */
+  default void render(Appendable out) throws IOException {
+    render(out, null);
+  }
+
+  /**
+   * Render the type into the specified {@link Appendable} for the purpose of code generation.
+   * This is the streaming equivalent of {@link #render(TypeDef)}.
+   *
+   * @param out the {@link Appendable} to render into.
+   * @param enclosingType The type that encoses the current {@link Renderable}.
+   * @throws IOException if the {@link Appendable} fails.
+   */
+  default void render(Appendable out, TypeDef enclosingType) throws IOException {
+    out.append(render(enclosingType));
+  }
+
+  /**
+   * Render the specified items into the {@link Appendable}, separated by the delimiter.
+   *
+   * @param out the {@link Appendable} to render into.
+   * @param items the items to render.
+   * @param delimiter the delimiter to append between items.
+   * @param enclosingType The type that encoses the items.
+   * @throws IOException if the {@link Appendable} fails.
+   */
+  static void join(Appendable out, Collection<? extends Renderable> items, String delimiter, TypeDef enclosingType)
+      throws IOException {
+    boolean first = true;
+    for (Renderable item : items) {
+      if (!first) {
+        out.append(delimiter);
+      }
+      item.render(out, enclosingType);
+      first = false;
+    }
+  }
+
+  /**
+   * Render the specified {@link Renderable} into a {@link String} using its {@link Appendable} variant.
+   *
+   * @param renderable the {@link Renderable} to render.
+   * @param enclosingType The type that encoses the {@link Renderable}.
+   * @return the {@link String} representation of the object as it's meant to appear in the generated code.
+   */
+  static String render(Renderable renderable, TypeDef enclosingType) {
+    StringBuilder sb = new StringBuilder();
+    try {
+      renderable.render(sb, enclosingType);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return sb.toString();
+  }
 }
@@ -16,5 +16,17 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
+
 public interface Statement {
+
+  /**
+   * Render the statement into the specified {@link Appendable}.
+   *
+   * @param out the {@link Appendable} to render into.
+   * @throws IOException if the {@link Appendable} fails.
+   */
+  default void render(Appendable out) throws IOException {
+    out.append(toString());
+  }
 }
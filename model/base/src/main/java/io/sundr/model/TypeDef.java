@@ -16,6 +16,8 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,6 +28,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -54,6 +57,14 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
   private final String outerTypeName;
   private final List<TypeDef> innerTypes;
 
+  // Derived data, lazily computed once as the type is immutable.
+  // Each value is either a String or an unmodifiable wrapper, so it's safe to publish without synchronization.
+  private String fullyQualifiedName;
+  private List<ClassRef> references;
+  private Map<String, ClassRef> referenceMap;
+  private Set<String> imports;
+  private int hash;
+
   public TypeDef(Kind kind, String packageName, String name, List<String> comments, List<AnnotationRef> annotations,
       List<ClassRef> extendsList, List<ClassRef> implementsList, List<TypeParamDef> parameters, List<Property> properties,
       List<Method> constructors, List<Method> methods, String outerTypeName, List<TypeDef> innerTypes, Modifiers modifiers,
@@ -99,8 +110,12 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
   /**
    * The method adapts constructor method to the current class. It unsets any name that may be
    * presetn in the method. It also sets as a return type a reference to the current type.
+   * If all constructors are already adapted, the list is returned as is.
    */
   private static List<Method> adaptConstructors(List<Method> methods, TypeDef target) {
+    if (methods.stream().allMatch(m -> isAdaptedConstructor(m, target))) {
+      return methods;
+    }
     List<Method> adapted = new ArrayList<Method>();
     for (Method m : methods) {
       adapted.add(new Method(m.getComments(), m.getAnnotations(), m.getParameters(), /* constructors don't have names */ null,
@@ -110,11 +125,26 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
     return adapted;
   }
 
+  private static boolean isAdaptedConstructor(Method m, TypeDef target) {
+    if (m.getName() != null || m.isDefaultMethod() || !(m.getReturnType() instanceof ClassRef)) {
+      return false;
+    }
+    ClassRef returnType = (ClassRef) m.getReturnType();
+    return returnType.getDimensions() == 0 && returnType.getArguments().isEmpty()
+        && returnType.getFullyQualifiedName().equals(target.getFullyQualifiedName())
+        && Objects.equals(returnType.getAttributes(), target.getAttributes());
+  }
+
   private static List<TypeDef> setOuterType(List<TypeDef> types, TypeDef outer) {
     if (types == null) {
       return Collections.emptyList();
     }
 
+    //If all types already belong to the outer type, there is nothing to update.
+    if (types.stream().allMatch(t -> outer.getFullyQualifiedName().equals(t.getOuterTypeName()))) {
+      return types;
+    }
+
     List<TypeDef> updated = new ArrayList<TypeDef>();
     for (TypeDef typeDef : types) {
       if (outer.getFullyQualifiedName().equals(typeDef.getOuterTypeName())) {
@@ -133,6 +163,15 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
    * Returns the fully qualified name of the type.
    */
   public String getFullyQualifiedName() {
+    String result = fullyQualifiedName;
+    if (result == null) {
+      result = computeFullyQualifiedName();
+      fullyQualifiedName = result;
+    }
+    return result;
+  }
+
+  private String computeFullyQualifiedName() {
     StringBuilder sb = new StringBuilder();
     if (packageName != null && !packageName.isEmpty() && (outerTypeName == null || outerTypeName.isEmpty())) {
       sb.append(getPackageName()).append(".");
@@ -204,6 +243,81 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
     return innerTypes;
   }
 
+  public TypeDef withKind(Kind kind) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withPackageName(String packageName) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withName(String name) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withComments(List<String> comments) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withAnnotations(List<AnnotationRef> annotations) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withExtendsList(List<ClassRef> extendsList) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withImplementsList(List<ClassRef> implementsList) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withParameters(List<TypeParamDef> parameters) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withProperties(List<Property> properties) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withConstructors(List<Method> constructors) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withMethods(List<Method> methods) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withOuterTypeName(String outerTypeName) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withInnerTypes(List<TypeDef> innerTypes) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public TypeDef withModifiers(Modifiers modifiers) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, getAttributes());
+  }
+
+  public <T> TypeDef withAttribute(AttributeKey<T> key, T value) {
+    return new TypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties,
+        constructors, methods, outerTypeName, innerTypes, modifiers, attributesWith(key, value));
+  }
+
   public boolean isClass() {
     return kind == Kind.CLASS;
   }
@@ -239,9 +353,13 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
 
   @Override
   public int hashCode() {
-    int result = packageName != null ? packageName.hashCode() : 0;
-    result = 31 * result + (outerTypeName != null ? outerTypeName.hashCode() : 0);
-    result = 31 * result + (name != null ? name.hashCode() : 0);
+    int result = hash;
+    if (result == 0) {
+      result = packageName != null ? packageName.hashCode() : 0;
+      result = 31 * result + (outerTypeName != null ? outerTypeName.hashCode() : 0);
+      result = 31 * result + (name != null ? name.hashCode() : 0);
+      hash = result;
+    }
     return result;
   }
 
@@ -308,12 +426,17 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
   }
 
   public Set<String> getImports() {
-    return getImports(getReferenceMap().values());
+    Set<String> result = imports;
+    if (result == null) {
+      result = Collections.unmodifiableSet(getImports(getReferenceMap().values()));
+      imports = result;
+    }
+    return result;
   }
 
-  private Set<String> getImports(Collection<ClassRef> references) {
-    final Set<String> imports = new LinkedHashSet<String>();
-    for (ClassRef ref : references) {
+  private Set<String> getImports(Collection<ClassRef> refs) {
+    final Set<String> result = new LinkedHashSet<String>();
+    for (ClassRef ref : refs) {
       if (ref.getPackageName() == null ||
           ref.getPackageName().isEmpty() ||
           ref.getPackageName().equals(packageName) ||
@@ -325,18 +448,27 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
         // When using openj9 these imports leak into the generated code, causing issues. Let's ignore them
         continue;
       } else {
-        imports.add(ref.getFullyQualifiedName());
+        result.add(ref.getFullyQualifiedName());
       }
     }
-    return imports;
+    return result;
   }
 
   /**
    * Create a mapping from class name to {@link ClassRef}.
    */
   private Map<String, ClassRef> getReferenceMap() {
+    Map<String, ClassRef> result = referenceMap;
+    if (result == null) {
+      result = Collections.unmodifiableMap(computeReferenceMap());
+      referenceMap = result;
+    }
+    return result;
+  }
+
+  private Map<String, ClassRef> computeReferenceMap() {
     Map<String, ClassRef> mapping = new HashMap<String, ClassRef>();
-    List<ClassRef> refs = getReferences();
+    List<ClassRef> refs = new ArrayList<ClassRef>(getReferences());
 
     //It's best to have predictable order, so that we can generate uniform code.
     Collections.sort(refs, new Comparator<ClassRef>() {
@@ -356,6 +488,15 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
   }
 
   public List<ClassRef> getReferences() {
+    List<ClassRef> result = references;
+    if (result == null) {
+      result = Collections.unmodifiableList(computeReferences());
+      references = result;
+    }
+    return result;
+  }
+
+  private List<ClassRef> computeReferences() {
     final List<ClassRef> refs = new ArrayList<ClassRef>();
 
     for (AnnotationRef a : annotations) {
@@ -410,46 +551,77 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
   }
 
   public void renderDefinition(StringBuilder sb) {
-    renderModifiers(sb);
+    try {
+      renderDefinition((Appendable) sb);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 
-    sb.append(kind.name().toLowerCase()).append(SPACE);
-    sb.append(name);
+  public void renderDefinition(Appendable out) throws IOException {
+    out.append(renderModifiers());
+
+    out.append(kind.name().toLowerCase()).append(SPACE);
+    out.append(name);
 
     if (parameters != null && !parameters.isEmpty()) {
-      sb.append(LT);
-      sb.append(parameters.stream().map(p -> p.render(this)).collect(Collectors.joining(COMA)));
-      sb.append(GT);
+      out.append(LT);
+      Renderable.join(out, parameters, COMA, this);
+      out.append(GT);
     }
 
     if (extendsList != null && !extendsList.isEmpty()
         && (extendsList.size() != 1 || !extendsList.contains(OBJECT.toReference()))) {
-      sb.append(SPACE).append(EXTENDS).append(SPACE);
-      sb.append(extendsList.stream().map(e -> e.render(this)).collect(Collectors.joining(COMA)));
+      out.append(SPACE).append(EXTENDS).append(SPACE);
+      Renderable.join(out, extendsList, COMA, this);
     }
 
     if (implementsList != null && !implementsList.isEmpty()) {
-      sb.append(SPACE).append(IMPLEMENTS).append(SPACE);
-      sb.append(implementsList.stream().map(i -> i.render(this)).collect(Collectors.joining(COMA)));
+      out.append(SPACE).append(IMPLEMENTS).append(SPACE);
+      Renderable.join(out, implementsList, COMA, this);
     }
   }
 
   @Override
   public String render() {
-    StringBuilder tb = new StringBuilder(); // Top StringBuffer: (package and imports).
     StringBuilder sb = new StringBuilder();
+    try {
+      render(sb);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable out) throws IOException {
     String indent = outerTypeName == null ? "  " : "    ";
     String halfIndent = outerTypeName == null ? "" : "  ";
-    Collection<ClassRef> references = getReferenceMap().values();
-
+    Set<String> imports = Collections.emptySet();
     // We only need to render those for the outermost type
     if (outerTypeName == null) {
-      tb.append("package ").append(getPackageName()).append(SEMICOLN).append(NEWLINE);
-      tb.append(NEWLINE);
-      for (String i : getImports(references)) {
-        tb.append("import ").append(i).append(SEMICOLN).append(NEWLINE);
+      imports = getImports();
+      out.append("package ").append(getPackageName()).append(SEMICOLN).append(NEWLINE);
+      out.append(NEWLINE);
+      for (String i : imports) {
+        out.append("import ").append(i).append(SEMICOLN).append(NEWLINE);
       }
     }
 
+    Map<String, String> names = new HashMap<>();
+    for (ClassRef ref : getReferenceMap().values()) {
+      //If under the same package then just replace the fully qualified name with the name.
+      //Nested classes under the same package will retain the outer class.
+      if (ref.getPackageName().equals(getPackageName())) {
+        names.put(ref.getFullyQualifiedName(), ref.getName());
+      }
+      // Since we import the fully qualified name, no need to retain outer class (if any).
+      else if (imports.contains(ref.getFullyQualifiedName())) {
+        names.put(ref.getFullyQualifiedName(), ref.getName().substring(ref.getName().lastIndexOf(DOT) + 1));
+      }
+    }
+
+    ShortNameAppendable sb = new ShortNameAppendable(out, names);
     if (comments != null && !comments.isEmpty()) {
       sb.append(renderComments(SPACE));
     }
@@ -461,56 +633,160 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
     renderDefinition(sb);
     sb.append(OB).append(NEWLINE).append(indent);
 
+    if (kind == Kind.ENUM) {
+      renderEnumConstants(sb, indent);
+    }
+
     if (kind != Kind.INTERFACE) {
       for (Method constructors : getConstructors()) {
         sb.append(constructors.renderComments(indent));
         sb.append(constructors.renderAnnotations(indent));
-        sb.append(constructors.render(this));
+        constructors.render(sb, this);
         sb.append(NEWLINE).append(indent);
       }
     }
 
-    getProperties().stream().filter(p -> kind != Kind.INTERFACE || p.isStatic()).forEach(field -> {
+    for (Property field : getProperties()) {
+      if ((kind == Kind.INTERFACE && !field.isStatic()) || isEnumConstant(field)) {
+        continue;
+      }
       sb.append(field.renderComments(indent));
       sb.append(field.renderAnnotations(indent));
-      sb.append(field.render(this));
+      field.render(sb, this);
       if (field.getAttribute(INIT) != null) {
         sb.append(" = ").append(field.getDefaultValue());
       }
 
       sb.append(SEMICOLN).append(NEWLINE).append(indent);
-    });
+    }
 
     for (Method method : getMethods()) {
       sb.append(method.renderComments(indent));
       sb.append(method.renderAnnotations(indent));
-      sb.append(method.render(this));
+      method.render(sb, this);
       sb.append(NEWLINE).append(indent);
     }
 
     for (TypeDef innerType : innerTypes) {
-      sb.append(innerType.render());
+      innerType.render(sb);
       sb.append(NEWLINE).append(indent);
     }
 
     sb.append(NEWLINE).append(halfIndent).append(CB);
-    String top = tb.toString();
-    String content = sb.toString();
-    for (ClassRef ref : references) {
-      //If class is imported
+    sb.flush();
+  }
 
-      //If under the same package then just replace the fully qualified name with the name.
-      //Nested classes under the same package will retain the outer class.
-      if (ref.getPackageName().equals(getPackageName())) {
-        content = content.replaceAll(Pattern.quote(ref.getFullyQualifiedName()) + "(?![a-zA-Z0-9\\.])", ref.getName());
+  /**
+   * Renders the constants of an enum, which need to be declared before any other member.
+   */
+  private void renderEnumConstants(Appendable sb, String indent) throws IOException {
+    boolean first = true;
+    for (Property field : getProperties()) {
+      if (!isEnumConstant(field)) {
+        continue;
       }
-      // Since we import the fully qualified name, no need to retain outer class (if any).
-      else if (top.contains("import " + ref.getFullyQualifiedName() + ";")) {
-        String name = ref.getName().substring(ref.getName().lastIndexOf(DOT) + 1);
-        content = content.replaceAll(Pattern.quote(ref.getFullyQualifiedName()) + "(?![a-zA-Z0-9\\.])", name);
+      if (!first) {
+        sb.append(COMA).append(NEWLINE).append(indent);
       }
+      sb.append(field.renderComments(indent));
+      sb.append(field.renderAnnotations(indent));
+      sb.append(field.getName());
+      first = false;
+    }
+    sb.append(SEMICOLN).append(NEWLINE).append(indent);
+  }
+
+  /**
+   * Checks if the property is a constant of this enum: a static property of the enum type, without an initial value.
+   */
+  private boolean isEnumConstant(Property field) {
+    return kind == Kind.ENUM && field.isStatic() && field.getAttribute(INIT) == null
+        && field.getTypeRef() instanceof ClassRef
+        && ((ClassRef) field.getTypeRef()).getFullyQualifiedName().equals(getFullyQualifiedName());
+  }
+
+  /**
+   * An {@link Appendable} that copies its content to the target, replacing each qualified name found in the specified map.
+   * A qualified name is a maximal run of identifier characters and dots, so that names that are followed by a nested class, a
+   * member or varargs are left untouched. Only the current run is buffered, everything else is passed through.
+   */
+  private static class ShortNameAppendable implements Appendable {
+
+    private final Appendable out;
+    private final Map<String, String> names;
+    private final StringBuilder run = new StringBuilder();
+    private boolean qualified;
+
+    private ShortNameAppendable(Appendable out, Map<String, String> names) {
+      this.out = out;
+      this.names = names;
+    }
+
+    @Override
+    public ShortNameAppendable append(CharSequence csq) throws IOException {
+      return csq == null ? append("null") : append(csq, 0, csq.length());
+    }
+
+    @Override
+    public ShortNameAppendable append(CharSequence csq, int start, int end) throws IOException {
+      if (csq == null) {
+        return append("null", start, end);
+      }
+      // Start of the pending part that contains no name characters
+      int from = start;
+      for (int i = start; i < end; i++) {
+        char c = csq.charAt(i);
+        if (isNameChar(c)) {
+          if (from < i) {
+            out.append(csq, from, i);
+          }
+          run.append(c);
+          qualified |= c == '.';
+          from = i + 1;
+        } else if (run.length() > 0) {
+          flush();
+        }
+      }
+      if (from < end) {
+        out.append(csq, from, end);
+      }
+      return this;
+    }
+
+    @Override
+    public ShortNameAppendable append(char c) throws IOException {
+      if (isNameChar(c)) {
+        run.append(c);
+        qualified |= c == '.';
+      } else {
+        flush();
+        out.append(c);
+      }
+      return this;
+    }
+
+    /**
+     * Writes the current run to the target, shortened if it's a known qualified name.
+     *
+     * @throws IOException if the target fails.
+     */
+    private void flush() throws IOException {
+      if (run.length() == 0) {
+        return;
+      }
+      String replacement = qualified && !names.isEmpty() ? names.get(run.toString()) : null;
+      if (replacement != null) {
+        out.append(replacement);
+      } else {
+        out.append(run);
+      }
+      run.setLength(0);
+      qualified = false;
+    }
+
+    private static boolean isNameChar(char c) {
+      return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.';
     }
-    return top + content;
   }
 
   @Override
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical {@link TypeRef} instances.
+ * Structurally identical references (same kind, name, dimensions, arguments and attributes) are interned to a single
+ * instance, so that large models don't hold millions of copies of references like `java.lang.String`. Arguments and bounds
+ * are interned first, so canonical references can be compared by identity.
+ *
+ * The pool is disabled by default, in which case references are returned as is. It can be enabled using
+ * {@link #setEnabled(boolean)} or the `sundrio.typeref.interning` system property.
+ * Canonical instances are weakly held and the pool is safe for concurrent use.
+ */
+public final class TypeRefPool {
+
+  public static final String ENABLED_PROPERTY = "sundrio.typeref.interning";
+
+  private static final ConcurrentMap<Key, Entry> POOL = new ConcurrentHashMap<>();
+  private static final ReferenceQueue<TypeRef> QUEUE = new ReferenceQueue<>();
+
+  private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  private TypeRefPool() {
+    //Utility Class
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    TypeRefPool.enabled = enabled;
+  }
+
+  /**
+   * Returns the canonical instance of the specified reference, if the pool is enabled.
+   *
+   * @param ref the reference.
+   * @param <T> the type of the reference.
+   * @return the canonical reference, or the reference itself if the pool is disabled.
+   */
+  public static <T extends TypeRef> T intern(T ref) {
+    if (!enabled || ref == null) {
+      return ref;
+    }
+    return (T) internRef(ref);
+  }
+
+  /**
+   * @return the number of canonical instances currently in the pool.
+   */
+  public static int size() {
+    expunge();
+    return POOL.size();
+  }
+
+  private static TypeRef internRef(TypeRef ref) {
+    TypeRef candidate = withInternedChildren(ref);
+    Key key = Key.of(candidate);
+    if (key == null) {
+      return candidate;
+    }
+
+    expunge();
+    Entry entry = null;
+    while (true) {
+      Entry existing = POOL.get(key);
+      if (existing == null) {
+        if (entry == null) {
+          entry = new Entry(key, candidate, QUEUE);
+        }
+        existing = POOL.putIfAbsent(key, entry);
+        if (existing == null) {
+          return candidate;
+        }
+      }
+      TypeRef canonical = existing.get();
+      if (canonical != null) {
+        return canonical;
+      }
+      //The canonical instance has been collected, but not expunged yet.
+      POOL.remove(key, existing);
+    }
+  }
+
+  /**
+   * Returns a reference whose arguments (or bounds) are canonical.
+   */
+  private static TypeRef withInternedChildren(TypeRef ref) {
+    if (ref instanceof ClassRef) {
+      ClassRef classRef = (ClassRef) ref;
+      List<TypeRef> arguments = internAll(classRef.getArguments());
+      return arguments == classRef.getArguments() ? classRef
+          : new ClassRef(classRef.getFullyQualifiedName(), classRef.getDimensions(), arguments, classRef.getAttributes());
+    } else if (ref instanceof WildcardRef) {
+      WildcardRef wildcardRef = (WildcardRef) ref;
+      List<TypeRef> bounds = internAll(wildcardRef.getBounds());
+      return bounds == wildcardRef.getBounds() ? wildcardRef
+          : new WildcardRef(wildcardRef.getBoundKind(), bounds, wildcardRef.getAttributes());
+    }
+    return ref;
+  }
+
+  /**
+   * Interns all references in the list.
+   *
+   * @return the same list if all references were already canonical, an unmodifiable copy otherwise.
+   */
+  private static List<TypeRef> internAll(List<TypeRef> refs) {
+    if (refs == null || refs.isEmpty()) {
+      return refs;
+    }
+    List<TypeRef> result = null;
+    for (int i = 0; i < refs.size(); i++) {
+      TypeRef ref = refs.get(i);
+      TypeRef canonical = internRef(ref);
+      if (canonical != ref && result == null) {
+        result = new ArrayList<>(refs.subList(0, i));
+      }
+      if (result != null) {
+        result.add(canonical);
+      }
+    }
+    return result == null ? refs : Collections.unmodifiableList(result);
+  }
+
+  private static void expunge() {
+    Reference<? extends TypeRef> ref;
+    while ((ref = QUEUE.poll()) != null) {
+      Entry entry = (Entry) ref;
+      POOL.remove(entry.key, entry);
+    }
+  }
+
+  private static final class Entry extends WeakReference<TypeRef> {
+
+    private final Key key;
+
+    private Entry(Key key, TypeRef ref, ReferenceQueue<TypeRef> queue) {
+      super(ref, queue);
+      this.key = key;
+    }
+  }
+
+  /**
+   * The structural identity of a reference.
+   * Children are expected to be canonical, so they are compared by identity.
+   */
+  private static final class Key {
+
+    private final Class<?> type;
+    private final String name;
+    private final int dimensions;
+    private final Object kind;
+    private final List<TypeRef> children;
+    private final Map<AttributeKey, Object> attributes;
+    private final int hash;
+
+    private Key(Class<?> type, String name, int dimensions, Object kind, List<TypeRef> children,
+        Map<AttributeKey, Object> attributes) {
+      this.type = type;
+      this.name = name;
+      this.dimensions = dimensions;
+      this.kind = kind;
+      this.children = children != null ? children : Collections.emptyList();
+      this.attributes = attributes != null ? attributes : Collections.emptyMap();
+      int h = type.hashCode();
+      h = 31 * h + Objects.hashCode(name);
+      h = 31 * h + dimensions;
+      h = 31 * h + Objects.hashCode(kind);
+      for (TypeRef child : this.children) {
+        h = 31 * h + System.identityHashCode(child);
+      }
+      h = 31 * h + this.attributes.hashCode();
+      this.hash = h;
+    }
+
+    private static Key of(TypeRef ref) {
+      if (ref.getClass() == ClassRef.class) {
+        ClassRef classRef = (ClassRef) ref;
+        return new Key(ClassRef.class, classRef.getFullyQualifiedName(), classRef.getDimensions(), null,
+            classRef.getArguments(), classRef.getAttributes());
+      } else if (ref.getClass() == PrimitiveRef.class || ref.getClass() == TypeParamRef.class
+          || ref.getClass() == VoidRef.class) {
+        return new Key(ref.getClass(), ref.getName(), ref.getDimensions(), null, null, ref.getAttributes());
+      } else if (ref.getClass() == WildcardRef.class) {
+        WildcardRef wildcardRef = (WildcardRef) ref;
+        return new Key(WildcardRef.class, null, 0, wildcardRef.getBoundKind(), wildcardRef.getBounds(),
+            ref.getAttributes());
+      }
+      //Unknown subclasses are not interned.
+      return null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      if (hash != other.hash || type != other.type || dimensions != other.dimensions || kind != other.kind
+          || !Objects.equals(name, other.name) || children.size() != other.children.size()) {
+        return false;
+      }
+      for (int i = 0; i < children.size(); i++) {
+        if (children.get(i) != other.children.get(i)) {
+          return false;
+        }
+      }
+      return attributes.equals(other.attributes);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
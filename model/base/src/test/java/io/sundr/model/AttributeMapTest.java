@@ -0,0 +1,82 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class AttributeMapTest {
+
+  @Test
+  public void shouldShareEmptyAttributes() {
+    assertSame(AttributeMap.EMPTY, new AttributeSupport(Collections.emptyMap()).getAttributes());
+    assertSame(AttributeMap.EMPTY, new AttributeSupport(new LinkedHashMap<>()).getAttributes());
+  }
+
+  @Test
+  public void shouldFindAttributesInSmallAndLargeSets() {
+    Map<AttributeKey, Object> map = new LinkedHashMap<>();
+    AttributeKey<Integer>[] keys = new AttributeKey[20];
+    for (int i = keys.length - 1; i >= 0; i--) {
+      keys[i] = new AttributeKey<>("key" + i, Integer.class);
+      map.put(keys[i], i);
+    }
+    AttributeSupport small = new AttributeSupport(Collections.singletonMap(keys[0], 0));
+    AttributeSupport large = new AttributeSupport(map);
+
+    assertEquals(Integer.valueOf(0), small.getAttribute(keys[0]));
+    assertFalse(small.hasAttribute(keys[1]));
+    for (int i = 0; i < keys.length; i++) {
+      assertEquals(Integer.valueOf(i), large.getAttribute(keys[i]));
+    }
+    assertNull(large.getAttribute(new AttributeKey<>("key0", Integer.class)));
+    assertEquals(map, large.getAttributes());
+    assertSame(large.getAttributes(), large.getAttributes());
+  }
+
+  @Test
+  public void shouldCopyOnWithAttribute() {
+    AttributeKey<String> first = new AttributeKey<>("first", String.class);
+    AttributeKey<String> second = new AttributeKey<>("second", String.class);
+    AttributeSupport original = new AttributeSupport(Collections.singletonMap(second, "b"));
+
+    Map<AttributeKey, Object> updated = original.attributesWith(first, "a");
+    assertEquals(2, updated.size());
+    assertEquals("a", updated.get(first));
+    assertEquals("b", updated.get(second));
+    assertEquals(1, original.getAttributes().size());
+    assertEquals("c", new AttributeSupport(updated).attributesWith(second, "c").get(second));
+  }
+
+  @Test
+  public void shouldShareNamedKeys() {
+    AttributeKey<Boolean> key = AttributeKey.forName("generated", Boolean.class);
+    assertSame(key, AttributeKey.forName("generated", Boolean.class));
+    assertTrue(new AttributeSupport(Collections.singletonMap(key, true))
+        .hasAttribute(AttributeKey.forName("generated", Boolean.class)));
+  }
+}
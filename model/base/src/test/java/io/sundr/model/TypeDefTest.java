@@ -1,6 +1,14 @@
 package io.sundr.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Test;
 
@@ -11,4 +19,91 @@ public class TypeDefTest {
     TypeDef def = TypeDef.forName("java.lang.System.Logger");
     assertEquals("java.lang.System.Logger", def.getFullyQualifiedName());
   }
+
+  @Test
+  public void shouldShortenImportedAndLocalNames() throws Exception {
+    ClassRef list = new ClassRef("java.util.List", 0, Collections.emptyList(), Collections.emptyMap());
+    ClassRef local = new ClassRef("my.pkg.Other", 0, Collections.emptyList(), Collections.emptyMap());
+    Property argument = new Property(Collections.emptyList(), list, "items", Collections.emptyList(), Modifiers.create(),
+        Collections.emptyMap());
+    Block block = new Block(Arrays.asList(
+        new StringStatement("java.util.List<my.pkg.Other> copy = new java.util.ArrayList<my.pkg.Other>(items);"),
+        new StringStatement("java.lang.String.valueOf(my.pkg.Other.class); my.pkg.OtherBuilder.run(java.util.List.of());")));
+    Method method = new Method(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), "copy",
+        local, Arrays.asList(argument), false, Collections.emptyList(), false, block, Modifiers.from(Modifier.PUBLIC),
+        Collections.emptyMap());
+    TypeDef def = new TypeDef(Kind.CLASS, "my.pkg", "Example", Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Arrays.asList(method), null, Collections.emptyList(), Modifiers.from(Modifier.PUBLIC),
+        Collections.emptyMap());
+
+    String rendered = def.render();
+    assertTrue(rendered.contains("import java.util.List;"));
+    assertTrue(rendered.contains("List<Other> copy = new java.util.ArrayList<Other>(items);"));
+    assertTrue(rendered.contains("Other copy(List items)"));
+    // Names followed by a member access are left qualified
+    assertTrue(rendered.contains("my.pkg.Other.class"));
+    assertTrue(rendered.contains("java.util.List.of()"));
+    assertTrue(rendered.contains("my.pkg.OtherBuilder.run"));
+  }
+
+  @Test
+  public void shouldRenderEnumConstantsFirst() throws Exception {
+    ClassRef self = new ClassRef("my.pkg.Color", 0, Collections.emptyList(), Collections.emptyMap());
+    Property red = new Property(Collections.emptyList(), self, "RED", Collections.emptyList(),
+        Modifiers.from(Modifier.PUBLIC | Modifier.STATIC | Modifier.FINAL), Collections.emptyMap());
+    Property green = new Property(Collections.emptyList(), self, "GREEN", Collections.emptyList(),
+        Modifiers.from(Modifier.PUBLIC | Modifier.STATIC | Modifier.FINAL), Collections.emptyMap());
+    Property hex = new Property(Collections.emptyList(), ClassRef.forName("java.lang.String"), "hex", Collections.emptyList(),
+        Modifiers.from(Modifier.PRIVATE), Collections.emptyMap());
+    TypeDef def = new TypeDef(Kind.ENUM, "my.pkg", "Color", Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Arrays.asList(hex, red, green),
+        Collections.emptyList(), Collections.emptyList(), null, Collections.emptyList(), Modifiers.from(Modifier.PUBLIC),
+        Collections.emptyMap());
+
+    String rendered = def.render();
+    assertTrue(rendered, rendered.contains("public enum Color{\n  RED,\n  GREEN;\n  private String hex;"));
+  }
+
+  @Test
+  public void shouldStreamTheSameContentAsRender() throws Exception {
+    ClassRef list = new ClassRef("java.util.List", 0, Collections.emptyList(), Collections.emptyMap());
+    Property field = new Property(Collections.emptyList(), list, "items", Collections.emptyList(),
+        Modifiers.from(Modifier.PRIVATE), Collections.emptyMap());
+    Method method = new Method(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), "getItems",
+        list, Collections.emptyList(), false, Collections.emptyList(), false,
+        new Block(Arrays.asList(new StringStatement("return this.items;"))), Modifiers.from(Modifier.PUBLIC),
+        Collections.emptyMap());
+    TypeDef def = new TypeDef(Kind.CLASS, "my.pkg", "Example", Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Arrays.asList(field),
+        Collections.emptyList(), Arrays.asList(method), null, Collections.emptyList(), Modifiers.from(Modifier.PUBLIC),
+        Collections.emptyMap());
+
+    StringWriter writer = new StringWriter();
+    def.render(writer);
+    assertEquals(def.render(), writer.toString());
+    assertTrue(writer.toString().contains("private List items;"));
+    assertTrue(writer.toString().contains("    return this.items;\n"));
+  }
+
+  @Test
+  public void shouldShareUnchangedMembersWhenUsingWithers() {
+    Method constructor = new Method(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), null, null,
+        Collections.emptyList(), false, Collections.emptyList(), false, null, Modifiers.from(Modifier.PUBLIC),
+        Collections.emptyMap());
+    TypeDef def = new TypeDef(Kind.CLASS, "my.pkg", "Example", Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+        Arrays.asList(constructor), Collections.emptyList(), null, Collections.emptyList(), Modifiers.from(Modifier.PUBLIC),
+        Collections.emptyMap());
+
+    TypeDef withMethods = def.withMethods(Arrays.asList(Method.newMethod("run", new VoidRef())));
+    assertSame(def.getConstructors(), withMethods.getConstructors());
+    assertSame(def.getProperties(), withMethods.getProperties());
+    assertEquals(1, withMethods.getMethods().size());
+
+    TypeDef renamed = def.withName("Renamed");
+    assertNotSame(def.getConstructors(), renamed.getConstructors());
+    assertEquals("my.pkg.Renamed", ((ClassRef) renamed.getConstructors().get(0).getReturnType()).getFullyQualifiedName());
+    assertEquals("value", def.withAttribute(Attributeable.INIT, "value").getAttribute(Attributeable.INIT));
+  }
 }
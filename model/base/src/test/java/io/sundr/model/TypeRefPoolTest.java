@@ -0,0 +1,81 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.model;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TypeRefPoolTest {
+
+  @Before
+  public void setUp() {
+    TypeRefPool.setEnabled(true);
+  }
+
+  @After
+  public void tearDown() {
+    TypeRefPool.setEnabled(false);
+  }
+
+  @Test
+  public void shouldInternStructurallyIdenticalRefs() {
+    ClassRef first = listOf(ClassRef.forName("java.lang.String"));
+    ClassRef second = listOf(ClassRef.forName("java.lang.String"));
+
+    ClassRef canonical = TypeRefPool.intern(first);
+    assertSame(canonical, TypeRefPool.intern(second));
+    assertSame(TypeRefPool.intern(ClassRef.forName("java.lang.String")), canonical.getArguments().get(0));
+
+    VoidRef voidRef = TypeRefPool.intern(new VoidRef());
+    assertSame(voidRef, TypeRefPool.intern(new VoidRef()));
+    PrimitiveRef intArray = TypeRefPool.intern(new PrimitiveRef("int", 1, Collections.emptyMap()));
+    assertSame(intArray, TypeRefPool.intern(new PrimitiveRef("int", 1, Collections.emptyMap())));
+  }
+
+  @Test
+  public void shouldKeepDistinctRefsApart() {
+    assertNotSame(TypeRefPool.intern(new TypeParamRef("T", 0, Collections.emptyMap())),
+        TypeRefPool.intern(new TypeParamRef("T", 1, Collections.emptyMap())));
+    assertNotSame(TypeRefPool.intern(new WildcardRef(WildcardRef.BoundKind.EXTENDS, Arrays.asList(ClassRef.OBJECT),
+        Collections.emptyMap())),
+        TypeRefPool.intern(new WildcardRef(WildcardRef.BoundKind.SUPER, Arrays.asList(ClassRef.OBJECT),
+            Collections.emptyMap())));
+    assertNotSame(TypeRefPool.intern(ClassRef.forName("java.lang.String")),
+        TypeRefPool.intern(new ClassRef("java.lang.String", 0, Collections.emptyList(),
+            Collections.singletonMap(Attributeable.INIT, "\"\""))));
+  }
+
+  @Test
+  public void shouldNotInternWhenDisabled() {
+    TypeRefPool.setEnabled(false);
+    ClassRef ref = ClassRef.forName("java.lang.String");
+    assertSame(ref, TypeRefPool.intern(ref));
+    assertNotSame(TypeRefPool.intern(ClassRef.forName("java.lang.String")), ref);
+  }
+
+  private static ClassRef listOf(TypeRef argument) {
+    return new ClassRef("java.util.List", 0, Arrays.asList(argument), Collections.emptyMap());
+  }
+}
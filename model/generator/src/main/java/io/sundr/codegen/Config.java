@@ -21,7 +21,9 @@ import io.sundr.builder.annotations.ExternalBuildables;
 
 @ExternalBuildables(skipExistingTypes = false, lazyCollectionInitEnabled = false, lazyMapInitEnabled = false, includeAbstractClasses = true, includeInterfaces = false, value = "io.sundr.model", excludes = {
     "io.sundr.model.AttributeKey",
+    "io.sundr.model.AttributeMap",
     "io.sundr.model.RichTypeDef",
+    "io.sundr.model.TypeRefPool",
     ".*Fluent$",
     ".*FluentImpl$",
     ".*Builder$",
@@ -124,7 +124,7 @@ public class DefinitionRepository {
   public synchronized TypeDef register(TypeDef definition, String... flags) {
     TypeDefBuilder builder = new TypeDefBuilder(definition);
     for (String flag : flags) {
-      builder.addToAttributes(new AttributeKey<Boolean>(flag, Boolean.class), true);
+      builder.addToAttributes(AttributeKey.forName(flag, Boolean.class), true);
     }
     return register(builder.build());
   }
@@ -138,22 +138,11 @@ public class DefinitionRepository {
   }
 
   public synchronized Set<TypeDef> getDefinitions(String... flags) {
-    Set<TypeDef> result = new LinkedHashSet<TypeDef>();
-    for (TypeDef candidate : definitions.values()) {
-      boolean matches = true;
-      for (String flag : flags) {
-        AttributeKey<Boolean> attributeKey = new AttributeKey<Boolean>(flag, Boolean.class);
-        if (!candidate.hasAttribute(attributeKey) || !(candidate.getAttribute(attributeKey))) {
-          matches = false;
-          break;
-        }
-      }
-      if (matches) {
-        result.add(candidate);
-      }
+    AttributeKey<Boolean>[] attributeKeys = new AttributeKey[flags.length];
+    for (int i = 0; i < flags.length; i++) {
+      attributeKeys[i] = AttributeKey.forName(flags[i], Boolean.class);
     }
-
-    return Collections.unmodifiableSet(result);
+    return getDefinitions(attributeKeys);
   }
 
   public synchronized Set<TypeDef> getDefinitions(AttributeKey<Boolean>... attributeKeys) {
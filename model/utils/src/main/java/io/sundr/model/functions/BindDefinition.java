@@ -23,16 +23,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
-import io.sundr.builder.Visitor;
 import io.sundr.model.ClassRef;
-import io.sundr.model.ClassRefBuilder;
-import io.sundr.model.MethodBuilder;
-import io.sundr.model.PropertyBuilder;
+import io.sundr.model.Method;
+import io.sundr.model.Property;
 import io.sundr.model.TypeDef;
-import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeParamDef;
 import io.sundr.model.TypeParamRef;
 import io.sundr.model.TypeRef;
+import io.sundr.model.visitors.NodeRewriter;
 
 /**
  * Binds the {@link ClassRef} arguments to its {@link TypeDef} parameters.
@@ -54,20 +52,37 @@ public class BindDefinition implements Function<ClassRef, TypeDef> {
       return definition;
     }
     List<TypeParamDef> parameters = definition.getParameters();
-    List<TypeParamDef> newParameters = definition.getParameters();
+    List<TypeParamDef> newParameters = new ArrayList<>();
 
     Map<String, TypeRef> mappings = new HashMap<>();
-    for (int i = 0; i < arguments.size(); i++) {
-      String name = parameters.get(i).getName();
-      TypeRef typeRef = arguments.get(i);
-      mappings.put(name, typeRef);
-      newParameters.remove(i);
+    for (int i = 0; i < parameters.size(); i++) {
+      if (i < arguments.size()) {
+        mappings.put(parameters.get(i).getName(), arguments.get(i));
+      } else {
+        newParameters.add(parameters.get(i));
+      }
     }
 
-    return new TypeDefBuilder(definition)
-        .withParameters(newParameters)
-        .accept(mapClassRefArguments(mappings), mapGenericProperties(mappings), mapGenericReturnTypes(mappings))
-        .build();
+    TypeDef bound = NodeRewriter.create()
+        .on(ClassRef.class, mapClassRefArguments(mappings))
+        .on(Property.class, mapGenericProperties(mappings))
+        .on(Method.class, mapGenericReturnTypes(mappings))
+        .rewrite(definition);
+
+    return new TypeDef(bound.getKind(), bound.getPackageName(), bound.getName(), bound.getComments(),
+        bound.getAnnotations(), bound.getExtendsList(), bound.getImplementsList(), newParameters, bound.getProperties(),
+        bound.getConstructors(), bound.getMethods(), bound.getOuterTypeName(), bound.getInnerTypes(), bound.getModifiers(),
+        bound.getAttributes());
+  }
+
+  private static TypeRef map(TypeRef typeRef, Map<String, TypeRef> mappings) {
+    if (typeRef instanceof TypeParamRef) {
+      TypeRef mapping = mappings.get(((TypeParamRef) typeRef).getName());
+      if (mapping != null) {
+        return mapping;
+      }
+    }
+    return typeRef;
   }
 
   /**
@@ -76,22 +91,16 @@ public class BindDefinition implements Function<ClassRef, TypeDef> {
    * property will be: {@code Integer type}.
    * 
    * @param mappings A map that maps class arguments names to types.
-   * @return a visitors that performs the actual mapping.
+   * @return a function that performs the actual mapping.
    */
-  private static Visitor<PropertyBuilder> mapGenericProperties(Map<String, TypeRef> mappings) {
-    return new Visitor<PropertyBuilder>() {
-      @Override
-      public void visit(PropertyBuilder property) {
-        TypeRef typeRef = property.buildTypeRef();
-        if (typeRef instanceof TypeParamRef) {
-          TypeParamRef typeParamRef = (TypeParamRef) typeRef;
-          String key = typeParamRef.getName();
-          TypeRef paramRef = mappings.get(key);
-          if (paramRef != null) {
-            property.withTypeRef(paramRef);
-          }
-        }
+  private static Function<Property, Property> mapGenericProperties(Map<String, TypeRef> mappings) {
+    return property -> {
+      TypeRef typeRef = map(property.getTypeRef(), mappings);
+      if (typeRef == property.getTypeRef()) {
+        return property;
       }
+      return new Property(property.getAnnotations(), typeRef, property.getName(), property.getComments(),
+          property.getModifiers(), property.getAttributes());
     };
   }
 
@@ -101,22 +110,17 @@ public class BindDefinition implements Function<ClassRef, TypeDef> {
    * property will be: {@code Integer type}.
    * 
    * @param mappings A map that maps class arguments names to types.
-   * @return a visitors that performs the actual mapping.
+   * @return a function that performs the actual mapping.
    */
-  private static Visitor<MethodBuilder> mapGenericReturnTypes(Map<String, TypeRef> mappings) {
-    return new Visitor<MethodBuilder>() {
-      @Override
-      public void visit(MethodBuilder method) {
-        TypeRef typeRef = method.buildReturnType();
-        if (typeRef instanceof TypeParamRef) {
-          TypeParamRef typeParamRef = (TypeParamRef) typeRef;
-          String key = typeParamRef.getName();
-          TypeRef paramRef = mappings.get(key);
-          if (paramRef != null) {
-            method.withReturnType(paramRef);
-          }
-        }
+  private static Function<Method, Method> mapGenericReturnTypes(Map<String, TypeRef> mappings) {
+    return method -> {
+      TypeRef returnType = map(method.getReturnType(), mappings);
+      if (returnType == method.getReturnType()) {
+        return method;
       }
+      return new Method(method.getComments(), method.getAnnotations(), method.getParameters(), method.getName(), returnType,
+          method.getArguments(), method.isVarArgPreferred(), method.getExceptions(), method.isDefaultMethod(),
+          method.getBlock(), method.getModifiers(), method.getAttributes());
     };
   }
 
@@ -126,26 +130,22 @@ public class BindDefinition implements Function<ClassRef, TypeDef> {
    * the final reference will be: {@code Shape<Integer> type}.
    * 
    * @param mappings A map that maps class arguments names to types.
-   * @return a visitors that performs the actual mapping.
+   * @return a function that performs the actual mapping.
    */
-  private static Visitor<ClassRefBuilder> mapClassRefArguments(Map<String, TypeRef> mappings) {
-    return new Visitor<ClassRefBuilder>() {
-      @Override
-      public void visit(ClassRefBuilder c) {
-        List<TypeRef> arguments = new ArrayList<>();
-        for (TypeRef arg : c.buildArguments()) {
-          TypeRef mappedRef = arg;
-          if (arg instanceof TypeParamRef) {
-            TypeParamRef typeParamRef = (TypeParamRef) arg;
-            TypeRef mapping = mappings.get(typeParamRef.getName());
-            if (mapping != null) {
-              mappedRef = mapping;
-            }
-          }
+  private static Function<ClassRef, ClassRef> mapClassRefArguments(Map<String, TypeRef> mappings) {
+    return c -> {
+      List<TypeRef> arguments = null;
+      for (int i = 0; i < c.getArguments().size(); i++) {
+        TypeRef arg = c.getArguments().get(i);
+        TypeRef mappedRef = map(arg, mappings);
+        if (arguments == null && mappedRef != arg) {
+          arguments = new ArrayList<>(c.getArguments().subList(0, i));
+        }
+        if (arguments != null) {
           arguments.add(mappedRef);
         }
-        c.withArguments(arguments);
       }
+      return arguments == null ? c : new ClassRef(c.getFullyQualifiedName(), c.getDimensions(), arguments, c.getAttributes());
     };
   }
 }
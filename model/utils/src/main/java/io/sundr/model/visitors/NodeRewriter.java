@@ -0,0 +1,250 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.model.visitors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import io.sundr.model.AnnotationRef;
+import io.sundr.model.Block;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Method;
+import io.sundr.model.Property;
+import io.sundr.model.Statement;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeParamDef;
+import io.sundr.model.TypeRef;
+import io.sundr.model.WildcardRef;
+
+/**
+ * Rewrites the immutable model, bottom up, using a set of rules.
+ * A rule is applied to every node of the matching type, after the children of the node have been rewritten, and may
+ * return the node itself to leave it unchanged.
+ * Nodes are only rebuilt when one of their children actually changed, so unchanged subtrees are shared by reference
+ * between the original and the rewritten node, and rewriting a node that no rule changes returns the node itself.
+ * Rewriters are immutable and can be reused.
+ */
+public class NodeRewriter {
+
+  private static final NodeRewriter EMPTY = new NodeRewriter(Collections.emptyList());
+
+  private final List<Rule<?>> rules;
+
+  private NodeRewriter(List<Rule<?>> rules) {
+    this.rules = rules;
+  }
+
+  /**
+   * Create a rewriter without any rules.
+   *
+   * @return the rewriter.
+   */
+  public static NodeRewriter create() {
+    return EMPTY;
+  }
+
+  /**
+   * Create a new rewriter that also applies the specified rule to the nodes of the specified type.
+   *
+   * @param type the type of the nodes
+   * @param rule the rule
+   * @param <T> the type of the nodes
+   * @return the new rewriter.
+   */
+  public <T> NodeRewriter on(Class<T> type, Function<? super T, ? extends T> rule) {
+    List<Rule<?>> updated = new ArrayList<>(rules);
+    updated.add(new Rule<>(type, rule));
+    return new NodeRewriter(Collections.unmodifiableList(updated));
+  }
+
+  /**
+   * Rewrite the specified node.
+   *
+   * @param node the node
+   * @param <T> the type of the node
+   * @return the rewritten node, or the node itself if nothing changed.
+   */
+  public <T> T rewrite(T node) {
+    if (rules.isEmpty() || node == null) {
+      return node;
+    }
+    return (T) rewriteNode(node);
+  }
+
+  private Object rewriteNode(Object node) {
+    Object current = rewriteChildren(node);
+    for (Rule<?> rule : rules) {
+      current = rule.apply(current);
+    }
+    return current;
+  }
+
+  private Object rewriteChildren(Object node) {
+    if (node instanceof TypeDef) {
+      return rewriteTypeDef((TypeDef) node);
+    } else if (node instanceof Method) {
+      return rewriteMethod((Method) node);
+    } else if (node instanceof Property) {
+      return rewriteProperty((Property) node);
+    } else if (node instanceof ClassRef) {
+      ClassRef classRef = (ClassRef) node;
+      List<TypeRef> arguments = rewriteAll(classRef.getArguments(), TypeRef.class);
+      return arguments == classRef.getArguments() ? classRef
+          : new ClassRef(classRef.getFullyQualifiedName(), classRef.getDimensions(), arguments, classRef.getAttributes());
+    } else if (node instanceof TypeParamDef) {
+      TypeParamDef param = (TypeParamDef) node;
+      List<ClassRef> bounds = rewriteAll(param.getBounds(), ClassRef.class);
+      return bounds == param.getBounds() ? param : new TypeParamDef(param.getName(), bounds, param.getAttributes());
+    } else if (node instanceof WildcardRef) {
+      WildcardRef wildcard = (WildcardRef) node;
+      List<TypeRef> bounds = rewriteAll(wildcard.getBounds(), TypeRef.class);
+      return bounds == wildcard.getBounds() ? wildcard
+          : new WildcardRef(wildcard.getBoundKind(), bounds, wildcard.getAttributes());
+    } else if (node instanceof AnnotationRef) {
+      AnnotationRef annotation = (AnnotationRef) node;
+      ClassRef classRef = rewriteOne(annotation.getClassRef(), ClassRef.class);
+      return classRef == annotation.getClassRef() ? annotation
+          : new AnnotationRef(classRef, annotation.getParameters(), annotation.getAttributes());
+    } else if (node instanceof Block) {
+      Block block = (Block) node;
+      List<Statement> statements = rewriteAll(block.getStatements(), Statement.class);
+      return statements == block.getStatements() ? block : new Block(statements);
+    }
+    return node;
+  }
+
+  private TypeDef rewriteTypeDef(TypeDef typeDef) {
+    List<AnnotationRef> annotations = rewriteAll(typeDef.getAnnotations(), AnnotationRef.class);
+    List<ClassRef> extendsList = rewriteAll(typeDef.getExtendsList(), ClassRef.class);
+    List<ClassRef> implementsList = rewriteAll(typeDef.getImplementsList(), ClassRef.class);
+    List<TypeParamDef> parameters = rewriteAll(typeDef.getParameters(), TypeParamDef.class);
+    List<Property> properties = rewriteAll(typeDef.getProperties(), Property.class);
+    List<Method> constructors = rewriteAll(typeDef.getConstructors(), Method.class);
+    List<Method> methods = rewriteAll(typeDef.getMethods(), Method.class);
+    List<TypeDef> innerTypes = rewriteAll(typeDef.getInnerTypes(), TypeDef.class);
+    if (annotations == typeDef.getAnnotations()
+        && extendsList == typeDef.getExtendsList()
+        && implementsList == typeDef.getImplementsList()
+        && parameters == typeDef.getParameters()
+        && properties == typeDef.getProperties()
+        && constructors == typeDef.getConstructors()
+        && methods == typeDef.getMethods()
+        && innerTypes == typeDef.getInnerTypes()) {
+      return typeDef;
+    }
+    return new TypeDef(typeDef.getKind(), typeDef.getPackageName(), typeDef.getName(), typeDef.getComments(), annotations,
+        extendsList, implementsList, parameters, properties, constructors, methods, typeDef.getOuterTypeName(), innerTypes,
+        typeDef.getModifiers(), typeDef.getAttributes());
+  }
+
+  private Method rewriteMethod(Method method) {
+    List<AnnotationRef> annotations = rewriteAll(method.getAnnotations(), AnnotationRef.class);
+    List<TypeParamDef> parameters = rewriteAll(method.getParameters(), TypeParamDef.class);
+    TypeRef returnType = rewriteOne(method.getReturnType(), TypeRef.class);
+    List<Property> arguments = rewriteAll(method.getArguments(), Property.class);
+    List<ClassRef> exceptions = rewriteAll(method.getExceptions(), ClassRef.class);
+    Block block = rewriteOne(method.getBlock(), Block.class);
+    if (annotations == method.getAnnotations()
+        && parameters == method.getParameters()
+        && returnType == method.getReturnType()
+        && arguments == method.getArguments()
+        && exceptions == method.getExceptions()
+        && block == method.getBlock()) {
+      return method;
+    }
+    return new Method(method.getComments(), annotations, parameters, method.getName(), returnType, arguments,
+        method.isVarArgPreferred(), exceptions, method.isDefaultMethod(), block, method.getModifiers(),
+        method.getAttributes());
+  }
+
+  private Property rewriteProperty(Property property) {
+    List<AnnotationRef> annotations = rewriteAll(property.getAnnotations(), AnnotationRef.class);
+    TypeRef typeRef = rewriteOne(property.getTypeRef(), TypeRef.class);
+    if (annotations == property.getAnnotations() && typeRef == property.getTypeRef()) {
+      return property;
+    }
+    return new Property(annotations, typeRef, property.getName(), property.getComments(), property.getModifiers(),
+        property.getAttributes());
+  }
+
+  /**
+   * Rewrite a single node.
+   *
+   * @param node the node, may be null
+   * @param type the type the rewritten node needs to have, to fit in its parent
+   * @return the rewritten node, or the node itself if nothing changed.
+   */
+  private <T> T rewriteOne(T node, Class<T> type) {
+    if (node == null) {
+      return null;
+    }
+    Object rewritten = rewriteNode(node);
+    if (rewritten != node && !type.isInstance(rewritten)) {
+      throw new IllegalStateException("Cannot replace: " + node + " with: " + rewritten + ". Expected a "
+          + type.getSimpleName() + ".");
+    }
+    return (T) rewritten;
+  }
+
+  /**
+   * Rewrite a list of nodes.
+   * The list is only copied once the first node changes.
+   *
+   * @param nodes the nodes, may be null
+   * @param type the type the rewritten nodes need to have, to fit in their parent
+   * @return the rewritten list, or the list itself if nothing changed.
+   */
+  private <T> List<T> rewriteAll(List<T> nodes, Class<T> type) {
+    if (nodes == null || nodes.isEmpty()) {
+      return nodes;
+    }
+    List<T> result = null;
+    for (int i = 0; i < nodes.size(); i++) {
+      T node = nodes.get(i);
+      T rewritten = rewriteOne(node, type);
+      if (result == null && rewritten != node) {
+        result = new ArrayList<>(nodes.size());
+        result.addAll(nodes.subList(0, i));
+      }
+      if (result != null) {
+        result.add(rewritten);
+      }
+    }
+    return result != null ? result : nodes;
+  }
+
+  private static final class Rule<T> {
+
+    private final Class<T> type;
+    private final Function<? super T, ? extends T> function;
+
+    private Rule(Class<T> type, Function<? super T, ? extends T> function) {
+      this.type = type;
+      this.function = function;
+    }
+
+    private Object apply(Object node) {
+      if (!type.isInstance(node)) {
+        return node;
+      }
+      T result = function.apply(type.cast(node));
+      return result != null ? result : node;
+    }
+  }
+}
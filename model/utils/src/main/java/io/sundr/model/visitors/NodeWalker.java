@@ -0,0 +1,151 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.model.visitors;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import io.sundr.builder.Traversal;
+import io.sundr.builder.Visitor;
+import io.sundr.builder.VisitorPath;
+import io.sundr.model.AnnotationRef;
+import io.sundr.model.Block;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Method;
+import io.sundr.model.Property;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeParamDef;
+import io.sundr.model.WildcardRef;
+
+/**
+ * Walks the immutable model directly, without converting it to builders first.
+ * Visitors see the actual nodes, so they can collect information but not change it (see {@link NodeRewriter} for that).
+ * The traversal follows the same contract as the one of the builders: visitors are applied in order, only to the nodes
+ * they can visit, and they can skip subtrees or stop the traversal (see {@link Traversal}).
+ * The path of each node contains the name of the property that holds it and its parent.
+ */
+public final class NodeWalker {
+
+  private static final Visitor[] NO_VISITORS = new Visitor[0];
+
+  private NodeWalker() {
+    //Utility class
+  }
+
+  /**
+   * Walk the specified node and all its descendants.
+   *
+   * @param node the node
+   * @param visitors the visitors to apply
+   * @param <T> the type of the node
+   * @return the node itself.
+   */
+  public static <T> T walk(T node, Visitor... visitors) {
+    Visitor[] sorted = visitors.clone();
+    Arrays.sort(sorted, Comparator.comparingInt((Visitor v) -> v.order()).reversed());
+    walk(VisitorPath.of(null), "", node, sorted);
+    return node;
+  }
+
+  /**
+   * Walk a single node.
+   *
+   * @return false if the traversal should stop, true otherwise.
+   */
+  private static boolean walk(VisitorPath path, String key, Object node, Visitor[] visitors) {
+    if (node == null) {
+      return true;
+    }
+    Visitor[] descending = visitors;
+    for (Visitor visitor : visitors) {
+      if (!visitor.canVisit(path, node)) {
+        continue;
+      }
+      Traversal traversal = visitor.traverse(path, node);
+      if (traversal == Traversal.STOP) {
+        return false;
+      } else if (traversal == Traversal.SKIP_SUBTREE) {
+        descending = without(descending, visitor);
+      }
+    }
+    return descending.length == 0 || walkChildren(path.push(key, node), node, descending);
+  }
+
+  private static boolean walkChildren(VisitorPath path, Object node, Visitor[] visitors) {
+    if (node instanceof TypeDef) {
+      TypeDef typeDef = (TypeDef) node;
+      return walkAll(path, "annotations", typeDef.getAnnotations(), visitors)
+          && walkAll(path, "extendsList", typeDef.getExtendsList(), visitors)
+          && walkAll(path, "implementsList", typeDef.getImplementsList(), visitors)
+          && walkAll(path, "parameters", typeDef.getParameters(), visitors)
+          && walkAll(path, "properties", typeDef.getProperties(), visitors)
+          && walkAll(path, "constructors", typeDef.getConstructors(), visitors)
+          && walkAll(path, "methods", typeDef.getMethods(), visitors)
+          && walkAll(path, "innerTypes", typeDef.getInnerTypes(), visitors);
+    } else if (node instanceof Method) {
+      Method method = (Method) node;
+      return walkAll(path, "annotations", method.getAnnotations(), visitors)
+          && walkAll(path, "parameters", method.getParameters(), visitors)
+          && walk(path, "returnType", method.getReturnType(), visitors)
+          && walkAll(path, "arguments", method.getArguments(), visitors)
+          && walkAll(path, "exceptions", method.getExceptions(), visitors)
+          && walk(path, "block", method.getBlock(), visitors);
+    } else if (node instanceof Property) {
+      Property property = (Property) node;
+      return walkAll(path, "annotations", property.getAnnotations(), visitors)
+          && walk(path, "typeRef", property.getTypeRef(), visitors);
+    } else if (node instanceof ClassRef) {
+      return walkAll(path, "arguments", ((ClassRef) node).getArguments(), visitors);
+    } else if (node instanceof TypeParamDef) {
+      return walkAll(path, "bounds", ((TypeParamDef) node).getBounds(), visitors);
+    } else if (node instanceof WildcardRef) {
+      return walkAll(path, "bounds", ((WildcardRef) node).getBounds(), visitors);
+    } else if (node instanceof AnnotationRef) {
+      return walk(path, "classRef", ((AnnotationRef) node).getClassRef(), visitors);
+    } else if (node instanceof Block) {
+      return walkAll(path, "statements", ((Block) node).getStatements(), visitors);
+    }
+    return true;
+  }
+
+  private static boolean walkAll(VisitorPath path, String key, List<?> nodes, Visitor[] visitors) {
+    if (nodes == null) {
+      return true;
+    }
+    for (int i = 0; i < nodes.size(); i++) {
+      if (!walk(path, key, nodes.get(i), visitors)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Visitor[] without(Visitor[] visitors, Visitor visitor) {
+    if (visitors.length == 1) {
+      return NO_VISITORS;
+    }
+    Visitor[] result = new Visitor[visitors.length - 1];
+    int index = 0;
+    for (Visitor v : visitors) {
+      if (v != visitor) {
+        result[index++] = v;
+      }
+    }
+    return result;
+  }
+}
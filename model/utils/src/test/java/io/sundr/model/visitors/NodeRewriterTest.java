@@ -0,0 +1,95 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.model.visitors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.sundr.model.ClassRef;
+import io.sundr.model.ClassRefBuilder;
+import io.sundr.model.Property;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+import io.sundr.model.TypeRef;
+import io.sundr.model.WildcardRef;
+
+public class NodeRewriterTest {
+
+  ClassRef string = ClassRef.forName(String.class.getName());
+  ClassRef integer = ClassRef.forName(Integer.class.getName());
+  ClassRef list = ClassRef.forName(List.class.getName());
+  ClassRef listOfString = new ClassRefBuilder(list).withArguments(string).build();
+
+  TypeDef target = new TypeDefBuilder()
+      .withPackageName("my.pkg")
+      .withName("Target")
+      .addNewProperty()
+      .withName("names")
+      .withTypeRef(listOfString)
+      .endProperty()
+      .addNewProperty()
+      .withName("size")
+      .withTypeRef(integer)
+      .endProperty()
+      .addNewMethod()
+      .withName("getSize")
+      .withReturnType(integer)
+      .endMethod()
+      .build();
+
+  @Test
+  public void shouldReturnSameNodeWhenNothingChanged() {
+    TypeDef rewritten = NodeRewriter.create().on(ClassRef.class, c -> c).rewrite(target);
+    assertSame(target, rewritten);
+  }
+
+  @Test
+  public void shouldShareUnchangedSubtrees() {
+    TypeDef rewritten = NodeRewriter.create()
+        .on(ClassRef.class, c -> c.equals(string) ? integer : c)
+        .rewrite(target);
+
+    Property names = rewritten.getProperties().get(0);
+    assertEquals(new ClassRefBuilder(list).withArguments(integer).build(), names.getTypeRef());
+    assertSame(target.getProperties().get(1), rewritten.getProperties().get(1));
+    assertSame(target.getMethods(), rewritten.getMethods());
+  }
+
+  @Test
+  public void shouldRewriteBottomUp() {
+    TypeDef rewritten = NodeRewriter.create()
+        .on(ClassRef.class, c -> c.equals(string) ? integer : c)
+        .on(Property.class, p -> p.getTypeRef().equals(new ClassRefBuilder(list).withArguments(integer).build())
+            ? new Property(p.getAnnotations(), integer, p.getName(), p.getComments(), p.getModifiers(), p.getAttributes())
+            : p)
+        .rewrite(target);
+
+    assertEquals(integer, rewritten.getProperties().get(0).getTypeRef());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldRejectIncompatibleReplacement() {
+    TypeRef wildcard = new WildcardRef();
+    NodeRewriter.create()
+        .on(TypeRef.class, t -> t.equals(list) ? wildcard : t)
+        .rewrite(new TypeDefBuilder(target).addToExtendsList(list).build());
+  }
+}
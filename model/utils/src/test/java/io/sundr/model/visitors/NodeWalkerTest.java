@@ -0,0 +1,127 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.model.visitors;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.junit.Test;
+
+import io.sundr.builder.Traversal;
+import io.sundr.builder.Visitor;
+import io.sundr.model.ClassRef;
+import io.sundr.model.ClassRefBuilder;
+import io.sundr.model.Method;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+
+public class NodeWalkerTest {
+
+  ClassRef string = ClassRef.forName(String.class.getName());
+  ClassRef integer = ClassRef.forName(Integer.class.getName());
+  ClassRef list = ClassRef.forName(List.class.getName());
+  ClassRef listOfString = new ClassRefBuilder(list).withArguments(string).build();
+
+  TypeDef target = new TypeDefBuilder()
+      .withPackageName("my.pkg")
+      .withName("Target")
+      .addNewProperty()
+      .withName("names")
+      .withTypeRef(listOfString)
+      .endProperty()
+      .addNewMethod()
+      .withName("getSize")
+      .withReturnType(integer)
+      .endMethod()
+      .build();
+
+  @Test
+  public void shouldVisitNestedNodes() {
+    List<String> visited = new ArrayList<>();
+    NodeWalker.walk(target, new Visitor<ClassRef>() {
+      @Override
+      public void visit(ClassRef element) {
+        visited.add(element.getName());
+      }
+    });
+    assertEquals(Arrays.asList("List", "String", "Integer"), visited);
+  }
+
+  @Test
+  public void shouldProvidePath() {
+    List<String> keys = new ArrayList<>();
+    NodeWalker.walk(target, new Visitor<ClassRef>() {
+      @Override
+      public void visit(ClassRef element) {
+      }
+
+      @Override
+      public void visit(List<Entry<String, Object>> path, ClassRef element) {
+        if (element.equals(string)) {
+          path.forEach(e -> keys.add(e.getKey()));
+        }
+      }
+    });
+    assertEquals(Arrays.asList("", "properties", "typeRef"), keys);
+  }
+
+  @Test
+  public void shouldSkipSubtree() {
+    List<String> visited = new ArrayList<>();
+    NodeWalker.walk(target, new Visitor<Object>() {
+      @Override
+      public void visit(Object element) {
+      }
+
+      @Override
+      public Traversal traverse(List<Entry<String, Object>> path, Object element) {
+        if (element instanceof ClassRef) {
+          visited.add(((ClassRef) element).getName());
+          return Traversal.SKIP_SUBTREE;
+        }
+        return Traversal.CONTINUE;
+      }
+    });
+    assertEquals(Arrays.asList("List", "Integer"), visited);
+  }
+
+  @Test
+  public void shouldStopTraversal() {
+    List<String> visited = new ArrayList<>();
+    NodeWalker.walk(target, new Visitor<Method>() {
+      @Override
+      public void visit(Method element) {
+      }
+
+      @Override
+      public Traversal traverse(List<Entry<String, Object>> path, Method element) {
+        visited.add(element.getName());
+        return Traversal.STOP;
+      }
+    }, new Visitor<ClassRef>() {
+      @Override
+      public void visit(ClassRef element) {
+        visited.add(element.getName());
+      }
+    });
+    assertEquals(Arrays.asList("List", "String", "getSize"), visited);
+  }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+package io.sunder.examples.arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import io.sundr.builder.Visitor;
+import io.sundr.examples.arrays.Game;
+import io.sundr.examples.arrays.GameBuilder;
+import io.sundr.examples.arrays.Person;
+import io.sundr.examples.arrays.PersonBuilder;
+
+public class GameTest {
+
+  private static Person person(String firstName) {
+    return new PersonBuilder().withFirstName(firstName).withLastName("Doe").build();
+  }
+
+  private static List<String> firstNames(Game game) {
+    return Arrays.stream(game.getPlayers()).map(Person::getFirstName).collect(Collectors.toList());
+  }
+
+  @Test
+  public void shouldAddPlayersInBulk() {
+    Game game = new GameBuilder()
+        .withPlayers(person("a"), person("b"))
+        .addAllToPlayers(Arrays.asList(person("c"), person("d")))
+        .addAllToPlayersFromStream(Stream.of(person("e")))
+        .addToPlayers(person("f"))
+        .build();
+
+    assertEquals(Arrays.asList("a", "b", "c", "d", "e", "f"), firstNames(game));
+  }
+
+  @Test
+  public void shouldVisitPlayersAddedInBulk() {
+    List<String> visited = new ArrayList<>();
+    new GameBuilder()
+        .withPlayers(person("a"))
+        .addAllToPlayers(Arrays.asList(person("b"), person("c")))
+        .addAllToPlayersFromStream(Stream.of(person("d"), person("e")))
+        .accept(new Visitor<PersonBuilder>() {
+          @Override
+          public void visit(PersonBuilder person) {
+            visited.add(person.getFirstName());
+          }
+        });
+
+    assertEquals(Arrays.asList("a", "b", "c", "d", "e"), visited);
+  }
+
+  @Test
+  public void shouldReplacePlayers() {
+    GameBuilder builder = new GameBuilder().withPlayers(person("a"), person("b"));
+    assertEquals(Arrays.asList("c"), firstNames(builder.withPlayers(person("c")).build()));
+  }
+
+  @Test
+  public void shouldRemovePlayersInBulk() {
+    List<Person> players = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      players.add(person(String.valueOf(i % 50)));
+    }
+    List<Person> removed = new ArrayList<>();
+    for (int i = 0; i < 50; i += 2) {
+      removed.add(person(String.valueOf(i)));
+    }
+
+    List<String> visited = new ArrayList<>();
+    GameBuilder builder = new GameBuilder().addAllToPlayers(players).removeAllFromPlayers(removed);
+    builder.accept(new Visitor<PersonBuilder>() {
+      @Override
+      public void visit(PersonBuilder person) {
+        visited.add(person.getFirstName());
+      }
+    });
+
+    List<String> expected = new ArrayList<>();
+    for (int i = 1; i < 50; i += 2) {
+      expected.add(String.valueOf(i));
+    }
+    for (int i = 0; i < 50; i++) {
+      expected.add(String.valueOf(i));
+    }
+    assertEquals(expected, firstNames(builder.build()));
+    assertEquals(expected, visited);
+  }
+
+  @Test
+  public void shouldRemoveMatchingPlayers() {
+    List<String> visited = new ArrayList<>();
+    GameBuilder builder = new GameBuilder().withPlayers(person("a"), person("b"), person("a"), person("c"))
+        .removeMatchingFromPlayers(p -> p.getFirstName().equals("a"));
+    builder.accept(new Visitor<PersonBuilder>() {
+      @Override
+      public void visit(PersonBuilder person) {
+        visited.add(person.getFirstName());
+      }
+    });
+
+    assertEquals(Arrays.asList("b", "c"), firstNames(builder.build()));
+    assertEquals(Arrays.asList("b", "c"), visited);
+  }
+
+  @Test
+  public void shouldAddPrimitiveNumbers() {
+    Person person = new PersonBuilder().withNumbers(1, 2).addToNumbers(3).build();
+    assertArrayEquals(new int[] { 1, 2, 3 }, person.getNumbers());
+  }
+}
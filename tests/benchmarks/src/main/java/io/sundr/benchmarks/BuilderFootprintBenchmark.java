@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.ContainerBuilder;
+import io.sundr.benchmarks.model.EnvVarBuilder;
+
+/**
+ * Creates 100k small builders and keeps them reachable until the end of the operation.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}, which is the footprint of the builders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderFootprintBenchmark {
+
+  private static final int BUILDERS = 100_000;
+
+  @Benchmark
+  public Object leafBuilders() {
+    Object[] builders = new Object[BUILDERS];
+    for (int i = 0; i < BUILDERS; i++) {
+      builders[i] = new EnvVarBuilder().withName("NAME").withValue("value");
+    }
+    return builders;
+  }
+
+  @Benchmark
+  public Object nestedBuilders() {
+    Object[] builders = new Object[BUILDERS];
+    for (int i = 0; i < BUILDERS; i++) {
+      builders[i] = new ContainerBuilder().withName("app").addNewEnv().withName("NAME").withValue("value").endEnv();
+    }
+    return builders;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.sundr.benchmarks.model.ContainerPort;
+import io.sundr.builder.BaseFluent;
+
+/**
+ * Creates builders out of existing items through {@link BaseFluent#builderOf(Object)}, which is what the generated
+ * fluents do when an item is added or set.
+ * The items are created by constructor, as the editable instances that the builders create provide their own builder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderOfBenchmark {
+
+  @Param({ "1000" })
+  private int size;
+
+  private ContainerPort[] ports;
+
+  @Setup
+  public void setUp() {
+    ports = new ContainerPort[size];
+    for (int i = 0; i < size; i++) {
+      ports[i] = new ContainerPort("port-" + i, 8000 + i, "TCP");
+    }
+  }
+
+  @Benchmark
+  public void builderOf(Blackhole blackhole) {
+    for (ContainerPort port : ports) {
+      blackhole.consume(BaseFluent.builderOf(port));
+    }
+  }
+}
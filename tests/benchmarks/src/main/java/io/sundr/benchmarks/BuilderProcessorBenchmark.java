@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.builder.internal.processor.ExternalBuildableProcessor;
+
+/**
+ * Runs the builder processor over the io.sundr.model package, the same way the model generator module does.
+ * This exercises the repository, the assignability checks and the rendering of large fluents.
+ * The processor keeps its context in static state, so each fork runs it exactly once, which is also how it runs in a build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class BuilderProcessorBenchmark {
+
+  private static final String CONFIG = "package io.sundr.benchmarks.generated;\n"
+      + "@io.sundr.builder.annotations.ExternalBuildables(skipExistingTypes = false, includeAbstractClasses = true, "
+      + "includeInterfaces = false, value = \"io.sundr.model\", excludes = {\"io.sundr.model.AttributeKey\", "
+      + "\"io.sundr.model.AttributeMap\", "
+      + "\"io.sundr.model.TypeRefPool\", \".*Fluent$\", \".*FluentImpl$\", \".*Builder$\"})\n"
+      + "public class Config {\n"
+      + "}\n";
+
+  private JavaCompiler compiler;
+  private Path output;
+
+  @Setup
+  public void setUp() throws IOException {
+    compiler = ToolProvider.getSystemJavaCompiler();
+    output = Files.createTempDirectory("sundrio-benchmark");
+  }
+
+  @TearDown
+  public void deleteOutput() throws IOException {
+    try (Stream<Path> paths = Files.walk(output)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public boolean processModel() {
+    List<String> options = Arrays.asList("-proc:only", "-classpath", System.getProperty("java.class.path"), "-s",
+        output.toString(), "-d", output.toString());
+    JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null,
+        Collections.singletonList(new Source("io/sundr/benchmarks/generated/Config", CONFIG)));
+    task.setProcessors(Collections.singletonList(new ExternalBuildableProcessor()));
+    return task.call();
+  }
+
+  private static class Source extends SimpleJavaFileObject {
+
+    private final String content;
+
+    private Source(String name, String content) {
+      super(URI.create("string:///" + name + Kind.SOURCE.extension), Kind.SOURCE);
+      this.content = content;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return content;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.ContainerBuilder;
+import io.sundr.benchmarks.model.EnvVar;
+import io.sundr.benchmarks.model.EnvVarBuilder;
+
+/**
+ * Loads large lists into a builder, compared to wrapping the same items into a pre-sized list of builders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkAddBenchmark {
+
+  @Param({ "10000" })
+  private int size;
+
+  private List<EnvVar> env;
+  private EnvVar[] envArray;
+  private List<String> args;
+
+  @Setup
+  public void setUp() {
+    env = new ArrayList<>(size);
+    args = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      env.add(new EnvVar("ENV_" + i, String.valueOf(i)));
+      args.add("--arg" + i);
+    }
+    envArray = env.toArray(new EnvVar[0]);
+  }
+
+  @Benchmark
+  public Object withList() {
+    return new ContainerBuilder().withEnv(env);
+  }
+
+  @Benchmark
+  public Object addAllCollection() {
+    return new ContainerBuilder().addAllToEnv(env);
+  }
+
+  @Benchmark
+  public Object addArray() {
+    return new ContainerBuilder().addToEnv(envArray);
+  }
+
+  @Benchmark
+  public Object withStrings() {
+    return new ContainerBuilder().withArgs(args);
+  }
+
+  @Benchmark
+  public Object baseline() {
+    List<EnvVarBuilder> builders = new ArrayList<>(env.size());
+    for (EnvVar item : env) {
+      builders.add(new EnvVarBuilder(item));
+    }
+    return builders;
+  }
+}
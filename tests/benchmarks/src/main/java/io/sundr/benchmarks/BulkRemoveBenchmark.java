@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.ContainerBuilder;
+import io.sundr.benchmarks.model.EnvVar;
+
+/**
+ * Removes a large number of items from a large list of a builder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkRemoveBenchmark {
+
+  @Param({ "50000" })
+  private int size;
+
+  @Param({ "10000" })
+  private int removed;
+
+  private List<EnvVar> env;
+  private List<EnvVar> toRemove;
+  private ContainerBuilder container;
+
+  @Setup
+  public void setUp() {
+    env = new ArrayList<>(size);
+    toRemove = new ArrayList<>(removed);
+    int step = size / removed;
+    for (int i = 0; i < size; i++) {
+      EnvVar envVar = new EnvVar("ENV_" + i, String.valueOf(i));
+      env.add(envVar);
+      if (i % step == 0 && toRemove.size() < removed) {
+        toRemove.add(envVar);
+      }
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void fill() {
+    container = new ContainerBuilder().addAllToEnv(env);
+  }
+
+  @Benchmark
+  public Object removeAll() {
+    return container.removeAllFromEnv(toRemove);
+  }
+
+  @Benchmark
+  public Object removeMatching() {
+    return container.removeMatchingFromEnv(e -> e.getName().endsWith("0"));
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.Deployment;
+import io.sundr.benchmarks.model.DeploymentBuilder;
+
+/**
+ * Compares builders that convert all nested objects to nested builders when created from an instance, with builders
+ * that create the nested builders on access.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CopyOnAccessBenchmark {
+
+  private Deployment instance;
+  private io.sundr.benchmarks.model.lazy.Deployment lazyInstance;
+
+  @Setup
+  public void setUp() {
+    instance = Fixtures.deployment(50, 20).build();
+    lazyInstance = Fixtures.lazyDeployment(50, 20).build();
+  }
+
+  @Benchmark
+  public Object renameEager() {
+    return new DeploymentBuilder(instance).withName("renamed").build();
+  }
+
+  @Benchmark
+  public Object renameLazy() {
+    return new io.sundr.benchmarks.model.lazy.DeploymentBuilder(lazyInstance).withName("renamed").build();
+  }
+
+  @Benchmark
+  public Object editFirstContainerEager() {
+    return new DeploymentBuilder(instance).editSpec().editFirstContainer().withImage("image:latest").endContainer()
+        .endSpec().build();
+  }
+
+  @Benchmark
+  public Object editFirstContainerLazy() {
+    return new io.sundr.benchmarks.model.lazy.DeploymentBuilder(lazyInstance).editSpec().editFirstContainer()
+        .withImage("image:latest").endContainer().endSpec().build();
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.Deployment;
+import io.sundr.benchmarks.model.DeploymentBuilder;
+import io.sundr.benchmarks.model.EnvVarBuilder;
+import io.sundr.builder.Visitor;
+
+/**
+ * Compares builders that keep their nested builders in the visitables map, with builders that visit their fields
+ * directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirectAcceptBenchmark {
+
+  private DeploymentBuilder deployment;
+  private io.sundr.benchmarks.model.direct.DeploymentBuilder directDeployment;
+  private Deployment instance;
+  private io.sundr.benchmarks.model.direct.Deployment directInstance;
+
+  private Visitor<EnvVarBuilder> visitor;
+  private Visitor<io.sundr.benchmarks.model.direct.EnvVarBuilder> directVisitor;
+
+  @Setup
+  public void setUp() {
+    deployment = Fixtures.deployment(50, 20);
+    directDeployment = Fixtures.directDeployment(50, 20);
+    instance = deployment.build();
+    directInstance = directDeployment.build();
+    visitor = new Visitor<EnvVarBuilder>() {
+      @Override
+      public void visit(EnvVarBuilder element) {
+      }
+    };
+    directVisitor = new Visitor<io.sundr.benchmarks.model.direct.EnvVarBuilder>() {
+      @Override
+      public void visit(io.sundr.benchmarks.model.direct.EnvVarBuilder element) {
+      }
+    };
+  }
+
+  @Benchmark
+  public Object visitMap() {
+    return deployment.accept(visitor);
+  }
+
+  @Benchmark
+  public Object visitDirect() {
+    return directDeployment.accept(directVisitor);
+  }
+
+  @Benchmark
+  public Object editMap() {
+    return new DeploymentBuilder(instance);
+  }
+
+  @Benchmark
+  public Object editDirect() {
+    return new io.sundr.benchmarks.model.direct.DeploymentBuilder(directInstance);
+  }
+}
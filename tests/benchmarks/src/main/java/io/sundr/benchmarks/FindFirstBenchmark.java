@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.ContainerBuilder;
+import io.sundr.benchmarks.model.DeploymentBuilder;
+import io.sundr.builder.Traversal;
+import io.sundr.builder.Visitor;
+
+/**
+ * Looks up the first container with a given image in a deployment with many containers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindFirstBenchmark {
+
+  private static final String IMAGE = "image:5";
+
+  private DeploymentBuilder deployment;
+
+  @Setup
+  public void setUp() {
+    deployment = Fixtures.deployment(50, 20);
+  }
+
+  @Benchmark
+  public Object visitAll() {
+    ContainerBuilder[] found = new ContainerBuilder[1];
+    deployment.accept(new Visitor<ContainerBuilder>() {
+      @Override
+      public void visit(ContainerBuilder element) {
+        if (found[0] == null && IMAGE.equals(element.getImage())) {
+          found[0] = element;
+        }
+      }
+    });
+    return found[0];
+  }
+
+  @Benchmark
+  public Object stopOnMatch() {
+    ContainerBuilder[] found = new ContainerBuilder[1];
+    deployment.accept(new Visitor<ContainerBuilder>() {
+      @Override
+      public void visit(ContainerBuilder element) {
+      }
+
+      @Override
+      public Traversal traverse(List<Entry<String, Object>> path, ContainerBuilder element) {
+        if (IMAGE.equals(element.getImage())) {
+          found[0] = element;
+          return Traversal.STOP;
+        }
+        return Traversal.SKIP_SUBTREE;
+      }
+    });
+    return found[0];
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import io.sundr.benchmarks.model.ContainerBuilder;
+import io.sundr.benchmarks.model.DeploymentBuilder;
+import io.sundr.benchmarks.model.PodSpecBuilder;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Kind;
+import io.sundr.model.TypeDefBuilder;
+
+/**
+ * Shared fixtures for the benchmarks.
+ */
+public final class Fixtures {
+
+  private Fixtures() {
+    //Utility Class
+  }
+
+  /**
+   * Creates a class with the specified number of methods, each with two arguments and a return type.
+   *
+   * @param methods the number of methods.
+   * @return the builder of the class.
+   */
+  public static TypeDefBuilder wideTypeDef(int methods) {
+    TypeDefBuilder builder = new TypeDefBuilder()
+        .withKind(Kind.CLASS)
+        .withPackageName("io.sundr.benchmarks")
+        .withName("Wide");
+
+    for (int i = 0; i < methods; i++) {
+      builder.addNewMethod()
+          .withName("method" + i)
+          .withReturnType(ClassRef.forName("java.lang.String"))
+          .addNewArgument().withName("first").withTypeRef(ClassRef.forName("java.lang.Integer")).endArgument()
+          .addNewArgument().withName("second").withTypeRef(ClassRef.forName("java.util.List")).endArgument()
+          .endMethod();
+    }
+    return builder;
+  }
+
+  /**
+   * Creates a class nested the specified number of levels deep, where each level is a wide class.
+   *
+   * @param depth the number of nested levels.
+   * @param methods the number of methods per level.
+   * @return the builder of the outermost class.
+   */
+  public static TypeDefBuilder deepTypeDef(int depth, int methods) {
+    TypeDefBuilder builder = wideTypeDef(methods);
+    for (int i = 1; i < depth; i++) {
+      builder = wideTypeDef(methods).addToInnerTypes(builder.withName("Level" + i).build());
+    }
+    return builder;
+  }
+
+  /**
+   * Creates a deployment with the specified number of containers, each with the specified number of env vars, ports and
+   * volume mounts.
+   *
+   * @param containers the number of containers.
+   * @param items the number of items per container list.
+   * @return the builder of the deployment.
+   */
+  public static DeploymentBuilder deployment(int containers, int items) {
+    PodSpecBuilder spec = new PodSpecBuilder().withServiceAccountName("default");
+    for (int i = 0; i < containers; i++) {
+      ContainerBuilder container = new ContainerBuilder()
+          .withName("container" + i)
+          .withImage("image:" + i)
+          .addToArgs("--verbose");
+      for (int j = 0; j < items; j++) {
+        container.addNewEnv().withName("ENV_" + j).withValue(String.valueOf(j)).endEnv()
+            .addNewPort().withName("port" + j).withContainerPort(8000 + j).withProtocol("TCP").endPort()
+            .addNewVolumeMount().withName("volume" + j).withMountPath("/mnt/" + j).withReadOnly(true).endVolumeMount();
+      }
+      spec.addToContainers(container.build());
+    }
+    for (int j = 0; j < items; j++) {
+      spec.addNewVolume().withName("volume" + j).withHostPath("/var/" + j).endVolume();
+    }
+    return new DeploymentBuilder()
+        .withName("benchmark")
+        .addToLabels("app", "benchmark")
+        .withSpec(spec.build());
+  }
+
+  /**
+   * Creates the same deployment as {@link #deployment(int, int)}, using builders that visit their fields directly.
+   *
+   * @param containers the number of containers.
+   * @param items the number of items per container list.
+   * @return the builder of the deployment.
+   */
+  public static io.sundr.benchmarks.model.direct.DeploymentBuilder directDeployment(int containers, int items) {
+    io.sundr.benchmarks.model.direct.PodSpecBuilder spec = new io.sundr.benchmarks.model.direct.PodSpecBuilder()
+        .withServiceAccountName("default");
+    for (int i = 0; i < containers; i++) {
+      io.sundr.benchmarks.model.direct.ContainerBuilder container = new io.sundr.benchmarks.model.direct.ContainerBuilder();
+      container.withName("container" + i)
+          .withImage("image:" + i)
+          .addToArgs("--verbose");
+      for (int j = 0; j < items; j++) {
+        container.addNewEnv().withName("ENV_" + j).withValue(String.valueOf(j)).endEnv()
+            .addNewPort().withName("port" + j).withContainerPort(8000 + j).withProtocol("TCP").endPort()
+            .addNewVolumeMount().withName("volume" + j).withMountPath("/mnt/" + j).withReadOnly(true).endVolumeMount();
+      }
+      spec.addToContainers(container.build());
+    }
+    for (int j = 0; j < items; j++) {
+      spec.addNewVolume().withName("volume" + j).withHostPath("/var/" + j).endVolume();
+    }
+    return new io.sundr.benchmarks.model.direct.DeploymentBuilder()
+        .withName("benchmark")
+        .addToLabels("app", "benchmark")
+        .withSpec(spec.build());
+  }
+
+  /**
+   * Creates the same deployment as {@link #deployment(int, int)}, using builders that create their nested builders on
+   * access.
+   *
+   * @param containers the number of containers.
+   * @param items the number of items per container list.
+   * @return the builder of the deployment.
+   */
+  public static io.sundr.benchmarks.model.lazy.DeploymentBuilder lazyDeployment(int containers, int items) {
+    io.sundr.benchmarks.model.lazy.PodSpecBuilder spec = new io.sundr.benchmarks.model.lazy.PodSpecBuilder()
+        .withServiceAccountName("default");
+    for (int i = 0; i < containers; i++) {
+      io.sundr.benchmarks.model.lazy.ContainerBuilder container = new io.sundr.benchmarks.model.lazy.ContainerBuilder();
+      container.withName("container" + i)
+          .withImage("image:" + i)
+          .addToArgs("--verbose");
+      for (int j = 0; j < items; j++) {
+        container.addNewEnv().withName("ENV_" + j).withValue(String.valueOf(j)).endEnv()
+            .addNewPort().withName("port" + j).withContainerPort(8000 + j).withProtocol("TCP").endPort()
+            .addNewVolumeMount().withName("volume" + j).withMountPath("/mnt/" + j).withReadOnly(true).endVolumeMount();
+      }
+      spec.addToContainers(container.build());
+    }
+    for (int j = 0; j < items; j++) {
+      spec.addNewVolume().withName("volume" + j).withHostPath("/var/" + j).endVolume();
+    }
+    return new io.sundr.benchmarks.model.lazy.DeploymentBuilder()
+        .withName("benchmark")
+        .addToLabels("app", "benchmark")
+        .withSpec(spec.build());
+  }
+
+  /**
+   * Creates the same deployment as {@link #deployment(int, int)}, using builders that memoize the objects they build.
+   *
+   * @param containers the number of containers.
+   * @param items the number of items per container list.
+   * @return the builder of the deployment.
+   */
+  public static io.sundr.benchmarks.model.memoized.DeploymentBuilder memoizedDeployment(int containers, int items) {
+    io.sundr.benchmarks.model.memoized.PodSpecBuilder spec = new io.sundr.benchmarks.model.memoized.PodSpecBuilder()
+        .withServiceAccountName("default");
+    for (int i = 0; i < containers; i++) {
+      io.sundr.benchmarks.model.memoized.ContainerBuilder container = new io.sundr.benchmarks.model.memoized.ContainerBuilder();
+      container.withName("container" + i)
+          .withImage("image:" + i)
+          .addToArgs("--verbose");
+      for (int j = 0; j < items; j++) {
+        container.addNewEnv().withName("ENV_" + j).withValue(String.valueOf(j)).endEnv()
+            .addNewPort().withName("port" + j).withContainerPort(8000 + j).withProtocol("TCP").endPort()
+            .addNewVolumeMount().withName("volume" + j).withMountPath("/mnt/" + j).withReadOnly(true).endVolumeMount();
+      }
+      spec.addToContainers(container.build());
+    }
+    for (int j = 0; j < items; j++) {
+      spec.addNewVolume().withName("volume" + j).withHostPath("/var/" + j).endVolume();
+    }
+    return new io.sundr.benchmarks.model.memoized.DeploymentBuilder()
+        .withName("benchmark")
+        .addToLabels("app", "benchmark")
+        .withSpec(spec.build());
+  }
+}
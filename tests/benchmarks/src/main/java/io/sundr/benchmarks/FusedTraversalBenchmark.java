@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.builder.Visitor;
+import io.sundr.model.AnnotationRefBuilder;
+import io.sundr.model.ClassRefBuilder;
+import io.sundr.model.MethodBuilder;
+import io.sundr.model.PropertyBuilder;
+import io.sundr.model.TypeDefBuilder;
+
+/**
+ * Compares visiting a deep tree with five visitors, one subtree walk per visitor versus a single fused walk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FusedTraversalBenchmark {
+
+  private TypeDefBuilder tree;
+  private Visitor[] visitors;
+
+  @Setup
+  public void setUp() {
+    tree = Fixtures.deepTypeDef(10, 10);
+    visitors = new Visitor[] {
+        new Visitor<TypeDefBuilder>() {
+          @Override
+          public void visit(TypeDefBuilder element) {
+          }
+        },
+        new Visitor<MethodBuilder>() {
+          @Override
+          public void visit(MethodBuilder element) {
+          }
+        },
+        new Visitor<PropertyBuilder>() {
+          @Override
+          public void visit(PropertyBuilder element) {
+          }
+        },
+        new Visitor<ClassRefBuilder>() {
+          @Override
+          public void visit(ClassRefBuilder element) {
+          }
+        },
+        new Visitor<AnnotationRefBuilder>() {
+          @Override
+          public void visit(AnnotationRefBuilder element) {
+          }
+        }
+    };
+  }
+
+  @Benchmark
+  public Object accept() {
+    return tree.accept(visitors);
+  }
+
+  @Benchmark
+  public Object acceptFused() {
+    return tree.acceptFused(visitors);
+  }
+}
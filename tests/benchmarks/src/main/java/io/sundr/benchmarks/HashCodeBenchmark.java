@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.ContainerPortBuilder;
+
+/**
+ * Uses builders as the elements of a set, which hashes and compares them.
+ *
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}, which includes the arrays and boxes that hashCode
+ * allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashCodeBenchmark {
+
+  @Param({ "1000" })
+  private int size;
+
+  private ContainerPortBuilder[] ports;
+  private Set<ContainerPortBuilder> set;
+
+  @Setup
+  public void setUp() {
+    ports = new ContainerPortBuilder[size];
+    set = new HashSet<>();
+    for (int i = 0; i < size; i++) {
+      ports[i] = new ContainerPortBuilder().withName("port-" + i).withContainerPort(8000 + i).withProtocol("TCP");
+      set.add(ports[i]);
+    }
+  }
+
+  @Benchmark
+  public int hashCodes() {
+    int hash = 0;
+    for (ContainerPortBuilder port : ports) {
+      hash += port.hashCode();
+    }
+    return hash;
+  }
+
+  @Benchmark
+  public int contains() {
+    int found = 0;
+    for (ContainerPortBuilder port : ports) {
+      if (set.contains(port)) {
+        found++;
+      }
+    }
+    return found;
+  }
+}
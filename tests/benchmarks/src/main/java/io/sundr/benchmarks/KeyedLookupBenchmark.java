@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.ContainerBuilder;
+import io.sundr.benchmarks.model.EnvVar;
+
+/**
+ * Edits the items of a large list of a builder one at a time, by name.
+ * Compares looking up the items with a predicate, with looking them up by their declared key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyedLookupBenchmark {
+
+  @Param({ "1000" })
+  private int size;
+
+  private String[] names;
+  private ContainerBuilder container;
+  private io.sundr.benchmarks.model.keyed.ContainerBuilder keyedContainer;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    names = new String[size];
+    container = new ContainerBuilder();
+    keyedContainer = new io.sundr.benchmarks.model.keyed.ContainerBuilder();
+    for (int i = 0; i < size; i++) {
+      names[i] = "ENV_" + i;
+      container.addToEnv(new EnvVar(names[i], String.valueOf(i)));
+      keyedContainer.addToEnv(new io.sundr.benchmarks.model.keyed.EnvVar(names[i], String.valueOf(i)));
+    }
+  }
+
+  private String nextName() {
+    next = (next + 7) % size;
+    return names[next];
+  }
+
+  @Benchmark
+  public Object editMatching() {
+    String name = nextName();
+    return container.editMatchingEnv(e -> name.equals(e.getName())).withValue(name).endEnv();
+  }
+
+  @Benchmark
+  public Object editByKey() {
+    return keyedContainer.editEnvByName(nextName()).withValue("value").endEnv();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.DeploymentBuilder;
+
+/**
+ * Simulates a reconciliation loop, where a long-lived builder is built again after each small edit.
+ * Compares builders that build the whole object graph each time, with builders that memoize the objects they build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoizedBuildBenchmark {
+
+  private static final int CONTAINERS = 50;
+
+  private DeploymentBuilder builder;
+  private io.sundr.benchmarks.model.memoized.DeploymentBuilder memoizedBuilder;
+  private int revision;
+
+  @Setup
+  public void setUp() {
+    builder = Fixtures.deployment(CONTAINERS, 20);
+    memoizedBuilder = Fixtures.memoizedDeployment(CONTAINERS, 20);
+    builder.build();
+    memoizedBuilder.build();
+  }
+
+  @Benchmark
+  public Object relabel() {
+    return builder.addToLabels("revision", String.valueOf(revision++)).build();
+  }
+
+  @Benchmark
+  public Object relabelMemoized() {
+    return memoizedBuilder.addToLabels("revision", String.valueOf(revision++)).build();
+  }
+
+  @Benchmark
+  public Object editContainer() {
+    int index = revision++ % CONTAINERS;
+    return builder.editSpec().editContainer(index).withImage("image:" + revision).endContainer().endSpec().build();
+  }
+
+  @Benchmark
+  public Object editContainerMemoized() {
+    int index = revision++ % CONTAINERS;
+    return memoizedBuilder.editSpec().editContainer(index).withImage("image:" + revision).endContainer().endSpec()
+        .build();
+  }
+
+  @Benchmark
+  public Object unchanged() {
+    return builder.build();
+  }
+
+  @Benchmark
+  public Object unchangedMemoized() {
+    return memoizedBuilder.build();
+  }
+}
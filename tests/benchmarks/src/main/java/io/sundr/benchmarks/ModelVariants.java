@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import io.sundr.transform.annotations.PackageSelector;
+import io.sundr.transform.annotations.TemplateTransformation;
+import io.sundr.transform.annotations.TemplateTransformations;
+
+/**
+ * Generates the variants of the io.sundr.benchmarks.model classes that the benchmarks compare against the plain
+ * builders. The variant template copies each class to the package it is passed, with the @Buildable attributes it is passed.
+ */
+@TemplateTransformations(value = {
+    @TemplateTransformation(value = "variant.vm", parameters = { "io.sundr.benchmarks.model.direct",
+        "directAcceptEnabled = true" }),
+    @TemplateTransformation(value = "variant.vm", parameters = { "io.sundr.benchmarks.model.lazy",
+        "copyOnAccessEnabled = true" }),
+    @TemplateTransformation(value = "variant.vm", parameters = { "io.sundr.benchmarks.model.memoized",
+        "memoizedBuildEnabled = true" })
+}, packages = @PackageSelector("io.sundr.benchmarks.model"))
+public final class ModelVariants {
+
+  private ModelVariants() {
+    //Configuration Class
+  }
+}
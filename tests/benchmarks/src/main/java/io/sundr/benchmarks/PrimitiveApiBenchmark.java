@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.ContainerBuilder;
+import io.sundr.benchmarks.model.EnvVar;
+
+/**
+ * Reads and replaces the items of a large list of a builder by index.
+ * Compares builders with boxed indexes, with builders that use primitive indexes.
+ *
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}, which includes the boxed indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveApiBenchmark {
+
+  @Param({ "1000" })
+  private int size;
+
+  private ContainerBuilder container;
+  private io.sundr.benchmarks.model.primitive.ContainerBuilder primitiveContainer;
+
+  @Setup
+  public void setUp() {
+    container = new ContainerBuilder();
+    primitiveContainer = new io.sundr.benchmarks.model.primitive.ContainerBuilder();
+    for (int i = 0; i < size; i++) {
+      container.addToEnv(new EnvVar("ENV_" + i, String.valueOf(i)));
+      primitiveContainer.addToEnv(new io.sundr.benchmarks.model.primitive.EnvVar("ENV_" + i, String.valueOf(i)));
+    }
+  }
+
+  @Benchmark
+  public int boxed() {
+    int found = 0;
+    for (int i = 0; i < size; i++) {
+      if (container.hasEnv() && container.buildEnv(i) != null) {
+        container.setToEnv(i, container.buildEnv(i));
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int primitive() {
+    int found = 0;
+    for (int i = 0; i < size; i++) {
+      if (primitiveContainer.hasEnv() && primitiveContainer.buildEnv(i) != null) {
+        primitiveContainer.setToEnv(i, primitiveContainer.buildEnv(i));
+        found++;
+      }
+    }
+    return found;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates 10k builders of a type with 44 properties, of which only 3 are set, and keeps them reachable until the end of
+ * the operation. Both types are identical, but one uses eager collections and the other sparse fields.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}, which is the footprint of the builders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SparseFieldsBenchmark {
+
+  private static final int BUILDERS = 10_000;
+
+  @Benchmark
+  public Object denseBuilders() {
+    Object[] builders = new Object[BUILDERS];
+    for (int i = 0; i < BUILDERS; i++) {
+      builders[i] = new io.sundr.benchmarks.model.wide.WideSpecBuilder().withKind("Service").withName("web")
+          .withClusterIP("10.0.0.1");
+    }
+    return builders;
+  }
+
+  @Benchmark
+  public Object sparseBuilders() {
+    Object[] builders = new Object[BUILDERS];
+    for (int i = 0; i < BUILDERS; i++) {
+      builders[i] = new io.sundr.benchmarks.model.sparse.WideSpecBuilder().withKind("Service").withName("web")
+          .withClusterIP("10.0.0.1");
+    }
+    return builders;
+  }
+}
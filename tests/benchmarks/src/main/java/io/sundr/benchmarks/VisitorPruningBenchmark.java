@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.benchmarks.model.DeploymentBuilder;
+import io.sundr.benchmarks.model.VolumeBuilder;
+import io.sundr.builder.Visitor;
+
+/**
+ * Visits the volumes of a deployment with many containers, none of which can contain a volume.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisitorPruningBenchmark {
+
+  private DeploymentBuilder deployment;
+  private Visitor<VolumeBuilder> visitor;
+
+  @Setup
+  public void setUp() {
+    deployment = Fixtures.deployment(50, 20);
+    visitor = new Visitor<VolumeBuilder>() {
+      @Override
+      public void visit(VolumeBuilder element) {
+      }
+    };
+  }
+
+  @Benchmark
+  public Object visitVolumes() {
+    return deployment.accept(visitor);
+  }
+}
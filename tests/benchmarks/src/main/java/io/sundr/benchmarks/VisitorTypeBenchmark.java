@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.builder.PathAwareTypedVisitor;
+import io.sundr.builder.TypedVisitor;
+import io.sundr.builder.Visitor;
+import io.sundr.model.ClassRefBuilder;
+import io.sundr.model.TypeDefBuilder;
+
+/**
+ * Measures the per node cost of resolving the element type of a visitor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisitorTypeBenchmark {
+
+  private Visitor<ClassRefBuilder> visitor;
+  private TypedVisitor<ClassRefBuilder> typedVisitor;
+  private ClassRefBuilder node;
+  private TypeDefBuilder tree;
+
+  @Setup
+  public void setUp() {
+    visitor = new Visitor<ClassRefBuilder>() {
+      @Override
+      public void visit(ClassRefBuilder element) {
+      }
+    };
+    typedVisitor = new TypedVisitor<ClassRefBuilder>() {
+      @Override
+      public void visit(ClassRefBuilder element) {
+      }
+    };
+    node = new ClassRefBuilder().withFullyQualifiedName("java.lang.String");
+    tree = Fixtures.wideTypeDef(50);
+  }
+
+  @Benchmark
+  public Object visitorGetType() {
+    return visitor.getType();
+  }
+
+  @Benchmark
+  public Object typedVisitorGetType() {
+    return typedVisitor.getType();
+  }
+
+  @Benchmark
+  public Object visitorCanVisit() {
+    return visitor.canVisit(Collections.emptyList(), node);
+  }
+
+  @Benchmark
+  public Object typedVisitorCanVisit() {
+    return typedVisitor.canVisit(Collections.emptyList(), node);
+  }
+
+  @Benchmark
+  public Object pathAwareVisitorCreate() {
+    return new PathAwareTypedVisitor<ClassRefBuilder, TypeDefBuilder>() {
+    };
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Object visitTree() {
+    return tree.accept(visitor);
+  }
+}
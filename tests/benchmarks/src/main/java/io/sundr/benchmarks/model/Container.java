@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks.model;
+
+import java.util.List;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable
+public class Container {
+
+  private final String name;
+  private final String image;
+  private final List<String> args;
+  private final List<EnvVar> env;
+  private final List<ContainerPort> ports;
+  private final List<VolumeMount> volumeMounts;
+
+  public Container(String name, String image, List<String> args, List<EnvVar> env, List<ContainerPort> ports,
+      List<VolumeMount> volumeMounts) {
+    this.name = name;
+    this.image = image;
+    this.args = args;
+    this.env = env;
+    this.ports = ports;
+    this.volumeMounts = volumeMounts;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getImage() {
+    return image;
+  }
+
+  public List<String> getArgs() {
+    return args;
+  }
+
+  public List<EnvVar> getEnv() {
+    return env;
+  }
+
+  public List<ContainerPort> getPorts() {
+    return ports;
+  }
+
+  public List<VolumeMount> getVolumeMounts() {
+    return volumeMounts;
+  }
+}
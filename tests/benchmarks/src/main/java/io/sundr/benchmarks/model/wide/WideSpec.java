@@ -0,0 +1,310 @@
+/*
+ * Copyright 2015 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.benchmarks.model.wide;
+
+import java.util.List;
+
+import io.sundr.builder.annotations.Buildable;
+import io.sundr.transform.annotations.TemplateTransformation;
+
+/**
+ * A wide type with mostly unset properties.
+ * The variant template generates the io.sundr.benchmarks.model.sparse copy, which uses sparse fields.
+ */
+@Buildable(lazyCollectionInitEnabled = false)
+@TemplateTransformation(value = "/io/sundr/benchmarks/model/variant.vm", parameters = {
+    "io.sundr.benchmarks.model.sparse", "sparseFieldsEnabled = true" })
+public class WideSpec {
+
+  private final String apiVersion;
+  private final String kind;
+  private final String name;
+  private final String namespace;
+  private final String uid;
+  private final String resourceVersion;
+  private final String generation;
+  private final String creationTimestamp;
+  private final String deletionTimestamp;
+  private final String type;
+  private final String clusterIP;
+  private final String externalName;
+  private final String externalTrafficPolicy;
+  private final String internalTrafficPolicy;
+  private final String loadBalancerIP;
+  private final String loadBalancerClass;
+  private final String sessionAffinity;
+  private final String ipFamilyPolicy;
+  private final String healthCheckNodePort;
+  private final String publishNotReadyAddresses;
+  private final String allocateLoadBalancerNodePorts;
+  private final String hostname;
+  private final String subdomain;
+  private final String nodeName;
+  private final String serviceAccountName;
+  private final String schedulerName;
+  private final String priorityClassName;
+  private final String runtimeClassName;
+  private final String restartPolicy;
+  private final String dnsPolicy;
+  private final String preemptionPolicy;
+  private final String terminationGracePeriod;
+  private final String activeDeadline;
+  private final String hostNetwork;
+  private final String hostPID;
+  private final String hostIPC;
+  private final String shareProcessNamespace;
+  private final String enableServiceLinks;
+  private final String setHostnameAsFQDN;
+  private final String overhead;
+  private final List<String> externalIPs;
+  private final List<String> loadBalancerSourceRanges;
+  private final List<String> finalizers;
+  private final List<String> ipFamilies;
+
+  public WideSpec(String apiVersion, String kind, String name, String namespace, String uid, String resourceVersion,
+      String generation, String creationTimestamp, String deletionTimestamp, String type, String clusterIP,
+      String externalName, String externalTrafficPolicy, String internalTrafficPolicy, String loadBalancerIP,
+      String loadBalancerClass, String sessionAffinity, String ipFamilyPolicy, String healthCheckNodePort,
+      String publishNotReadyAddresses, String allocateLoadBalancerNodePorts, String hostname, String subdomain,
+      String nodeName, String serviceAccountName, String schedulerName, String priorityClassName,
+      String runtimeClassName, String restartPolicy, String dnsPolicy, String preemptionPolicy,
+      String terminationGracePeriod, String activeDeadline, String hostNetwork, String hostPID, String hostIPC,
+      String shareProcessNamespace, String enableServiceLinks, String setHostnameAsFQDN, String overhead,
+      List<String> externalIPs, List<String> loadBalancerSourceRanges, List<String> finalizers,
+      List<String> ipFamilies) {
+    this.apiVersion = apiVersion;
+    this.kind = kind;
+    this.name = name;
+    this.namespace = namespace;
+    this.uid = uid;
+    this.resourceVersion = resourceVersion;
+    this.generation = generation;
+    this.creationTimestamp = creationTimestamp;
+    this.deletionTimestamp = deletionTimestamp;
+    this.type = type;
+    this.clusterIP = clusterIP;
+    this.externalName = externalName;
+    this.externalTrafficPolicy = externalTrafficPolicy;
+    this.internalTrafficPolicy = internalTrafficPolicy;
+    this.loadBalancerIP = loadBalancerIP;
+    this.loadBalancerClass = loadBalancerClass;
+    this.sessionAffinity = sessionAffinity;
+    this.ipFamilyPolicy = ipFamilyPolicy;
+    this.healthCheckNodePort = healthCheckNodePort;
+    this.publishNotReadyAddresses = publishNotReadyAddresses;
+    this.allocateLoadBalancerNodePorts = allocateLoadBalancerNodePorts;
+    this.hostname = hostname;
+    this.subdomain = subdomain;
+    this.nodeName = nodeName;
+    this.serviceAccountName = serviceAccountName;
+    this.schedulerName = schedulerName;
+    this.priorityClassName = priorityClassName;
+    this.runtimeClassName = runtimeClassName;
+    this.restartPolicy = restartPolicy;
+    this.dnsPolicy = dnsPolicy;
+    this.preemptionPolicy = preemptionPolicy;
+    this.terminationGracePeriod = terminationGracePeriod;
+    this.activeDeadline = activeDeadline;
+    this.hostNetwork = hostNetwork;
+    this.hostPID = hostPID;
+    this.hostIPC = hostIPC;
+    this.shareProcessNamespace = shareProcessNamespace;
+    this.enableServiceLinks = enableServiceLinks;
+    this.setHostnameAsFQDN = setHostnameAsFQDN;
+    this.overhead = overhead;
+    this.externalIPs = externalIPs;
+    this.loadBalancerSourceRanges = loadBalancerSourceRanges;
+    this.finalizers = finalizers;
+    this.ipFamilies = ipFamilies;
+  }
+
+  public String getApiVersion() {
+    return apiVersion;
+  }
+
+  public String getKind() {
+    return kind;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  public String getUid() {
+    return uid;
+  }
+
+  public String getResourceVersion() {
+    return resourceVersion;
+  }
+
+  public String getGeneration() {
+    return generation;
+  }
+
+  public String getCreationTimestamp() {
+    return creationTimestamp;
+  }
+
+  public String getDeletionTimestamp() {
+    return deletionTimestamp;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getClusterIP() {
+    return clusterIP;
+  }
+
+  public String getExternalName() {
+    return externalName;
+  }
+
+  public String getExternalTrafficPolicy() {
+    return externalTrafficPolicy;
+  }
+
+  public String getInternalTrafficPolicy() {
+    return internalTrafficPolicy;
+  }
+
+  public String getLoadBalancerIP() {
+    return loadBalancerIP;
+  }
+
+  public String getLoadBalancerClass() {
+    return loadBalancerClass;
+  }
+
+  public String getSessionAffinity() {
+    return sessionAffinity;
+  }
+
+  public String getIpFamilyPolicy() {
+    return ipFamilyPolicy;
+  }
+
+  public String getHealthCheckNodePort() {
+    return healthCheckNodePort;
+  }
+
+  public String getPublishNotReadyAddresses() {
+    return publishNotReadyAddresses;
+  }
+
+  public String getAllocateLoadBalancerNodePorts() {
+    return allocateLoadBalancerNodePorts;
+  }
+
+  public String getHostname() {
+    return hostname;
+  }
+
+  public String getSubdomain() {
+    return subdomain;
+  }
+
+  public String getNodeName() {
+    return nodeName;
+  }
+
+  public String getServiceAccountName() {
+    return serviceAccountName;
+  }
+
+  public String getSchedulerName() {
+    return schedulerName;
+  }
+
+  public String getPriorityClassName() {
+    return priorityClassName;
+  }
+
+  public String getRuntimeClassName() {
+    return runtimeClassName;
+  }
+
+  public String getRestartPolicy() {
+    return restartPolicy;
+  }
+
+  public String getDnsPolicy() {
+    return dnsPolicy;
+  }
+
+  public String getPreemptionPolicy() {
+    return preemptionPolicy;
+  }
+
+  public String getTerminationGracePeriod() {
+    return terminationGracePeriod;
+  }
+
+  public String getActiveDeadline() {
+    return activeDeadline;
+  }
+
+  public String getHostNetwork() {
+    return hostNetwork;
+  }
+
+  public String getHostPID() {
+    return hostPID;
+  }
+
+  public String getHostIPC() {
+    return hostIPC;
+  }
+
+  public String getShareProcessNamespace() {
+    return shareProcessNamespace;
+  }
+
+  public String getEnableServiceLinks() {
+    return enableServiceLinks;
+  }
+
+  public String getSetHostnameAsFQDN() {
+    return setHostnameAsFQDN;
+  }
+
+  public String getOverhead() {
+    return overhead;
+  }
+
+  public List<String> getExternalIPs() {
+    return externalIPs;
+  }
+
+  public List<String> getLoadBalancerSourceRanges() {
+    return loadBalancerSourceRanges;
+  }
+
+  public List<String> getFinalizers() {
+    return finalizers;
+  }
+
+  public List<String> getIpFamilies() {
+    return ipFamilies;
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.catalog;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(copyOnAccessEnabled = true)
+public class Catalog {
+
+  private final String name;
+  private final Owner owner;
+  private final List<Product> products;
+  private final Set<Tag> tags;
+  private final List<Listing> listings;
+  private final Optional<Owner> backup;
+
+  public Catalog(String name, Owner owner, List<Product> products, Set<Tag> tags, List<Listing> listings,
+      Optional<Owner> backup) {
+    this.name = name;
+    this.owner = owner;
+    this.products = products;
+    this.tags = tags;
+    this.listings = listings;
+    this.backup = backup;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Owner getOwner() {
+    return owner;
+  }
+
+  public List<Product> getProducts() {
+    return products;
+  }
+
+  public Set<Tag> getTags() {
+    return tags;
+  }
+
+  public List<Listing> getListings() {
+    return listings;
+  }
+
+  public Optional<Owner> getBackup() {
+    return backup;
+  }
+}
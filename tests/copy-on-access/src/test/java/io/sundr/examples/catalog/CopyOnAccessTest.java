@@ -0,0 +1,120 @@
+/**
+ * Copyright 2015 The original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+**/
+
+package io.sundr.examples.catalog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.sundr.builder.Visitor;
+
+public class CopyOnAccessTest {
+
+  private static Catalog catalog() {
+    return new Catalog("main", new Owner("alice"),
+        Arrays.asList(new Product("pen", Arrays.asList(new Tag("office"))), new Product("ink", Collections.emptyList())),
+        new LinkedHashSet<>(Arrays.asList(new Tag("new"))),
+        Arrays.asList(new Bundle("set", Arrays.asList(new Product("pad", Collections.emptyList())))),
+        Optional.of(new Owner("bob")));
+  }
+
+  private static List<String> titles(List<Product> products) {
+    return products.stream().map(Product::getTitle).collect(Collectors.toList());
+  }
+
+  @Test
+  public void shouldPassUntouchedFieldsByReference() {
+    Catalog catalog = catalog();
+    CatalogBuilder builder = new CatalogBuilder(catalog);
+    assertNull(builder._visitables);
+
+    Catalog renamed = builder.withName("other").build();
+    assertEquals("other", renamed.getName());
+    assertSame(catalog.getOwner(), renamed.getOwner());
+    assertSame(catalog.getProducts(), renamed.getProducts());
+    assertSame(catalog.getTags(), renamed.getTags());
+    assertSame(catalog.getListings(), renamed.getListings());
+    assertSame(catalog.getBackup(), renamed.getBackup());
+  }
+
+  @Test
+  public void shouldCopyFieldsOnAccess() {
+    Catalog catalog = catalog();
+    Catalog edited = new CatalogBuilder(catalog).editFirstProduct().withTitle("pencil").endProduct().build();
+
+    assertEquals(Arrays.asList("pencil", "ink"), titles(edited.getProducts()));
+    assertEquals(Arrays.asList("pen", "ink"), titles(catalog.getProducts()));
+    assertSame(catalog.getOwner(), edited.getOwner());
+    assertSame(catalog.getListings(), edited.getListings());
+
+    ProductBuilder pen = new ProductBuilder(catalog.getProducts().get(0));
+    assertTrue(pen.hasTags());
+    assertEquals("office", pen.buildFirstTag().getName());
+  }
+
+  @Test
+  public void shouldReplacePendingValues() {
+    Catalog catalog = catalog();
+    List<Product> replacement = Arrays.asList(new Product("cup", Collections.emptyList()));
+    CatalogBuilder builder = new CatalogBuilder(catalog).withProducts(replacement);
+    assertSame(replacement, builder.build().getProducts());
+
+    builder.addToProducts(new Product("mug", Collections.emptyList()));
+    assertEquals(Arrays.asList("cup", "mug"), titles(builder.build().getProducts()));
+
+    builder.withOwner(null).removeFromTags(new Tag("new"));
+    assertFalse(builder.hasOwner());
+    assertFalse(builder.hasTags());
+    assertTrue(builder.hasBackup());
+  }
+
+  @Test
+  public void shouldVisitPendingFields() {
+    Catalog catalog = catalog();
+    Catalog visited = new CatalogBuilder(catalog).accept(new Visitor<ProductBuilder>() {
+      @Override
+      public void visit(ProductBuilder product) {
+        product.withTitle(product.getTitle().toUpperCase());
+      }
+    }).build();
+
+    assertEquals(Arrays.asList("PEN", "INK"), titles(visited.getProducts()));
+    assertEquals(Arrays.asList("PAD"), titles(((Bundle) visited.getListings().get(0)).getProducts()));
+    assertEquals("alice", visited.getOwner().getName());
+  }
+
+  @Test
+  public void shouldCompareWithPendingFields() {
+    Catalog catalog = catalog();
+    assertEquals(new CatalogBuilder(catalog), new CatalogBuilder(catalog).editOwner().endOwner());
+    assertEquals(new CatalogBuilder(catalog).hashCode(), new CatalogBuilder(catalog).editOwner().endOwner().hashCode());
+    assertNotSame(catalog.getOwner(), new CatalogBuilder(catalog).editOwner().endOwner().build().getOwner());
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.library;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(directAcceptEnabled = true)
+public class Library {
+
+  private final String name;
+  private final Address address;
+  private final List<Book> books;
+  private final Set<Author> authors;
+  private final List<Item> items;
+  private final Optional<Address> archive;
+
+  public Library(String name, Address address, List<Book> books, Set<Author> authors, List<Item> items,
+      Optional<Address> archive) {
+    this.name = name;
+    this.address = address;
+    this.books = books;
+    this.authors = authors;
+    this.items = items;
+    this.archive = archive;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Address getAddress() {
+    return address;
+  }
+
+  public List<Book> getBooks() {
+    return books;
+  }
+
+  public Set<Author> getAuthors() {
+    return authors;
+  }
+
+  public List<Item> getItems() {
+    return items;
+  }
+
+  public Optional<Address> getArchive() {
+    return archive;
+  }
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.library;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.sundr.builder.Traversal;
+import io.sundr.builder.Visitor;
+
+public class DirectAcceptTest {
+
+  private static LibraryBuilder library() {
+    return new LibraryBuilder()
+        .withName("central")
+        .withNewAddress().withStreet("main").endAddress()
+        .addNewBook().withTitle("first").addNewAuthor().withName("alice").endAuthor().endBook()
+        .addNewBook().withTitle("second").addNewAuthor().withName("bob").endAuthor().addNewAuthor().withName("carol")
+        .endAuthor().endBook()
+        .addNewAuthor().withName("dave").endAuthor()
+        .addToItems(new Book("third", Arrays.asList(new Author("erin"))), new Magazine("weekly", 1))
+        .withArchive(Optional.of(new Address("old")));
+  }
+
+  private static List<String> authorPaths(LibraryBuilder library) {
+    List<String> visited = new ArrayList<>();
+    library.accept(new Visitor<AuthorBuilder>() {
+      @Override
+      public void visit(AuthorBuilder element) {
+      }
+
+      @Override
+      public void visit(List<Entry<String, Object>> path, AuthorBuilder element) {
+        visited.add(path.stream().map(Entry::getKey).collect(Collectors.joining("/")) + ":" + element.getName());
+      }
+    });
+    return visited;
+  }
+
+  @Test
+  public void shouldNotTrackVisitables() {
+    LibraryBuilder library = library();
+    assertNull(library._visitables);
+    assertNull(new BookBuilder(library.buildFirstBook())._visitables);
+  }
+
+  @Test
+  public void shouldVisitFieldsWithPath() {
+    assertEquals(Arrays.asList("/books:alice", "/books:bob", "/books:carol", ":dave", "/items:erin"),
+        authorPaths(library()));
+  }
+
+  @Test
+  public void shouldStopAtFirstMatch() {
+    List<String> visited = new ArrayList<>();
+    library().accept(new Visitor<AuthorBuilder>() {
+      @Override
+      public void visit(AuthorBuilder element) {
+        visited.add(element.getName());
+      }
+
+      @Override
+      public Traversal traverse(List<Entry<String, Object>> path, AuthorBuilder element) {
+        visit(path, element);
+        return element.getName().equals("bob") ? Traversal.STOP : Traversal.CONTINUE;
+      }
+    });
+    assertEquals(Arrays.asList("alice", "bob"), visited);
+  }
+
+  @Test
+  public void shouldSkipSubtree() {
+    List<String> visited = new ArrayList<>();
+    library().accept(new Visitor<Object>() {
+      @Override
+      public void visit(Object element) {
+        if (element instanceof AuthorBuilder) {
+          visited.add(((AuthorBuilder) element).getName());
+        }
+      }
+
+      @Override
+      public Traversal traverse(List<Entry<String, Object>> path, Object element) {
+        visit(path, element);
+        return element instanceof BookBuilder ? Traversal.SKIP_SUBTREE : Traversal.CONTINUE;
+      }
+    });
+    assertEquals(Arrays.asList("dave"), visited);
+  }
+
+  @Test
+  public void shouldVisitPolymorphicAndOptionalFields() {
+    List<String> visited = new ArrayList<>();
+    Library library = library()
+        .accept(new Visitor<AddressBuilder>() {
+          @Override
+          public void visit(AddressBuilder element) {
+            visited.add(element.getStreet());
+            element.withStreet(element.getStreet().toUpperCase());
+          }
+        })
+        .accept(new Visitor<MagazineBuilder>() {
+          @Override
+          public void visit(MagazineBuilder element) {
+            element.withIssue(element.getIssue() + 1);
+          }
+        })
+        .build();
+
+    assertEquals(Arrays.asList("main", "old"), visited);
+    assertEquals("MAIN", library.getAddress().getStreet());
+    assertEquals("OLD", library.getArchive().get().getStreet());
+    assertEquals(2, ((Magazine) library.getItems().get(1)).getIssue());
+  }
+
+  @Test
+  public void shouldNotVisitRemovedOrReplacedItems() {
+    LibraryBuilder library = library()
+        .withNewAddress().withStreet("other").endAddress()
+        .withArchive(Optional.empty())
+        .removeMatchingFromBooks(b -> b.getTitle().equals("first"))
+        .removeFromAuthors(new Author("dave"))
+        .setToBooks(0, new Book("fourth", Arrays.asList(new Author("frank"))));
+
+    List<String> visited = new ArrayList<>();
+    library.accept(new Visitor<AddressBuilder>() {
+      @Override
+      public void visit(AddressBuilder element) {
+        visited.add(element.getStreet());
+      }
+    });
+
+    assertEquals(Arrays.asList("other"), visited);
+    assertEquals(Arrays.asList("/books:frank", "/items:erin"), authorPaths(library));
+  }
+
+  @Test
+  public void shouldApplyVisitorsInOrderWhenFused() {
+    List<String> visited = new ArrayList<>();
+    library().acceptFused(new Visitor<AddressBuilder>() {
+      @Override
+      public void visit(AddressBuilder element) {
+        visited.add("low:" + element.getStreet());
+      }
+    }, new Visitor<AddressBuilder>() {
+      @Override
+      public void visit(AddressBuilder element) {
+        visited.add("high:" + element.getStreet());
+      }
+
+      @Override
+      public int order() {
+        return 1;
+      }
+    });
+
+    assertEquals(Arrays.asList("high:main", "low:main", "high:old", "low:old"), visited);
+  }
+
+  @Test
+  public void shouldVisitFieldsWhenFused() {
+    List<String> visited = new ArrayList<>();
+    library().acceptFused(new Visitor<AuthorBuilder>() {
+      @Override
+      public void visit(AuthorBuilder element) {
+        visited.add(element.getName());
+      }
+    }, new Visitor<AddressBuilder>() {
+      @Override
+      public void visit(AddressBuilder element) {
+        visited.add(element.getStreet());
+      }
+    });
+
+    assertEquals(Arrays.asList("main", "alice", "bob", "carol", "dave", "erin", "old"), visited);
+  }
+
+  @Test
+  public void shouldAllowVisitorsToAddItems() {
+    LibraryBuilder library = library();
+    library.accept(new Visitor<BookBuilder>() {
+      @Override
+      public void visit(BookBuilder element) {
+        element.addNewAuthor().withName("editor").endAuthor();
+      }
+    });
+
+    assertEquals(Arrays.asList("/books:alice", "/books:editor", "/books:bob", "/books:carol", "/books:editor",
+        ":dave", "/items:erin", "/items:editor"), authorPaths(library));
+  }
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.inventory;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(keyProperty = "sku")
+public class Item {
+
+  private final String sku;
+  private final int quantity;
+
+  public Item(String sku, int quantity) {
+    this.sku = sku;
+    this.quantity = quantity;
+  }
+
+  public String getSku() {
+    return sku;
+  }
+
+  public int getQuantity() {
+    return quantity;
+  }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.inventory;
+
+import java.util.List;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable
+public class Warehouse {
+
+  private final String name;
+  private final List<Item> items;
+  private final Item[] returns;
+
+  public Warehouse(String name, List<Item> items, Item[] returns) {
+    this.name = name;
+    this.items = items;
+    this.returns = returns;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<Item> getItems() {
+    return items;
+  }
+
+  public Item[] getReturns() {
+    return returns;
+  }
+}
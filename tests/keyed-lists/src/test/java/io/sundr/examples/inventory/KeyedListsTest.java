@@ -0,0 +1,140 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.inventory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.sundr.builder.Traversal;
+import io.sundr.builder.TypedVisitor;
+
+public class KeyedListsTest {
+
+  private static WarehouseBuilder warehouse() {
+    return new WarehouseBuilder()
+        .withName("central")
+        .addNewItem().withSku("a").withQuantity(1).endItem()
+        .addNewItem().withSku("b").withQuantity(2).endItem()
+        .addNewItem().withSku("c").withQuantity(3).endItem()
+        .addNewReturn().withSku("x").withQuantity(1).endReturn();
+  }
+
+  private static List<String> skus(List<Item> items) {
+    List<String> skus = new ArrayList<>();
+    items.forEach(i -> skus.add(i.getSku()));
+    return skus;
+  }
+
+  @Test
+  public void shouldFindItemsByKey() {
+    WarehouseBuilder builder = warehouse();
+    assertEquals(2, builder.buildItemBySku("b").getQuantity());
+    assertTrue(builder.hasItemBySku("c"));
+    assertFalse(builder.hasItemBySku("d"));
+    assertNull(builder.buildItemBySku("d"));
+    assertTrue(builder.hasReturnBySku("x"));
+  }
+
+  @Test
+  public void shouldEditItemsByKey() {
+    WarehouseBuilder builder = warehouse();
+    for (int i = 0; i < 3; i++) {
+      builder.editItemBySku("b").withQuantity(10 + i).endItem();
+    }
+    Warehouse warehouse = builder.build();
+    assertEquals(Arrays.asList("a", "b", "c"), skus(warehouse.getItems()));
+    assertEquals(12, warehouse.getItems().get(1).getQuantity());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void shouldNotEditMissingItems() {
+    warehouse().editItemBySku("d");
+  }
+
+  @Test
+  public void shouldFollowChangesToTheList() {
+    WarehouseBuilder builder = warehouse();
+    assertTrue(builder.hasItemBySku("a"));
+    builder.addNewItem().withSku("d").endItem();
+    assertTrue(builder.hasItemBySku("d"));
+    builder.addToItems(0, new Item("e", 5));
+    assertEquals(5, builder.buildItemBySku("e").getQuantity());
+    assertEquals(1, builder.buildItemBySku("a").getQuantity());
+    builder.editItemBySku("a").withSku("f").endItem();
+    assertFalse(builder.hasItemBySku("a"));
+    assertEquals(1, builder.buildItemBySku("f").getQuantity());
+    builder.removeFromItemsBySku("b");
+    assertFalse(builder.hasItemBySku("b"));
+    assertEquals(3, builder.buildItemBySku("c").getQuantity());
+    builder.withItems(new Item("g", 7));
+    assertFalse(builder.hasItemBySku("c"));
+    assertEquals(7, builder.buildItemBySku("g").getQuantity());
+    assertEquals(Arrays.asList("g"), skus(builder.build().getItems()));
+  }
+
+  @Test
+  public void shouldFollowChangesFromVisitors() {
+    WarehouseBuilder builder = warehouse();
+    assertTrue(builder.hasItemBySku("a"));
+    builder.accept(new TypedVisitor<ItemBuilder>() {
+      @Override
+      public void visit(ItemBuilder item) {
+        item.withSku(item.getSku().toUpperCase());
+      }
+    });
+    assertFalse(builder.hasItemBySku("a"));
+    assertEquals(1, builder.buildItemBySku("A").getQuantity());
+  }
+
+  @Test
+  public void shouldFollowChangesFromStoppedVisitors() {
+    WarehouseBuilder builder = warehouse();
+    assertTrue(builder.hasItemBySku("c"));
+    builder.accept(new TypedVisitor<ItemBuilder>() {
+      @Override
+      public void visit(ItemBuilder item) {
+        item.withSku(item.getSku() + "1");
+      }
+
+      @Override
+      public Traversal traverse(List<Map.Entry<String, Object>> path, ItemBuilder item) {
+        visit(item);
+        return Traversal.STOP;
+      }
+    });
+    assertTrue(builder.hasItemBySku("a1"));
+    assertFalse(builder.hasItemBySku("a"));
+  }
+
+  @Test
+  public void shouldFindTheFirstOfDuplicateKeys() {
+    WarehouseBuilder builder = warehouse().addToItems(new Item("a", 9));
+    assertEquals(1, builder.buildItemBySku("a").getQuantity());
+    builder.removeFromItemsBySku("a");
+    assertEquals(9, builder.buildItemBySku("a").getQuantity());
+  }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.library;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(memoizedBuildEnabled = true)
+public class Library {
+
+  private final String name;
+  private final Address address;
+  private final List<Shelf> shelves;
+  private final Optional<Address> annex;
+  private final Map<String, String> labels;
+
+  public Library(String name, Address address, List<Shelf> shelves, Optional<Address> annex, Map<String, String> labels) {
+    this.name = name;
+    this.address = address;
+    this.shelves = shelves;
+    this.annex = annex;
+    this.labels = labels;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Address getAddress() {
+    return address;
+  }
+
+  public List<Shelf> getShelves() {
+    return shelves;
+  }
+
+  public Optional<Address> getAnnex() {
+    return annex;
+  }
+
+  public Map<String, String> getLabels() {
+    return labels;
+  }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.library;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.sundr.builder.Visitor;
+
+public class MemoizedBuildTest {
+
+  private static LibraryBuilder library() {
+    return new LibraryBuilder()
+        .withName("central")
+        .withNewAddress().withStreet("main").endAddress()
+        .addNewShelf().withLabel("fiction")
+        .addNewBook().withTitle("dune").addToAuthors("herbert").endBook()
+        .addNewBook().withTitle("emma").addToAuthors("austen").endBook()
+        .endShelf()
+        .addNewShelf().withLabel("poetry")
+        .addNewBook().withTitle("odes").endBook()
+        .endShelf()
+        .withNewAnnex().withStreet("side").endAnnex()
+        .addToLabels("city", "athens");
+  }
+
+  @Test
+  public void shouldReturnPreviousObjectWhenUnchanged() {
+    LibraryBuilder builder = library();
+    Library library = builder.build();
+    assertSame(library, builder.build());
+    assertSame(library.getShelves().get(0), builder.buildFirstShelf());
+  }
+
+  @Test
+  public void shouldRebuildOnlyTheChangedPath() {
+    LibraryBuilder builder = library();
+    Library library = builder.build();
+    Library edited = builder.editFirstShelf().editFirstBook().withTitle("messiah").endBook().endShelf().build();
+
+    assertNotSame(library, edited);
+    assertEquals("messiah", edited.getShelves().get(0).getBooks().get(0).getTitle());
+    assertNotSame(library.getShelves().get(0), edited.getShelves().get(0));
+    assertSame(library.getShelves().get(0).getBooks().get(1), edited.getShelves().get(0).getBooks().get(1));
+    assertSame(library.getShelves().get(1), edited.getShelves().get(1));
+    assertSame(library.getAddress(), edited.getAddress());
+    assertSame(library.getAnnex().get(), edited.getAnnex().get());
+  }
+
+  @Test
+  public void shouldRebuildWhenOwnFieldsChange() {
+    LibraryBuilder builder = library();
+    Library library = builder.build();
+    Library relabeled = builder.addToLabels("country", "greece").build();
+
+    assertNotSame(library, relabeled);
+    assertEquals("greece", relabeled.getLabels().get("country"));
+    assertSame(library.getShelves().get(0), relabeled.getShelves().get(0));
+    assertSame(library.getAddress(), relabeled.getAddress());
+  }
+
+  @Test
+  public void shouldRebuildWhenCollectionsChangeThroughGetters() {
+    LibraryBuilder builder = library();
+    Library library = builder.build();
+    builder.getLabels().put("country", "greece");
+    Library relabeled = builder.build();
+
+    assertNotSame(library, relabeled);
+    assertEquals("greece", relabeled.getLabels().get("country"));
+
+    BookBuilder book = new BookBuilder().withTitle("dune").addToAuthors("herbert");
+    Book dune = book.build();
+    book.getAuthors().add("anderson");
+    assertNotSame(dune, book.build());
+    assertEquals(Arrays.asList("herbert", "anderson"), book.build().getAuthors());
+  }
+
+  @Test
+  public void shouldTrackChangesMadeByVisitors() {
+    LibraryBuilder builder = library();
+    Library library = builder.build();
+    Library visited = builder.accept(new Visitor<BookBuilder>() {
+      @Override
+      public void visit(BookBuilder book) {
+        if (book.getTitle().equals("emma")) {
+          book.withTitle("persuasion");
+        }
+      }
+    }).build();
+
+    assertEquals("persuasion", visited.getShelves().get(0).getBooks().get(1).getTitle());
+    assertSame(library.getShelves().get(0).getBooks().get(0), visited.getShelves().get(0).getBooks().get(0));
+    assertSame(library.getShelves().get(1), visited.getShelves().get(1));
+    assertSame(library.getAnnex().get(), visited.getAnnex().get());
+  }
+
+  @Test
+  public void shouldTrackChangesOfInheritedFields() {
+    ReferenceBookBuilder builder = new ReferenceBookBuilder().withTitle("atlas").withEdition(1);
+    ReferenceBook atlas = builder.build();
+    assertSame(atlas, builder.build());
+    assertEquals(2, builder.withEdition(2).build().getEdition());
+    assertEquals("world atlas", builder.withTitle("world atlas").build().getTitle());
+  }
+
+  @Test
+  public void shouldReuseTheObjectsTheBuilderWasCreatedFrom() {
+    Library library = library().build();
+    assertSame(library, new LibraryBuilder(library).build());
+    assertSame(library.getShelves().get(0), new LibraryBuilder(library).withName("other").build().getShelves().get(0));
+
+    Address address = new Address("plain");
+    assertNotSame(address, new AddressBuilder(address).build());
+  }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.series;
+
+import java.util.List;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(primitiveApiEnabled = true)
+public class Series {
+
+  private final String name;
+  private final List<Episode> episodes;
+  private final List<Integer> ratings;
+
+  public Series(String name, List<Episode> episodes, List<Integer> ratings) {
+    this.name = name;
+    this.episodes = episodes;
+    this.ratings = ratings;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<Episode> getEpisodes() {
+    return episodes;
+  }
+
+  public List<Integer> getRatings() {
+    return ratings;
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.series;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class PrimitiveApiTest {
+
+  private static SeriesBuilder series() {
+    return new SeriesBuilder()
+        .withName("pilot season")
+        .addNewEpisode().withTitle("one").withMinutes(40).endEpisode()
+        .addNewEpisode().withTitle("three").withMinutes(42).endEpisode()
+        .addAllToRatings(Arrays.asList(5, 3));
+  }
+
+  @Test
+  public void shouldUsePrimitiveTypes() throws Exception {
+    assertEquals(boolean.class, SeriesFluent.class.getMethod("hasName").getReturnType());
+    assertEquals(boolean.class, SeriesFluent.class.getMethod("hasEpisodes").getReturnType());
+    assertEquals(boolean.class, SeriesFluent.class.getMethod("hasEpisodeByTitle", String.class).getReturnType());
+    SeriesFluent.class.getMethod("addToEpisodes", int.class, Episode.class);
+    SeriesFluent.class.getMethod("setToEpisodes", int.class, Episode.class);
+    SeriesFluent.class.getMethod("buildEpisode", int.class);
+    SeriesFluent.class.getMethod("editEpisode", int.class);
+    SeriesFluent.class.getMethod("setNewEpisodeLike", int.class, Episode.class);
+    SeriesFluent.class.getMethod("addToRatings", int.class, Integer.class);
+    SeriesFluent.class.getMethod("getRating", int.class);
+    SeriesBuilder.class.getConstructor(boolean.class);
+  }
+
+  @Test
+  public void shouldEditByIndex() {
+    SeriesBuilder builder = series()
+        .addToEpisodes(1, new Episode("two", 41))
+        .addToRatings(0, 4);
+    builder.editEpisode(2).withMinutes(45).endEpisode();
+    Series series = builder.build();
+    assertEquals("two", series.getEpisodes().get(1).getTitle());
+    assertEquals(45, series.getEpisodes().get(2).getMinutes());
+    assertEquals(Arrays.asList(4, 5, 3), series.getRatings());
+    assertEquals(3, (int) builder.getRating(2));
+  }
+
+  @Test
+  public void shouldCheckForValues() {
+    SeriesBuilder builder = series();
+    assertTrue(builder.hasName());
+    assertTrue(builder.hasEpisodes());
+    assertTrue(builder.hasMatchingEpisode(e -> e.getMinutes() > 41));
+    assertFalse(builder.hasMatchingEpisode(e -> e.getMinutes() > 42));
+    assertFalse(new SeriesBuilder().hasName());
+  }
+
+  @Test
+  public void shouldRemoveRatingsByValue() {
+    SeriesBuilder builder = series().addToRatings(4).removeFromRatings(5);
+    assertEquals(Arrays.asList(3, 4), builder.build().getRatings());
+  }
+}
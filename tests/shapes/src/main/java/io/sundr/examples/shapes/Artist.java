@@ -17,7 +17,16 @@
 package io.sundr.examples.shapes;
 
 import io.sundr.builder.annotations.Buildable;
-
+import io.sundr.transform.annotations.PackageSelector;
+import io.sundr.transform.annotations.TemplateTransformation;
+import io.sundr.transform.annotations.TemplateTransformations;
+
+//Processed in the same round as the @TemplateTransformation on Canvas.
+//The wrapper template renders nothing for Shape, which has no constructors.
+@TemplateTransformations(value = {
+    @TemplateTransformation("transformation.vm"),
+    @TemplateTransformation(value = "wrapper.vm", parameters = "Wrapped")
+}, packages = @PackageSelector(value = "io.sundr.examples.shapes", pattern = "Artist|Shape"))
 public class Artist {
 
   private String firstName;
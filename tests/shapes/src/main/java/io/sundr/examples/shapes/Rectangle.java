@@ -20,7 +20,7 @@ import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.Pojo;
 
 @Buildable
-@Pojo(name = "MyRect", superClass = AbstractShape.class)
+@Pojo(name = "MyRect", superClass = AbstractShape.class, cacheHashCode = true)
 public interface Rectangle extends Shape {
 
   int getWidth();
@@ -20,11 +20,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.ServiceLoader;
 import java.util.function.Predicate;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import io.sundr.builder.BaseFluent;
+import io.sundr.builder.BuilderIndex;
 import io.sundr.builder.PathAwareTypedVisitor;
 import io.sundr.builder.Visitor;
 import io.sundr.examples.shapes.v1.Circle;
@@ -44,6 +47,23 @@ public class ShapesTest {
 
   }
 
+  @Test
+  public void testBuilderOfUsesBuilderIndex() {
+    boolean indexed = false;
+    for (BuilderIndex index : ServiceLoader.load(BuilderIndex.class)) {
+      indexed |= index.builderFactoryOf(Square.class) != null;
+    }
+    Assert.assertTrue(indexed);
+
+    Square square = new SquareBuilder().withX(1).withY(2).withHeight(3).build();
+    Object builder = BaseFluent.builderOf(square);
+    Assert.assertTrue(builder instanceof SquareBuilder);
+    Square copy = ((SquareBuilder) builder).withY(5).build();
+    Assert.assertEquals(1, copy.getX());
+    Assert.assertEquals(5, copy.getY());
+    Assert.assertEquals(3, copy.getHeight());
+  }
+
   @Test
   public void testCircleEdit() {
     EditableCircle<Integer> circle = new CircleBuilder<Integer>().withX(0).withY(0).withRadius(10).build();
@@ -314,4 +334,45 @@ public class ShapesTest {
     new CanvasBuilder(canvas)
         .editOrAddValueInCircleNamedShapes("testShape").and().build();
   }
+
+  @Test
+  public void testCachedHashCode() {
+    MyRect rect = new MyRectBuilder().withX(1).withY(2).withWidth(3).withHeight(4).build();
+    int hash = rect.hashCode();
+    Assert.assertEquals(hash, rect.hashCode());
+    Assert.assertEquals(rect, rect);
+    Assert.assertNotEquals(rect, new MyRectBuilder(rect).withWidth(5).build());
+  }
+
+  @Test
+  public void testCachedHashCodeOfEqualInstances() {
+    MyPoint point = new MyPointBuilder().withX(1).withY(2).withLabel("origin").build();
+    MyPoint copy = new MyPointBuilder(point).build();
+    Assert.assertNotSame(point, copy);
+    Assert.assertEquals(point, copy);
+    Assert.assertEquals(point.hashCode(), copy.hashCode());
+    Assert.assertEquals(point, copy);
+    Assert.assertEquals(copy, point);
+    Assert.assertNotEquals(point, new MyPointBuilder(point).withY(3).build());
+  }
+
+  @Test
+  public void testTemplateTransformationsInOneRound() {
+    Artist artist = new Artist("Pablo", "Picasso");
+    Canvas canvas = new CanvasBuilder().withArtist(artist).build();
+    Assert.assertSame(artist, new OptionalArtist(artist).getValue());
+    Assert.assertSame(canvas, new OptionalCanvas(canvas).getValue());
+  }
+
+  @Test
+  public void testTemplateTransformationParameters() {
+    Artist artist = new Artist("Pablo", "Picasso");
+    Assert.assertSame(artist, new WrappedArtist(artist).getValue());
+    try {
+      Class.forName("io.sundr.examples.shapes.WrappedShape");
+      Assert.fail("Expected no wrapper for an interface.");
+    } catch (ClassNotFoundException e) {
+      //expected
+    }
+  }
 }
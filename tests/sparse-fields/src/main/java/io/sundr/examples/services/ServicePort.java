@@ -0,0 +1,46 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.services;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(sparseFieldsEnabled = true)
+public class ServicePort {
+
+  private final String name;
+  private final String protocol;
+  private final Integer port;
+
+  public ServicePort(String name, String protocol, Integer port) {
+    this.name = name;
+    this.protocol = protocol;
+    this.port = port;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getProtocol() {
+    return protocol;
+  }
+
+  public Integer getPort() {
+    return port;
+  }
+}
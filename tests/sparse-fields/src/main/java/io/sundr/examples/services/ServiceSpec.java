@@ -0,0 +1,106 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(sparseFieldsEnabled = true, lazyCollectionInitEnabled = false, lazyMapInitEnabled = false)
+public class ServiceSpec {
+
+  private final String type;
+  private final String clusterIP;
+  private final String externalName;
+  private final String sessionAffinity;
+  private final Integer healthCheckNodePort;
+  private final Boolean publishNotReadyAddresses;
+  private final int replicas;
+  private final Optional<String> ipFamily;
+  private final List<String> externalIPs;
+  private final Map<String, String> selector;
+  private final List<ServicePort> ports;
+  private final ServicePort defaultPort;
+
+  public ServiceSpec(String type, String clusterIP, String externalName, String sessionAffinity,
+      Integer healthCheckNodePort, Boolean publishNotReadyAddresses, int replicas, Optional<String> ipFamily,
+      List<String> externalIPs, Map<String, String> selector, List<ServicePort> ports, ServicePort defaultPort) {
+    this.type = type;
+    this.clusterIP = clusterIP;
+    this.externalName = externalName;
+    this.sessionAffinity = sessionAffinity;
+    this.healthCheckNodePort = healthCheckNodePort;
+    this.publishNotReadyAddresses = publishNotReadyAddresses;
+    this.replicas = replicas;
+    this.ipFamily = ipFamily;
+    this.externalIPs = externalIPs;
+    this.selector = selector;
+    this.ports = ports;
+    this.defaultPort = defaultPort;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getClusterIP() {
+    return clusterIP;
+  }
+
+  public String getExternalName() {
+    return externalName;
+  }
+
+  public String getSessionAffinity() {
+    return sessionAffinity;
+  }
+
+  public Integer getHealthCheckNodePort() {
+    return healthCheckNodePort;
+  }
+
+  public Boolean getPublishNotReadyAddresses() {
+    return publishNotReadyAddresses;
+  }
+
+  public int getReplicas() {
+    return replicas;
+  }
+
+  public Optional<String> getIpFamily() {
+    return ipFamily;
+  }
+
+  public List<String> getExternalIPs() {
+    return externalIPs;
+  }
+
+  public Map<String, String> getSelector() {
+    return selector;
+  }
+
+  public List<ServicePort> getPorts() {
+    return ports;
+  }
+
+  public ServicePort getDefaultPort() {
+    return defaultPort;
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.services;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SparseFieldsTest {
+
+  @Test
+  public void testBuild() {
+    ServiceSpec spec = new ServiceSpecBuilder()
+        .withType("ClusterIP")
+        .withClusterIP("10.0.0.1")
+        .withPublishNotReadyAddresses()
+        .withReplicas(3)
+        .addToExternalIPs("192.168.0.1")
+        .addToSelector("app", "web")
+        .addNewPort().withName("http").withPort(80).endPort()
+        .build();
+
+    Assert.assertEquals("ClusterIP", spec.getType());
+    Assert.assertEquals("10.0.0.1", spec.getClusterIP());
+    Assert.assertNull(spec.getExternalName());
+    Assert.assertNull(spec.getHealthCheckNodePort());
+    Assert.assertTrue(spec.getPublishNotReadyAddresses());
+    Assert.assertEquals(3, spec.getReplicas());
+    Assert.assertEquals(Arrays.asList("192.168.0.1"), spec.getExternalIPs());
+    Assert.assertEquals("web", spec.getSelector().get("app"));
+    Assert.assertEquals("http", spec.getPorts().get(0).getName());
+    Assert.assertEquals(Integer.valueOf(80), spec.getPorts().get(0).getPort());
+    Assert.assertNull(spec.getPorts().get(0).getProtocol());
+  }
+
+  @Test
+  public void testHasAndClear() {
+    ServiceSpecBuilder builder = new ServiceSpecBuilder().withExternalName("db.example.com").withSessionAffinity("None");
+    Assert.assertTrue(builder.hasExternalName());
+    Assert.assertTrue(builder.hasSessionAffinity());
+    Assert.assertFalse(builder.hasType());
+
+    builder.withExternalName(null);
+    Assert.assertFalse(builder.hasExternalName());
+    Assert.assertNull(builder.getExternalName());
+    Assert.assertEquals("None", builder.getSessionAffinity());
+  }
+
+  @Test
+  public void testEditEqualsAndToString() {
+    ServiceSpec spec = new ServiceSpecBuilder().withType("NodePort").withHealthCheckNodePort(30000).build();
+    ServiceSpecBuilder first = new ServiceSpecBuilder(spec);
+    ServiceSpecBuilder second = new ServiceSpecBuilder().withHealthCheckNodePort(30000).withType("NodePort");
+    Assert.assertEquals(first, second);
+    Assert.assertEquals(first.hashCode(), second.hashCode());
+    Assert.assertTrue(first.toString().startsWith("{type:NodePort,healthCheckNodePort:30000,replicas:0"));
+
+    second.withClusterIP("None");
+    Assert.assertNotEquals(first, second);
+  }
+
+  @Test
+  public void testExplicitEagerCollectionsAreHonoured() {
+    ServiceSpecBuilder builder = new ServiceSpecBuilder();
+    Assert.assertNotNull(builder.getExternalIPs());
+    Assert.assertTrue(builder.getExternalIPs().isEmpty());
+    Assert.assertNotNull(builder.getSelector());
+    Assert.assertTrue(builder.getSelector().isEmpty());
+    Assert.assertFalse(builder.hasPorts());
+  }
+
+  @Test
+  public void testSparsePropertiesHaveNoFields() {
+    Set<String> fields = new HashSet<>();
+    for (Field field : ServiceSpecFluentImpl.class.getDeclaredFields()) {
+      fields.add(field.getName());
+    }
+    Assert.assertFalse(fields.contains("type"));
+    Assert.assertFalse(fields.contains("clusterIP"));
+    Assert.assertFalse(fields.contains("healthCheckNodePort"));
+    Assert.assertTrue(fields.contains("replicas"));
+    Assert.assertTrue(fields.contains("ports"));
+    Assert.assertTrue(fields.contains("_values"));
+  }
+}
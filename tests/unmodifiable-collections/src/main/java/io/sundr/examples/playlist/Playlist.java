@@ -0,0 +1,61 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.playlist;
+
+import java.util.List;
+import java.util.Set;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(unmodifiableCollectionsEnabled = true)
+public class Playlist {
+
+  private final String name;
+  private final List<Song> songs;
+  private final Set<Song> favorites;
+  private final List<String> notes;
+  private final Set<String> tags;
+
+  public Playlist(String name, List<Song> songs, Set<Song> favorites, List<String> notes, Set<String> tags) {
+    this.name = name;
+    this.songs = songs;
+    this.favorites = favorites;
+    this.notes = notes;
+    this.tags = tags;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<Song> getSongs() {
+    return songs;
+  }
+
+  public Set<Song> getFavorites() {
+    return favorites;
+  }
+
+  public List<String> getNotes() {
+    return notes;
+  }
+
+  public Set<String> getTags() {
+    return tags;
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.examples.playlist;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class UnmodifiableCollectionsTest {
+
+  private static PlaylistBuilder playlist() {
+    return new PlaylistBuilder()
+        .withName("mix")
+        .addNewSong().withTitle("one").endSong()
+        .addNewSong().withTitle("two").endSong()
+        .addNewSong().withTitle("three").endSong()
+        .addNewFavorite().withTitle("two").endFavorite()
+        .addToNotes("first")
+        .addToTags("rock", "pop");
+  }
+
+  private static List<String> titles(Iterable<Song> songs) {
+    List<String> titles = new ArrayList<>();
+    songs.forEach(s -> titles.add(s.getTitle()));
+    return titles;
+  }
+
+  @Test
+  public void shouldKeepTheOrderOfTheItems() {
+    Playlist playlist = playlist().build();
+    assertEquals(Arrays.asList("one", "two", "three"), titles(playlist.getSongs()));
+    assertEquals(Arrays.asList("rock", "pop"), playlist.getTags().stream().collect(Collectors.toList()));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldBuildUnmodifiableListsOfBuildables() {
+    playlist().build().getSongs().add(new Song("four"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldBuildUnmodifiableSetsOfBuildables() {
+    playlist().build().getFavorites().clear();
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldBuildUnmodifiableLists() {
+    playlist().build().getNotes().add("second");
+  }
+
+  @Test
+  public void shouldNotShareCollectionsWithTheBuilder() {
+    PlaylistBuilder builder = playlist();
+    Playlist playlist = builder.build();
+    builder.addToNotes("second").addToTags("jazz").addNewSong().withTitle("four").endSong();
+
+    assertEquals(Arrays.asList("first"), playlist.getNotes());
+    assertEquals(2, playlist.getTags().size());
+    assertEquals(3, playlist.getSongs().size());
+    assertEquals(Arrays.asList("first", "second"), builder.build().getNotes());
+  }
+}